@@ -26,11 +26,10 @@ import io.github.raffaeleflorio.surily.query.UndefinedQuery;
 import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * RFC3986 compliant absolute {@link UriReference}
@@ -131,7 +130,7 @@ public final class AbsoluteUri implements UriReference {
     final AuthorityComponent authority,
     final PathComponent path,
     final QueryComponent query,
-    final BiFunction<String, List<UriComponent>, UriComponent> formattedFn,
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn,
     final BiFunction<List<UriComponent>, String, UriComponent> joinedFn
   ) {
     this.scheme = scheme;
@@ -144,39 +143,40 @@ public final class AbsoluteUri implements UriReference {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return joinedComponents().encoded(charset);
+    return plan().encoded(charset);
   }
 
-  private UriComponent joinedComponents() {
-    return joinedFn.apply(formattedComponents(), "");
+  private UriComponent plan() {
+    var result = plan;
+    if (result == null) {
+      var components = new ArrayList<UriComponent>(4);
+      components.add(formattedFn.apply(SCHEME_TEMPLATE, List.of(scheme)));
+      components.add(authority.<UriComponent>ifDefinedElse(path::hierPart, path::hierPart));
+      query.ifDefinedElse(x -> components.add(formattedFn.apply(QUERY_TEMPLATE, List.of(x))), () -> false);
+      result = joinedFn.apply(List.copyOf(components), "");
+      plan = result;
+    }
+    return result;
   }
 
-  private List<UriComponent> formattedComponents() {
-    return Stream.of(formattedScheme(), hierPart(), formattedQuery())
-      .flatMap(Function.identity())
-      .collect(Collectors.toUnmodifiableList());
-  }
-
-  private Stream<UriComponent> formattedScheme() {
-    return Stream.of(formattedFn.apply("%s:", List.of(scheme)));
+  @Override
+  public int encodedLength(final Charset charset) {
+    return plan().encodedLength(charset);
   }
 
-  private Stream<UriComponent> hierPart() {
-    return Stream.of(
-      authority.<UriComponent>ifDefinedElse(path::hierPart, path::hierPart)
-    );
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    plan().appendTo(destination, charset);
   }
 
-  private Stream<UriComponent> formattedQuery() {
-    return query.ifDefinedElse(
-      x -> Stream.of(formattedFn.apply("?%s", List.of(x))),
-      Stream::empty
-    );
+  @Override
+  public String asString() {
+    return plan().asString();
   }
 
   @Override
-  public String asString() {
-    return joinedComponents().asString();
+  public void appendTo(final Appendable destination) {
+    plan().appendTo(destination);
   }
 
   @Override
@@ -204,10 +204,37 @@ public final class AbsoluteUri implements UriReference {
     return new UndefinedFragment();
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof AbsoluteUri && equal((AbsoluteUri) o);
+  }
+
+  private boolean equal(final AbsoluteUri other) {
+    return scheme.equals(other.scheme)
+      && authority.equals(other.authority)
+      && path.equals(other.path)
+      && query.equals(other.query);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(scheme, authority, path, query);
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final FormatTemplate SCHEME_TEMPLATE = new FormatTemplate("%s:");
+  private static final FormatTemplate QUERY_TEMPLATE = new FormatTemplate("?%s");
+
   private final SchemeComponent scheme;
   private final AuthorityComponent authority;
   private final PathComponent path;
   private final QueryComponent query;
-  private final BiFunction<String, List<UriComponent>, UriComponent> formattedFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
   private final BiFunction<List<UriComponent>, String, UriComponent> joinedFn;
+  private volatile UriComponent plan;
+  private volatile int hash;
 }
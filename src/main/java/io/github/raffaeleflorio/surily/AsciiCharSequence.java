@@ -0,0 +1,88 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharSequence} view over a range of bytes where each byte is a character (e.g. US-ASCII text)
+ *
+ * <p>Bytes are read with absolute gets, so the position and the limit of the buffer are never changed. Bytes are
+ * decoded to a {@link String} only by {@link #toString()}. The bytes are expected to be immutable.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class AsciiCharSequence implements CharSequence {
+  /**
+   * Builds a char sequence over the remaining bytes of a buffer
+   *
+   * @param bytes The bytes
+   * @since 1.0.0
+   */
+  public AsciiCharSequence(final ByteBuffer bytes) {
+    this(bytes, bytes.position(), bytes.limit());
+  }
+
+  /**
+   * Builds a char sequence over a range of bytes of a buffer
+   *
+   * @param bytes The bytes
+   * @param start The index of the first byte
+   * @param end   The index after the last byte
+   * @since 1.0.0
+   */
+  public AsciiCharSequence(final ByteBuffer bytes, final int start, final int end) {
+    this.bytes = bytes;
+    this.start = start;
+    this.end = end;
+  }
+
+  @Override
+  public int length() {
+    return end - start;
+  }
+
+  @Override
+  public char charAt(final int i) {
+    if (i < 0 || i >= length()) {
+      throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", i, length()));
+    }
+    return (char) (bytes.get(start + i) & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(final int i, final int i1) {
+    if (i < 0 || i > i1 || i1 > length()) {
+      throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", i, i1, length()));
+    }
+    return new AsciiCharSequence(bytes, start + i, start + i1);
+  }
+
+  @Override
+  public String toString() {
+    var octets = new byte[length()];
+    for (var i = 0; i < octets.length; i++) {
+      octets[i] = bytes.get(start + i);
+    }
+    return new String(octets, StandardCharsets.ISO_8859_1);
+  }
+
+  private final ByteBuffer bytes;
+  private final int start;
+  private final int end;
+}
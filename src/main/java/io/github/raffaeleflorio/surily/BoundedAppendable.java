@@ -0,0 +1,90 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * {@link Appendable} that refuses to write more than a maximum number of characters
+ *
+ * <p>An append that would exceed the limit fails with a stackless {@link IOException} before writing anything, so the
+ * destination never holds more than the limit. It's stateful and not thread-safe.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class BoundedAppendable implements Appendable {
+  /**
+   * Builds a bounded appendable
+   *
+   * @param destination The destination
+   * @param limit       The maximum number of characters
+   * @since 1.0.0
+   */
+  public BoundedAppendable(final Appendable destination, final Integer limit) {
+    this.destination = destination;
+    this.limit = limit;
+    this.length = 0;
+    this.exceeded = false;
+  }
+
+  @Override
+  public Appendable append(final CharSequence csq) throws IOException {
+    var chars = csq == null ? "null" : csq;
+    return append(chars, 0, chars.length());
+  }
+
+  @Override
+  public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+    bounded(end - start);
+    destination.append(csq == null ? "null" : csq, start, end);
+    return this;
+  }
+
+  @Override
+  public Appendable append(final char c) throws IOException {
+    bounded(1);
+    destination.append(c);
+    return this;
+  }
+
+  private void bounded(final int chars) throws IOException {
+    if (exceeded || chars > limit - length) {
+      exceeded = true;
+      throw new ExceededLengthException(limit);
+    }
+    length += chars;
+  }
+
+  /**
+   * Applies a function according to whether the limit was exceeded
+   *
+   * @param exceededFn The function applied when an append exceeded the limit
+   * @param otherFn    The function applied otherwise
+   * @param <T>        The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifExceededElse(final Supplier<T> exceededFn, final Supplier<T> otherFn) {
+    return exceeded ? exceededFn.get() : otherFn.get();
+  }
+
+  private final Appendable destination;
+  private final Integer limit;
+  private int length;
+  private boolean exceeded;
+}
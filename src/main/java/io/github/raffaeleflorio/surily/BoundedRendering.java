@@ -0,0 +1,107 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Encoded rendering that stops as soon as a maximum length is exceeded
+ *
+ * <p>The rendering is streamed through a {@link BoundedAppendable} and aborted on the first append beyond the limit, so
+ * an oversized reference or component is rejected in O(limit) regardless of its size. The encoded length isn't computed
+ * up front: callers that want to presize can use {@link UriReference#encodedLength(Charset)} themselves.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class BoundedRendering {
+  /**
+   * Builds a bounded rendering
+   *
+   * @param limit The maximum length
+   * @throws IllegalArgumentException If the limit is null or negative
+   * @since 1.0.0
+   */
+  public BoundedRendering(final Integer limit) {
+    if (limit == null || limit < 0) {
+      throw new IllegalArgumentException(String.format("Expected a non-negative limit instead of %s", limit));
+    }
+    this.limit = limit;
+  }
+
+  /**
+   * Renders the encoded representation of a reference if it doesn't exceed the limit
+   *
+   * @param reference  The reference
+   * @param charset    The charset to use to get bytes of non-ASCII characters
+   * @param fn         The function applied to the encoded representation
+   * @param exceededFn The function applied when the limit is exceeded
+   * @param <T>        The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifWithinElse(
+    final UriReference reference,
+    final Charset charset,
+    final Function<String, T> fn,
+    final Supplier<T> exceededFn
+  ) {
+    return rendered(x -> reference.appendTo(x, charset), fn, exceededFn);
+  }
+
+  /**
+   * Renders the encoded representation of a component if it doesn't exceed the limit
+   *
+   * @param component  The component
+   * @param charset    The charset to use to get bytes of non-ASCII characters
+   * @param fn         The function applied to the encoded representation
+   * @param exceededFn The function applied when the limit is exceeded
+   * @param <T>        The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifWithinElse(
+    final UriComponent component,
+    final Charset charset,
+    final Function<String, T> fn,
+    final Supplier<T> exceededFn
+  ) {
+    return rendered(x -> component.appendTo(x, charset), fn, exceededFn);
+  }
+
+  private <T> T rendered(
+    final Consumer<Appendable> renderFn,
+    final Function<String, T> fn,
+    final Supplier<T> exceededFn
+  ) {
+    var result = new StringBuilder();
+    var destination = new BoundedAppendable(result, limit);
+    try {
+      renderFn.accept(destination);
+    } catch (UncheckedIOException e) {
+      return destination.ifExceededElse(exceededFn, () -> {
+        throw e;
+      });
+    }
+    return fn.apply(result.toString());
+  }
+
+  private final Integer limit;
+}
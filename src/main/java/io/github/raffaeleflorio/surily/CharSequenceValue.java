@@ -0,0 +1,81 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * {@link CharSequence} compared by its characters
+ *
+ * <p>Two values are equal if their characters are equal, regardless of the decorated implementations. The hash code
+ * is the same of the {@link String} with the same characters, and it's computed once, on first use. So the origin is
+ * expected to be immutable.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class CharSequenceValue implements CharSequence {
+  /**
+   * Builds a value
+   *
+   * @param origin The char sequence to decorate
+   * @since 1.0.0
+   */
+  public CharSequenceValue(final CharSequence origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public int length() {
+    return origin.length();
+  }
+
+  @Override
+  public char charAt(final int i) {
+    return origin.charAt(i);
+  }
+
+  @Override
+  public CharSequence subSequence(final int i, final int i1) {
+    return origin.subSequence(i, i1);
+  }
+
+  @Override
+  public String toString() {
+    return origin.toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o
+      || o instanceof CharSequenceValue
+      && hashCode() == o.hashCode()
+      && CharSequence.compare(origin, ((CharSequenceValue) o).origin) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      for (var i = 0; i < origin.length(); i++) {
+        result = 31 * result + origin.charAt(i);
+      }
+      hash = result;
+    }
+    return result;
+  }
+
+  private final CharSequence origin;
+  private volatile int hash;
+}
@@ -0,0 +1,63 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Lock-free cache of renderings keyed by charset
+ *
+ * <p>The cache is an immutable map replaced on every miss. Concurrent misses may render the same charset twice and
+ * one of the two renderings may be lost, but every read sees a complete map.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class CharsetRenderings {
+  /**
+   * Builds an empty cache
+   *
+   * @since 1.0.0
+   */
+  CharsetRenderings() {
+    this.renderings = Map.of();
+  }
+
+  /**
+   * Gets the rendering of a charset, computing it on miss
+   *
+   * @param charset  The charset
+   * @param renderFn The function used to render with a charset
+   * @return The rendering
+   * @since 1.0.0
+   */
+  String rendering(final Charset charset, final Function<Charset, CharSequence> renderFn) {
+    var cached = renderings;
+    var result = cached.get(charset);
+    if (result == null) {
+      result = renderFn.apply(charset).toString();
+      var updated = new HashMap<>(cached);
+      updated.put(charset, result);
+      renderings = Map.copyOf(updated);
+    }
+    return result;
+  }
+
+  private volatile Map<Charset, String> renderings;
+}
@@ -0,0 +1,52 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+
+/**
+ * Stackless {@link IOException} signalling that a {@link BoundedAppendable} exceeded its limit
+ *
+ * <p>It doesn't capture the stack trace and it formats the message only when requested.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class ExceededLengthException extends IOException {
+  /**
+   * Builds the exception
+   *
+   * @param limit The exceeded limit
+   * @since 1.0.0
+   */
+  ExceededLengthException(final int limit) {
+    this.limit = limit;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+
+  @Override
+  public String getMessage() {
+    return String.format("Length limit of %d exceeded", limit);
+  }
+
+  private static final long serialVersionUID = 1L;
+
+  private final int limit;
+}
@@ -0,0 +1,165 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compiled format string with %s placeholders
+ *
+ * <p>The format string is split once, on first use, into the literals around its placeholders. Then it's rendered by
+ * plain appends. Only the %s placeholder and the %% escape are supported. The template is immutable and thread-safe.
+ * </p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class FormatTemplate {
+  /**
+   * Builds a template
+   *
+   * @param formatString The format string
+   * @since 1.0.0
+   */
+  public FormatTemplate(final String formatString) {
+    this.formatString = formatString;
+  }
+
+  /**
+   * Renders the template
+   *
+   * @param values The values of the placeholders
+   * @return The rendered template
+   * @throws IllegalArgumentException If the format string is malformed or there aren't enough values
+   * @since 1.0.0
+   */
+  public String formatted(final List<? extends CharSequence> values) {
+    var literals = checkedLiterals(values.size());
+    var result = new StringBuilder(length(values, CharSequence::length)).append(literals[0]);
+    for (var i = 1; i < literals.length; i++) {
+      result.append(values.get(i - 1)).append(literals[i]);
+    }
+    return result.toString();
+  }
+
+  /**
+   * Computes the length of the rendered template without rendering it
+   *
+   * @param values   The values of the placeholders
+   * @param lengthFn The function used to compute the length of a value
+   * @param <T>      The values type
+   * @return The length of the rendered template
+   * @throws IllegalArgumentException If the format string is malformed or there aren't enough values
+   * @since 1.0.0
+   */
+  public <T> int length(final List<T> values, final ToIntFunction<T> lengthFn) {
+    var literals = checkedLiterals(values.size());
+    var length = literals[0].length();
+    for (var i = 1; i < literals.length; i++) {
+      length += lengthFn.applyAsInt(values.get(i - 1)) + literals[i].length();
+    }
+    return length;
+  }
+
+  /**
+   * Renders the template into a destination
+   *
+   * @param destination The destination
+   * @param values      The values of the placeholders
+   * @param appendFn    The function used to append a value to the destination
+   * @param <T>         The values type
+   * @throws IllegalArgumentException     If the format string is malformed or there aren't enough values
+   * @throws java.io.UncheckedIOException If the destination fails
+   * @since 1.0.0
+   */
+  public <T> void appendTo(
+    final Appendable destination,
+    final List<T> values,
+    final BiConsumer<T, Appendable> appendFn
+  ) {
+    var literals = checkedLiterals(values.size());
+    try {
+      destination.append(literals[0]);
+      for (var i = 1; i < literals.length; i++) {
+        appendFn.accept(values.get(i - 1), destination);
+        destination.append(literals[i]);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String[] checkedLiterals(final int values) {
+    var literals = literals();
+    if (values < literals.length - 1) {
+      throw new IllegalArgumentException(
+        String.format("Expected %d values instead of %d", literals.length - 1, values)
+      );
+    }
+    return literals;
+  }
+
+  private String[] literals() {
+    var result = literals;
+    if (result == null) {
+      var compiled = new ArrayList<String>();
+      var literal = new StringBuilder();
+      for (var i = 0; i < formatString.length(); i++) {
+        var c = formatString.charAt(i);
+        if (c != '%') {
+          literal.append(c);
+        } else if (formatString.startsWith("%%", i)) {
+          literal.append('%');
+          i++;
+        } else if (formatString.startsWith("%s", i)) {
+          compiled.add(literal.toString());
+          literal.setLength(0);
+          i++;
+        } else {
+          throw new IllegalArgumentException(
+            String.format(
+              "Unsupported format specifier at %d: <%s>",
+              i,
+              formatString.length() > 4096 ? formatString.substring(0, 4096).concat("...") : formatString
+            )
+          );
+        }
+      }
+      compiled.add(literal.toString());
+      result = compiled.toArray(String[]::new);
+      literals = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof FormatTemplate && formatString.equals(((FormatTemplate) o).formatString);
+  }
+
+  @Override
+  public int hashCode() {
+    return formatString.hashCode();
+  }
+
+  private final String formatString;
+  private volatile String[] literals;
+}
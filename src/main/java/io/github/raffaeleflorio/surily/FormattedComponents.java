@@ -17,12 +17,13 @@ package io.github.raffaeleflorio.surily;
 
 import java.nio.charset.Charset;
 import java.util.List;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.Objects;
 
 /**
  * Multiple {@link UriComponent} formatted according a format string
  *
+ * <p>The format string is a {@link FormatTemplate}, so it supports only the %s placeholder and the %% escape.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @since 1.0.0
  */
@@ -35,42 +36,71 @@ public final class FormattedComponents implements UriComponent {
    * @since 1.0.0
    */
   public FormattedComponents(final String formatString, final List<UriComponent> components) {
-    this(formatString, components, String::format);
+    this(new FormatTemplate(formatString), components);
   }
 
   /**
    * Builds a formatted component
    *
-   * @param formatString The format string
-   * @param components   The components to format
-   * @param formatFn     The function used to format strings
+   * @param template   The compiled format string
+   * @param components The components to format
    * @since 1.0.0
    */
-  FormattedComponents(
-    final String formatString,
-    final List<UriComponent> components,
-    final BiFunction<String, Object[], String> formatFn
-  ) {
-    this.formatString = formatString;
+  public FormattedComponents(final FormatTemplate template, final List<UriComponent> components) {
+    this.template = template;
     this.components = components;
-    this.formatFn = formatFn;
   }
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return formatFn.apply(formatString, components(c -> c.encoded(charset)));
+    var result = new StringBuilder();
+    appendTo(result, charset);
+    return result.toString();
   }
 
-  private Object[] components(final Function<UriComponent, Object> fn) {
-    return components.stream().map(fn).toArray();
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    template.appendTo(destination, components, (component, x) -> component.appendTo(x, charset));
+  }
+
+  @Override
+  public int encodedLength(final Charset charset) {
+    return template.length(components, component -> component.encodedLength(charset));
   }
 
   @Override
   public String asString() {
-    return formatFn.apply(formatString, components(UriComponent::asString));
+    var result = new StringBuilder();
+    appendTo(result);
+    return result.toString();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination) {
+    template.appendTo(destination, components, (component, x) -> component.appendTo(x));
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof FormattedComponents && equal((FormattedComponents) o);
+  }
+
+  private boolean equal(final FormattedComponents other) {
+    return template.equals(other.template)
+      && components.equals(other.components);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(template, components);
+      hash = result;
+    }
+    return result;
   }
 
-  private final String formatString;
+  private final FormatTemplate template;
   private final List<UriComponent> components;
-  private final BiFunction<String, Object[], String> formatFn;
+  private volatile int hash;
 }
@@ -0,0 +1,94 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
+/**
+ * Stackless {@link IllegalStateException} thrown while rendering an illegal component.
+ *
+ * <p>It doesn't capture the stack trace and it builds the message only when requested, so it's cheap enough to be
+ * thrown on hostile input. The message is built before serialization, so a deserialized exception still describes
+ * the error.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class IllegalComponentException extends IllegalStateException {
+  /**
+   * Builds an exception with a constant message
+   *
+   * @param error   The error
+   * @param offset  The offset where the error has been detected
+   * @param message The message
+   * @since 1.0.0
+   */
+  public IllegalComponentException(final ValidationError error, final Integer offset, final String message) {
+    this(error, offset, () -> message);
+  }
+
+  /**
+   * Builds an exception
+   *
+   * @param error     The error
+   * @param offset    The offset where the error has been detected
+   * @param messageFn The function to build the message
+   * @since 1.0.0
+   */
+  public IllegalComponentException(
+    final ValidationError error,
+    final Integer offset,
+    final Supplier<String> messageFn
+  ) {
+    this.error = error;
+    this.offset = offset;
+    this.messageFn = messageFn;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+
+  @Override
+  public String getMessage() {
+    return messageFn == null ? message : messageFn.get();
+  }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    message = getMessage();
+    out.defaultWriteObject();
+  }
+
+  /**
+   * Builds the validation outcome described by the exception
+   *
+   * @return The invalid outcome
+   * @since 1.0.0
+   */
+  public Validation validation() {
+    return new Invalid(error, offset);
+  }
+
+  private static final long serialVersionUID = 1L;
+
+  private final ValidationError error;
+  private final Integer offset;
+  private final transient Supplier<String> messageFn;
+  private String message;
+}
@@ -0,0 +1,47 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Invalid {@link Validation}
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class Invalid implements Validation {
+  /**
+   * Builds an invalid outcome
+   *
+   * @param error  The error
+   * @param offset The offset where the error has been detected
+   * @since 1.0.0
+   */
+  public Invalid(final ValidationError error, final Integer offset) {
+    this.error = error;
+    this.offset = offset;
+  }
+
+  @Override
+  public <T> T ifValidElse(final Supplier<T> validFn, final BiFunction<ValidationError, Integer, T> invalidFn) {
+    return invalidFn.apply(error, offset);
+  }
+
+  private final ValidationError error;
+  private final Integer offset;
+}
@@ -15,10 +15,11 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * Joined {@link UriComponent} with a separator
@@ -51,18 +52,73 @@ public final class JoinedComponents implements UriComponent {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return concatenated(c -> c.encoded(charset));
+    var result = new StringBuilder();
+    appendTo(result, charset);
+    return result.toString();
   }
 
-  private String concatenated(final Function<UriComponent, CharSequence> fn) {
-    return components.stream().map(fn).collect(Collectors.joining(separator));
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    for (var i = 0; i < components.size(); i++) {
+      separated(destination, i).appendTo(destination, charset);
+    }
+  }
+
+  @Override
+  public int encodedLength(final Charset charset) {
+    var length = Math.max(0, components.size() - 1) * separator.length();
+    for (var component : components) {
+      length += component.encodedLength(charset);
+    }
+    return length;
+  }
+
+  private UriComponent separated(final Appendable destination, final int index) {
+    if (index > 0) {
+      try {
+        destination.append(separator);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return components.get(index);
   }
 
   @Override
   public String asString() {
-    return concatenated(UriComponent::asString);
+    var result = new StringBuilder();
+    appendTo(result);
+    return result.toString();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination) {
+    for (var i = 0; i < components.size(); i++) {
+      separated(destination, i).appendTo(destination);
+    }
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof JoinedComponents && equal((JoinedComponents) o);
+  }
+
+  private boolean equal(final JoinedComponents other) {
+    return components.equals(other.components)
+      && separator.equals(other.separator);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(components, separator);
+      hash = result;
+    }
+    return result;
   }
 
   private final List<UriComponent> components;
   private final String separator;
+  private volatile int hash;
 }
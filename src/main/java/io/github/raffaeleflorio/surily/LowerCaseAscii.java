@@ -0,0 +1,60 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * {@link CharSequence} view where ASCII uppercase letters are lowercase
+ *
+ * <p>Non-ASCII characters are left as they are, so the view doesn't depend on the default locale. It's meant to compare
+ * case-insensitive components (e.g. scheme and host) through {@link CharSequenceValue}.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class LowerCaseAscii implements CharSequence {
+  /**
+   * Builds a lowercase view
+   *
+   * @param origin The char sequence to decorate
+   * @since 1.0.0
+   */
+  public LowerCaseAscii(final CharSequence origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public int length() {
+    return origin.length();
+  }
+
+  @Override
+  public char charAt(final int i) {
+    var c = origin.charAt(i);
+    return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+  }
+
+  @Override
+  public CharSequence subSequence(final int i, final int i1) {
+    return new LowerCaseAscii(origin.subSequence(i, i1));
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder(this).toString();
+  }
+
+  private final CharSequence origin;
+}
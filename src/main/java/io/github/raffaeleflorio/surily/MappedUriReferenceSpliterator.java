@@ -0,0 +1,185 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * {@link Spliterator} of the {@link UriReference} of a newline-delimited file, parsed from memory-mapped windows
+ *
+ * <p>The file is mapped one window at a time and each line is parsed directly from the mapped bytes. A trailing
+ * carriage return is ignored, as are empty lines. A malformed line, or a line longer than a window (truncated to
+ * the window), is reported with its byte offset and skipped.</p>
+ *
+ * <p>It splits its byte range in halves without reading the file. A line belongs to the range where it starts, so
+ * a range first skips the tail of the line started by the previous one. Its estimated size is the number of the
+ * remaining bytes of its range.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class MappedUriReferenceSpliterator implements Spliterator<UriReference> {
+  /**
+   * Builds a spliterator of the whole file
+   *
+   * @param file         The file
+   * @param size         The size of the file
+   * @param windowSize   The maximum size of a mapped window
+   * @param minSplitSize The minimum size of a range to split
+   * @param malformedFn  The function called with malformed lines and their byte offsets
+   * @since 1.0.0
+   */
+  MappedUriReferenceSpliterator(
+    final Path file,
+    final long size,
+    final int windowSize,
+    final long minSplitSize,
+    final ObjLongConsumer<CharSequence> malformedFn
+  ) {
+    this(file, size, 0, size, true, windowSize, minSplitSize, malformedFn);
+  }
+
+  private MappedUriReferenceSpliterator(
+    final Path file,
+    final long size,
+    final long start,
+    final long end,
+    final boolean aligned,
+    final int windowSize,
+    final long minSplitSize,
+    final ObjLongConsumer<CharSequence> malformedFn
+  ) {
+    this.file = file;
+    this.size = size;
+    this.end = end;
+    this.windowSize = windowSize;
+    this.minSplitSize = minSplitSize;
+    this.malformedFn = malformedFn;
+    this.position = start;
+    this.aligned = aligned;
+    this.window = ByteBuffer.allocate(0);
+    this.windowStart = 0;
+  }
+
+  @Override
+  public boolean tryAdvance(final Consumer<? super UriReference> action) {
+    if (!aligned) {
+      position = newline(position - 1) + 1;
+      aligned = true;
+    }
+    while (position < end) {
+      var start = position;
+      var end = newline(start);
+      position = end + 1;
+      if (end - start > windowSize) {
+        malformedFn.accept(line(start, start + windowSize), start);
+      } else if (parsed(withoutCarriageReturn(line(start, end)), start, action)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean parsed(final CharSequence line, final long offset, final Consumer<? super UriReference> action) {
+    if (line.length() == 0) {
+      return false;
+    }
+    var boundaries = new UriReferenceBoundaries(line);
+    if (boundaries.valid()) {
+      action.accept(new ParsedUriReference(line, boundaries));
+      return true;
+    }
+    malformedFn.accept(line, offset);
+    return false;
+  }
+
+  private long newline(final long start) {
+    var i = start;
+    while (i < size) {
+      mapped(i, i + 1);
+      var limit = windowStart + window.limit();
+      for (; i < limit; i++) {
+        if (window.get((int) (i - windowStart)) == '\n') {
+          return i;
+        }
+      }
+    }
+    return size;
+  }
+
+  private CharSequence withoutCarriageReturn(final CharSequence line) {
+    return line.length() > 0 && line.charAt(line.length() - 1) == '\r' ? line.subSequence(0, line.length() - 1) : line;
+  }
+
+  private CharSequence line(final long start, final long end) {
+    mapped(start, end);
+    return new AsciiCharSequence(window, (int) (start - windowStart), (int) (end - windowStart));
+  }
+
+  private void mapped(final long start, final long end) {
+    if (start < windowStart || end > windowStart + window.limit()) {
+      try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+        windowStart = start;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  @Override
+  public Spliterator<UriReference> trySplit() {
+    if (end - position < Math.max(2, minSplitSize)) {
+      return null;
+    }
+    var middle = position + (end - position) / 2;
+    var prefix = new MappedUriReferenceSpliterator(
+      file, size, position, middle, aligned, windowSize, minSplitSize, malformedFn
+    );
+    position = middle;
+    aligned = false;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Math.max(0, end - position);
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | NONNULL;
+  }
+
+  private final Path file;
+  private final long size;
+  private final long end;
+  private final int windowSize;
+  private final long minSplitSize;
+  private final ObjLongConsumer<CharSequence> malformedFn;
+  private long position;
+  private boolean aligned;
+  private ByteBuffer window;
+  private long windowStart;
+}
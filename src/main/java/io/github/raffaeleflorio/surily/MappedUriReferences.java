@@ -0,0 +1,122 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link UriReference}s of a newline-delimited file (e.g. a crawl dump or an access log), one for each line
+ *
+ * <p>The file is memory-mapped in windows, so it can be larger than 2GB, and each line is parsed as a
+ * {@link ParsedUriReference} directly from the mapped US-ASCII bytes. A trailing carriage return is ignored, as are
+ * empty lines. A malformed line, or a line longer than a window (truncated to the window), is reported with its byte
+ * offset and skipped.</p>
+ *
+ * <p>Its streams split the file on line boundaries, in ranges of at least 1MB, so they scale with
+ * {@link Stream#parallel()}. In such case the function called with malformed lines has to be thread-safe.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MappedUriReferences {
+  /**
+   * Builds the URI references of a file with 1GB windows
+   *
+   * @param file The file
+   * @since 1.0.0
+   */
+  public MappedUriReferences(final Path file) {
+    this(file, 1 << 30);
+  }
+
+  /**
+   * Builds the URI references of a file
+   *
+   * @param file       The file
+   * @param windowSize The maximum size of a mapped window in bytes
+   * @throws IllegalArgumentException If the window size isn't positive
+   * @since 1.0.0
+   */
+  public MappedUriReferences(final Path file, final int windowSize) {
+    this(file, windowSize, 1 << 20);
+  }
+
+  /**
+   * Builds the URI references of a file
+   *
+   * @param file         The file
+   * @param windowSize   The maximum size of a mapped window in bytes
+   * @param minSplitSize The minimum size in bytes of a range split by parallel streams
+   * @throws IllegalArgumentException If the window size or the minimum split size isn't positive
+   * @since 1.0.0
+   */
+  MappedUriReferences(final Path file, final int windowSize, final long minSplitSize) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException(String.format("Expected a positive window size instead of %d", windowSize));
+    }
+    if (minSplitSize < 1) {
+      throw new IllegalArgumentException(
+        String.format("Expected a positive minimum split size instead of %d", minSplitSize)
+      );
+    }
+    this.file = file;
+    this.windowSize = windowSize;
+    this.minSplitSize = minSplitSize;
+  }
+
+  /**
+   * Builds a stream of the valid URI references ignoring malformed lines
+   *
+   * @return The stream
+   * @since 1.0.0
+   */
+  public Stream<UriReference> stream() {
+    return stream((line, offset) -> {
+    });
+  }
+
+  /**
+   * Builds a stream of the valid URI references
+   *
+   * @param malformedFn The function called with each malformed line and its byte offset
+   * @return The stream
+   * @since 1.0.0
+   */
+  public Stream<UriReference> stream(final ObjLongConsumer<CharSequence> malformedFn) {
+    return StreamSupport.stream(
+      new MappedUriReferenceSpliterator(file, size(), windowSize, minSplitSize, malformedFn),
+      false
+    );
+  }
+
+  private long size() {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private final Path file;
+  private final int windowSize;
+  private final long minSplitSize;
+}
@@ -0,0 +1,87 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.nio.charset.Charset;
+
+/**
+ * {@link UriComponent} decorator that renders its origin once per charset
+ *
+ * <p>The encoded representations, the unencoded one and the validation are computed on first use and then reused.
+ * It's thread-safe without locks, so the origin is expected to be immutable. Failed renderings aren't cached.</p>
+ *
+ * <p>It hides the specific type of the origin, so it's meant for standalone components. The typed decorators (e.g.
+ * {@link io.github.raffaeleflorio.surily.query.MemoizedQuery}) memoize the components of a {@link UriReference}.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MemoizedUriComponent implements UriComponent {
+  /**
+   * Builds a memoized component
+   *
+   * @param origin The component to decorate
+   * @since 1.0.0
+   */
+  public MemoizedUriComponent(final UriComponent origin) {
+    this(origin, new CharsetRenderings());
+  }
+
+  private MemoizedUriComponent(final UriComponent origin, final CharsetRenderings encoded) {
+    this.origin = origin;
+    this.encoded = encoded;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return encoded.rendering(charset, origin::encoded);
+  }
+
+  @Override
+  public String asString() {
+    var result = asString;
+    if (result == null) {
+      result = origin.asString();
+      asString = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Validation validation() {
+    var result = validation;
+    if (result == null) {
+      result = origin.validation();
+      validation = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MemoizedUriComponent && origin.equals(((MemoizedUriComponent) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final UriComponent origin;
+  private final CharsetRenderings encoded;
+  private volatile String asString;
+  private volatile Validation validation;
+}
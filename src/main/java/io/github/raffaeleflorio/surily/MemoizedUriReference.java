@@ -0,0 +1,152 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.MemoizedAuthority;
+import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.fragment.MemoizedFragment;
+import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.query.MemoizedQuery;
+import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.scheme.MemoizedScheme;
+import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
+
+import java.nio.charset.Charset;
+
+/**
+ * {@link UriReference} decorator that renders its origin once per charset
+ *
+ * <p>The encoded representations, the unencoded one, the validation and the components are computed on first use and
+ * then reused. The scheme, the authority, the query and the fragment are wrapped in their typed memoizing decorators
+ * (e.g. {@link MemoizedQuery}), so they're rendered and checked for definedness once too. The path is returned as it
+ * is, because it renders itself inside the reference. It's thread-safe without locks, so the origin is expected to be
+ * immutable. Failed renderings aren't cached.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MemoizedUriReference implements UriReference {
+  /**
+   * Builds a memoized reference
+   *
+   * @param origin The reference to decorate
+   * @since 1.0.0
+   */
+  public MemoizedUriReference(final UriReference origin) {
+    this(origin, new CharsetRenderings());
+  }
+
+  private MemoizedUriReference(final UriReference origin, final CharsetRenderings encoded) {
+    this.origin = origin;
+    this.encoded = encoded;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return encoded.rendering(charset, origin::encoded);
+  }
+
+  @Override
+  public String asString() {
+    var result = asString;
+    if (result == null) {
+      result = origin.asString();
+      asString = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Validation validation() {
+    var result = validation;
+    if (result == null) {
+      result = origin.validation();
+      validation = result;
+    }
+    return result;
+  }
+
+  @Override
+  public SchemeComponent scheme() {
+    var result = scheme;
+    if (result == null) {
+      result = new MemoizedScheme(origin.scheme());
+      scheme = result;
+    }
+    return result;
+  }
+
+  @Override
+  public AuthorityComponent authority() {
+    var result = authority;
+    if (result == null) {
+      result = new MemoizedAuthority(origin.authority());
+      authority = result;
+    }
+    return result;
+  }
+
+  @Override
+  public PathComponent path() {
+    var result = path;
+    if (result == null) {
+      result = origin.path();
+      path = result;
+    }
+    return result;
+  }
+
+  @Override
+  public QueryComponent query() {
+    var result = query;
+    if (result == null) {
+      result = new MemoizedQuery(origin.query());
+      query = result;
+    }
+    return result;
+  }
+
+  @Override
+  public FragmentComponent fragment() {
+    var result = fragment;
+    if (result == null) {
+      result = new MemoizedFragment(origin.fragment());
+      fragment = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MemoizedUriReference && origin.equals(((MemoizedUriReference) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final UriReference origin;
+  private final CharsetRenderings encoded;
+  private volatile String asString;
+  private volatile Validation validation;
+  private volatile SchemeComponent scheme;
+  private volatile AuthorityComponent authority;
+  private volatile PathComponent path;
+  private volatile QueryComponent query;
+  private volatile FragmentComponent fragment;
+}
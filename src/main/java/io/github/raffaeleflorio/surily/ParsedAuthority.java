@@ -0,0 +1,152 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.EncodedRegName;
+import io.github.raffaeleflorio.surily.authority.EncodedUserinfo;
+import io.github.raffaeleflorio.surily.authority.HostSubcomponent;
+import io.github.raffaeleflorio.surily.authority.IPv4Address;
+import io.github.raffaeleflorio.surily.authority.IPv6Address;
+import io.github.raffaeleflorio.surily.authority.Port;
+import io.github.raffaeleflorio.surily.authority.PortSubcomponent;
+import io.github.raffaeleflorio.surily.authority.UndefinedPort;
+import io.github.raffaeleflorio.surily.authority.UndefinedUserinfo;
+import io.github.raffaeleflorio.surily.authority.UserinfoSubComponent;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link AuthorityComponent} of a valid parsed URI reference
+ *
+ * <p>Its representations are views over the reference. Its subcomponents are built on first access and then reused.
+ * </p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class ParsedAuthority implements AuthorityComponent {
+  /**
+   * Builds an authority
+   *
+   * @param reference  The valid URI reference
+   * @param boundaries The boundaries of the reference
+   * @since 1.0.0
+   */
+  ParsedAuthority(final CharSequence reference, final UriReferenceBoundaries boundaries) {
+    this.reference = reference;
+    this.boundaries = boundaries;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return authority();
+  }
+
+  private CharSequence authority() {
+    return view(boundaries.authorityStart(), boundaries.pathStart());
+  }
+
+  private CharSequence view(final int start, final int end) {
+    return CharBuffer.wrap(reference, start, end);
+  }
+
+  @Override
+  public String asString() {
+    return new PercentDecoded(authority()).toString();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<AuthorityComponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public HostSubcomponent host() {
+    var result = host;
+    if (result == null) {
+      result = parsedHost();
+      host = result;
+    }
+    return result;
+  }
+
+  private HostSubcomponent parsedHost() {
+    if (boundaries.ipLiteralHost()) {
+      return new IPv6Address(view(boundaries.hostStart() + 1, boundaries.hostEnd() - 1));
+    }
+    if (boundaries.ipv4Host()) {
+      return new IPv4Address(view(boundaries.hostStart(), boundaries.hostEnd()));
+    }
+    return new EncodedRegName(view(boundaries.hostStart(), boundaries.hostEnd()));
+  }
+
+  @Override
+  public PortSubcomponent port() {
+    var result = port;
+    if (result == null) {
+      result = boundaries.portStart() < 0
+        ? new UndefinedPort()
+        : new Port(view(boundaries.portStart(), boundaries.pathStart()));
+      port = result;
+    }
+    return result;
+  }
+
+  @Override
+  public UserinfoSubComponent userinfo() {
+    var result = userinfo;
+    if (result == null) {
+      result = boundaries.userinfoEnd() < 0
+        ? new UndefinedUserinfo()
+        : new EncodedUserinfo(view(boundaries.authorityStart(), boundaries.userinfoEnd()));
+      userinfo = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof ParsedAuthority && equal((ParsedAuthority) o);
+  }
+
+  private boolean equal(final ParsedAuthority other) {
+    return userinfo().equals(other.userinfo())
+      && host().equals(other.host())
+      && port().equals(other.port());
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(userinfo(), host(), port());
+      hash = result;
+    }
+    return result;
+  }
+
+  private final CharSequence reference;
+  private final UriReferenceBoundaries boundaries;
+  private volatile HostSubcomponent host;
+  private volatile PortSubcomponent port;
+  private volatile UserinfoSubComponent userinfo;
+  private volatile int hash;
+}
@@ -0,0 +1,263 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.UndefinedAuthority;
+import io.github.raffaeleflorio.surily.fragment.EncodedFragment;
+import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.fragment.UndefinedFragment;
+import io.github.raffaeleflorio.surily.path.EncodedPath;
+import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.query.EncodedQuery;
+import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.query.UndefinedQuery;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
+import io.github.raffaeleflorio.surily.scheme.UndefinedScheme;
+import io.github.raffaeleflorio.surily.scheme.WellKnownScheme;
+import io.github.raffaeleflorio.surily.scheme.WellKnownSchemes;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * {@link UriReference} parsed from its RFC3986 compliant encoded representation
+ *
+ * <p>The reference is scanned once and its components are views over it, so nothing is copied until a representation
+ * is requested. The whole reference is validated before building any component. Then each component is built on
+ * first access and reused. Lowercase well-known schemes are their shared {@link WellKnownScheme} constant. The
+ * reference is expected to be immutable.</p>
+ *
+ * <p>It can be parsed from US-ASCII bytes too. In such case the components are backed by the bytes and they are
+ * decoded to a {@link String} only by {@code asString()}.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-4.1">RFC3986 definition</a>
+ * @since 1.0.0
+ */
+public final class ParsedUriReference implements UriReference {
+  /**
+   * Builds a parsed URI reference
+   *
+   * @param reference The encoded URI reference
+   * @since 1.0.0
+   */
+  public ParsedUriReference(final CharSequence reference) {
+    this(reference, new UriReferenceBoundaries(reference));
+  }
+
+  /**
+   * Builds a parsed URI reference from its US-ASCII bytes
+   *
+   * @param bytes The bytes of the encoded URI reference
+   * @since 1.0.0
+   */
+  public ParsedUriReference(final byte[] bytes) {
+    this(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Builds a parsed URI reference from a slice of its US-ASCII bytes
+   *
+   * @param bytes  The bytes containing the encoded URI reference
+   * @param offset The index of the first byte of the URI reference
+   * @param length The number of bytes of the URI reference
+   * @since 1.0.0
+   */
+  public ParsedUriReference(final byte[] bytes, final int offset, final int length) {
+    this(new AsciiCharSequence(ByteBuffer.wrap(bytes), offset, offset + length));
+  }
+
+  /**
+   * Builds a parsed URI reference from the remaining US-ASCII bytes of a buffer. The position and the limit of the
+   * buffer are read once and never changed.
+   *
+   * @param bytes The bytes of the encoded URI reference
+   * @since 1.0.0
+   */
+  public ParsedUriReference(final ByteBuffer bytes) {
+    this(new AsciiCharSequence(bytes));
+  }
+
+  /**
+   * Builds a parsed URI reference with its already found boundaries
+   *
+   * @param reference  The encoded URI reference
+   * @param boundaries The boundaries of the reference
+   * @since 1.0.0
+   */
+  ParsedUriReference(final CharSequence reference, final UriReferenceBoundaries boundaries) {
+    this.reference = reference;
+    this.value = new CharSequenceValue(reference);
+    this.boundaries = boundaries;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return validated();
+  }
+
+  private CharSequence validated() {
+    if (boundaries.valid()) {
+      return reference;
+    }
+    throw new IllegalComponentException(
+      ValidationError.ILLEGAL_URI_REFERENCE,
+      boundaries.errorIndex(),
+      () -> String.format(
+        "Illegal URI reference at index %d: <%s>",
+        boundaries.errorIndex(),
+        reference.length() > 4096 ? reference.toString().substring(0, 4096).concat("...") : reference
+      )
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    return boundaries.valid()
+      ? new Valid()
+      : new Invalid(ValidationError.ILLEGAL_URI_REFERENCE, boundaries.errorIndex());
+  }
+
+  @Override
+  public String asString() {
+    var result = asString;
+    if (result == null) {
+      result = new PercentDecoded(validated()).toString();
+      asString = result;
+    }
+    return result;
+  }
+
+  @Override
+  public SchemeComponent scheme() {
+    var result = scheme;
+    if (result == null) {
+      validated();
+      result = boundaries.schemeEnd() < 0 ? new UndefinedScheme() : parsedScheme(view(0, boundaries.schemeEnd()));
+      scheme = result;
+    }
+    return result;
+  }
+
+  private SchemeComponent parsedScheme(final CharSequence scheme) {
+    return new WellKnownSchemes().<SchemeComponent>ifKnownElse(
+      scheme,
+      known -> known.asString().contentEquals(scheme) ? known : new Scheme(scheme),
+      () -> new Scheme(scheme)
+    );
+  }
+
+  private CharSequence view(final int start, final int end) {
+    return CharBuffer.wrap(reference, start, end);
+  }
+
+  @Override
+  public AuthorityComponent authority() {
+    var result = authority;
+    if (result == null) {
+      validated();
+      result = boundaries.authorityStart() < 0
+        ? new UndefinedAuthority()
+        : new ParsedAuthority(reference, boundaries);
+      authority = result;
+    }
+    return result;
+  }
+
+  @Override
+  public PathComponent path() {
+    var result = path;
+    if (result == null) {
+      validated();
+      result = new EncodedPath(view(boundaries.pathStart(), boundaries.pathEnd()));
+      path = result;
+    }
+    return result;
+  }
+
+  @Override
+  public QueryComponent query() {
+    var result = query;
+    if (result == null) {
+      validated();
+      result = boundaries.queryStart() < 0
+        ? new UndefinedQuery()
+        : new EncodedQuery(view(boundaries.queryStart(), boundaries.queryEnd()));
+      query = result;
+    }
+    return result;
+  }
+
+  @Override
+  public FragmentComponent fragment() {
+    var result = fragment;
+    if (result == null) {
+      validated();
+      result = boundaries.fragmentStart() < 0
+        ? new UndefinedFragment()
+        : new EncodedFragment(view(boundaries.fragmentStart(), reference.length()));
+      fragment = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof ParsedUriReference && equal((ParsedUriReference) o);
+  }
+
+  private boolean equal(final ParsedUriReference other) {
+    if (!boundaries.valid() || !other.boundaries.valid()) {
+      return !boundaries.valid() && !other.boundaries.valid() && value.equals(other.value);
+    }
+    return schemeValue().equals(other.schemeValue())
+      && authority().equals(other.authority())
+      && path().equals(other.path())
+      && query().equals(other.query())
+      && fragment().equals(other.fragment());
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = boundaries.valid()
+        ? Objects.hash(schemeValue(), authority(), path(), query(), fragment())
+        : value.hashCode();
+      hash = result;
+    }
+    return result;
+  }
+
+  private CharSequenceValue schemeValue() {
+    return new CharSequenceValue(new LowerCaseAscii(view(0, Math.max(boundaries.schemeEnd(), 0))));
+  }
+
+  private final CharSequence reference;
+  private final CharSequenceValue value;
+  private final UriReferenceBoundaries boundaries;
+  private volatile String asString;
+  private volatile SchemeComponent scheme;
+  private volatile AuthorityComponent authority;
+  private volatile PathComponent path;
+  private volatile QueryComponent query;
+  private volatile FragmentComponent fragment;
+  private volatile int hash;
+}
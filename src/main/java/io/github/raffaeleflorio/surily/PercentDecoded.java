@@ -0,0 +1,122 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.HexDigits;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharSequence} with percent-encoded octets decoded
+ *
+ * <p>The decoded characters are computed once, on first use, and then reused by every {@link CharSequence} method.
+ * So the origin is expected to be immutable. An origin without percent signs is returned as is, without decoding it,
+ * and a percent sign not followed by two hexadecimal digits is kept as is.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-2.1">RFC3986 about percent-encoding</a>
+ * @since 1.0.0
+ */
+public final class PercentDecoded implements CharSequence {
+  /**
+   * Builds the percent-decoded char sequence with UTF-8 to decode octets
+   *
+   * @param origin The percent-encoded char sequence
+   * @since 1.0.0
+   */
+  public PercentDecoded(final CharSequence origin) {
+    this(origin, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Builds the percent-decoded char sequence
+   *
+   * @param origin  The percent-encoded char sequence
+   * @param charset The charset to decode octets
+   * @since 1.0.0
+   */
+  public PercentDecoded(final CharSequence origin, final Charset charset) {
+    this(origin, charset, new AsciiCharacterClass(new HexDigits()));
+  }
+
+  private PercentDecoded(final CharSequence origin, final Charset charset, final AsciiCharacterClass hexDigits) {
+    this.origin = origin;
+    this.charset = charset;
+    this.hexDigits = hexDigits;
+  }
+
+  @Override
+  public int length() {
+    return toString().length();
+  }
+
+  @Override
+  public char charAt(final int i) {
+    return toString().charAt(i);
+  }
+
+  @Override
+  public CharSequence subSequence(final int i, final int i1) {
+    return toString().subSequence(i, i1);
+  }
+
+  @Override
+  public String toString() {
+    var result = decoded;
+    if (result == null) {
+      result = decodedOrigin();
+      decoded = result;
+    }
+    return result;
+  }
+
+  private String decodedOrigin() {
+    return origin.chars().anyMatch(c -> c == '%') ? decodedOctets() : origin.toString();
+  }
+
+  private String decodedOctets() {
+    var sb = new StringBuilder(origin.length());
+    var octets = new byte[origin.length() / 3];
+    var i = 0;
+    while (i < origin.length()) {
+      var count = 0;
+      while (octet(i)) {
+        octets[count++] = (byte) (Character.digit(origin.charAt(i + 1), 16) << 4 | Character.digit(origin.charAt(i + 2), 16));
+        i += 3;
+      }
+      if (count > 0) {
+        sb.append(new String(octets, 0, count, charset));
+      } else {
+        sb.append(origin.charAt(i++));
+      }
+    }
+    return sb.toString();
+  }
+
+  private boolean octet(final int i) {
+    return i + 2 < origin.length()
+      && origin.charAt(i) == '%'
+      && hexDigits.contains(origin.charAt(i + 1))
+      && hexDigits.contains(origin.charAt(i + 2));
+  }
+
+  private final CharSequence origin;
+  private final Charset charset;
+  private final AsciiCharacterClass hexDigits;
+  private String decoded;
+}
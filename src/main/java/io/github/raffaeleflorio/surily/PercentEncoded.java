@@ -15,20 +15,24 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.ReservedCharacters;
 import io.github.raffaeleflorio.surily.characters.UnreservedCharacters;
-import io.github.raffaeleflorio.surily.set.IntersectionSet;
-import io.github.raffaeleflorio.surily.set.UnionSet;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * ASCII {@link CharSequence} with percent-encoding applied where needed
  *
+ * <p>The encoded characters are computed once, on first use, and then reused by every {@link CharSequence} method.
+ * So the origin is expected to be immutable. The only exception is the length, which is counted once without encoding
+ * when the characters aren't computed yet.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-2.1">RFC3986 about percent-encoding</a>
  * @see <a href="https://en.wikipedia.org/wiki/Percent-encoding">Wikipedia about percent-encoding</a>
@@ -55,11 +59,7 @@ public final class PercentEncoded implements CharSequence {
    * @since 1.0.0
    */
   public PercentEncoded(final CharSequence origin, final Charset charset) {
-    this(
-      origin,
-      charset,
-      new UnreservedCharacters()
-    );
+    this(origin, charset, UNRESERVED_CHARACTERS);
   }
 
   /**
@@ -71,18 +71,22 @@ public final class PercentEncoded implements CharSequence {
    * @since 1.0.0
    */
   public PercentEncoded(final CharSequence origin, final Charset charset, final Set<Character> unreserved) {
-    this(
-      origin,
-      charset,
-      new IntersectionSet<>(
-        new UnionSet<>(
-          new ReservedCharacters(),
-          new UnreservedCharacters()
-        ),
-        unreserved
-      ),
-      List.of('0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F')
-    );
+    this(origin, charset, new AsciiCharacterClass(unreserved));
+  }
+
+  /**
+   * Builds the percent-encoded char sequence with a prebuilt class of allowed RFC3986 characters
+   *
+   * <p>It's the cheap constructor: the class is only intersected with the RFC3986 characters word by word, so it's
+   * meant to be built once and shared.</p>
+   *
+   * @param origin     The char sequence to decorate
+   * @param charset    The charset to get bytes of non-ASCII characters
+   * @param unreserved The class of allowed RFC3986 characters
+   * @since 1.0.0
+   */
+  public PercentEncoded(final CharSequence origin, final Charset charset, final AsciiCharacterClass unreserved) {
+    this(origin, charset, unreserved.intersection(RFC3986_CHARACTERS), "0123456789ABCDEF");
   }
 
   /**
@@ -90,25 +94,71 @@ public final class PercentEncoded implements CharSequence {
    *
    * @param origin     The char sequence to decorate
    * @param charset    The charset to get bytes of non-ASCII characters
-   * @param unreserved The unreserved characters set
+   * @param unreserved The unreserved characters class
    * @param hexChars   The hexadecimal chars
    * @since 1.0.0
    */
   PercentEncoded(
     final CharSequence origin,
     final Charset charset,
-    final Set<Character> unreserved,
-    final List<Character> hexChars
+    final AsciiCharacterClass unreserved,
+    final CharSequence hexChars
   ) {
     this.origin = origin;
     this.charset = charset;
     this.unreserved = unreserved;
     this.hexChars = hexChars;
+    this.length = -1;
   }
 
   @Override
   public int length() {
-    return toString().length();
+    var result = length;
+    if (result < 0) {
+      var chars = encoded;
+      result = chars == null ? encodedLength() : chars.length();
+      length = result;
+    }
+    return result;
+  }
+
+  private int encodedLength() {
+    var length = 0;
+    for (var i = 0; i < origin.length(); i++) {
+      var c = origin.charAt(i);
+      if (unreserved.contains(c)) {
+        length++;
+      } else if (Character.isHighSurrogate(c) && i + 1 < origin.length() && Character.isLowSurrogate(origin.charAt(i + 1))) {
+        length += 3 * octets(Character.toCodePoint(c, origin.charAt(++i)));
+      } else {
+        length += 3 * octets(c);
+      }
+    }
+    return length;
+  }
+
+  private int octets(final int codePoint) {
+    if (StandardCharsets.UTF_8.equals(charset)) {
+      return utf8Octets(codePoint);
+    } else if (StandardCharsets.US_ASCII.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)) {
+      return 1;
+    } else {
+      return Character.toString(codePoint).getBytes(charset).length;
+    }
+  }
+
+  private int utf8Octets(final int codePoint) {
+    if (codePoint < 0x80) {
+      return 1;
+    } else if (codePoint < 0x800) {
+      return 2;
+    } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+      return 1;
+    } else if (codePoint < 0x10000) {
+      return 3;
+    } else {
+      return 4;
+    }
   }
 
   @Override
@@ -123,26 +173,91 @@ public final class PercentEncoded implements CharSequence {
 
   @Override
   public String toString() {
-    return origin
-      .codePoints()
-      .mapToObj(codePoint -> unreserved(codePoint) ? Character.toString(codePoint) : encoded(codePoint))
-      .collect(Collectors.joining());
+    var result = encoded;
+    if (result == null) {
+      result = appendTo(new StringBuilder(origin.length())).toString();
+      encoded = result;
+    }
+    return result;
   }
 
-  private Boolean unreserved(final Integer codepoint) {
-    return unreserved.contains(Character.toChars(codepoint)[0]);
+  /**
+   * Appends the percent-encoded characters without building intermediate strings
+   *
+   * @param appendable The appendable where to write
+   * @param <T>        The appendable type
+   * @return The appendable
+   * @throws UncheckedIOException If the appendable fails
+   * @since 1.0.0
+   */
+  public <T extends Appendable> T appendTo(final T appendable) {
+    try {
+      for (var i = 0; i < origin.length(); i++) {
+        var c = origin.charAt(i);
+        if (unreserved.contains(c)) {
+          appendable.append(c);
+        } else if (Character.isHighSurrogate(c) && i + 1 < origin.length() && Character.isLowSurrogate(origin.charAt(i + 1))) {
+          appendOctets(appendable, Character.toCodePoint(c, origin.charAt(++i)));
+        } else {
+          appendOctets(appendable, c);
+        }
+      }
+      return appendable;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void appendOctets(final Appendable appendable, final int codePoint) throws IOException {
+    if (StandardCharsets.UTF_8.equals(charset)) {
+      appendUtf8Octets(appendable, codePoint);
+    } else if (StandardCharsets.US_ASCII.equals(charset)) {
+      appendOctet(appendable, codePoint < 0x80 ? codePoint : '?');
+    } else if (StandardCharsets.ISO_8859_1.equals(charset)) {
+      appendOctet(appendable, codePoint < 0x100 ? codePoint : '?');
+    } else {
+      for (var octet : Character.toString(codePoint).getBytes(charset)) {
+        appendOctet(appendable, octet);
+      }
+    }
   }
 
-  private String encoded(final Integer codepoint) {
-    var sb = new StringBuilder();
-    for (var octect : Character.toString(codepoint).getBytes(charset)) {
-      sb.append("%").append(hexChars.get(0x0F & (octect >>> 4))).append(hexChars.get(0x0F & octect));
+  private void appendUtf8Octets(final Appendable appendable, final int codePoint) throws IOException {
+    if (codePoint < 0x80) {
+      appendOctet(appendable, codePoint);
+    } else if (codePoint < 0x800) {
+      appendOctet(appendable, 0xC0 | codePoint >> 6);
+      appendOctet(appendable, 0x80 | codePoint & 0x3F);
+    } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+      appendOctet(appendable, '?');
+    } else if (codePoint < 0x10000) {
+      appendOctet(appendable, 0xE0 | codePoint >> 12);
+      appendOctet(appendable, 0x80 | codePoint >> 6 & 0x3F);
+      appendOctet(appendable, 0x80 | codePoint & 0x3F);
+    } else {
+      appendOctet(appendable, 0xF0 | codePoint >> 18);
+      appendOctet(appendable, 0x80 | codePoint >> 12 & 0x3F);
+      appendOctet(appendable, 0x80 | codePoint >> 6 & 0x3F);
+      appendOctet(appendable, 0x80 | codePoint & 0x3F);
     }
-    return sb.toString();
   }
 
+  private void appendOctet(final Appendable appendable, final int octet) throws IOException {
+    appendable.append('%').append(hexChars.charAt(0x0F & octet >>> 4)).append(hexChars.charAt(0x0F & octet));
+  }
+
+  private static final AsciiCharacterClass UNRESERVED_CHARACTERS = new AsciiCharacterClass(new UnreservedCharacters());
+  private static final AsciiCharacterClass RFC3986_CHARACTERS = new AsciiCharacterClass(
+    List.of(
+      new ReservedCharacters(),
+      new UnreservedCharacters()
+    )
+  );
+
   private final CharSequence origin;
   private final Charset charset;
-  private final Set<Character> unreserved;
-  private final List<Character> hexChars;
+  private final AsciiCharacterClass unreserved;
+  private final CharSequence hexChars;
+  private String encoded;
+  private volatile int length;
 }
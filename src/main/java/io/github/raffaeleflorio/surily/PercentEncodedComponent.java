@@ -0,0 +1,180 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.HexDigits;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link UriComponent} built from an already percent-encoded char sequence (e.g. a parsed one). Its encoded
+ * representation is the char sequence itself and its unencoded one is the decoded char sequence.
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-2.1">RFC3986 about percent-encoding</a>
+ * @since 1.0.0
+ */
+public final class PercentEncodedComponent implements UriComponent {
+  /**
+   * Builds a component with UTF-8 to decode octets
+   *
+   * @param encoded The percent-encoded char sequence
+   * @param allowed The characters allowed without percent-encoding
+   * @since 1.0.0
+   */
+  public PercentEncodedComponent(final CharSequence encoded, final Set<Character> allowed) {
+    this(encoded, allowed, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Builds a component
+   *
+   * @param encoded The percent-encoded char sequence
+   * @param allowed The characters allowed without percent-encoding
+   * @param charset The charset to decode octets
+   * @since 1.0.0
+   */
+  public PercentEncodedComponent(final CharSequence encoded, final Set<Character> allowed, final Charset charset) {
+    this(encoded, new AsciiCharacterClass(allowed), charset);
+  }
+
+  /**
+   * Builds a component with UTF-8 to decode octets and a prebuilt class of allowed characters
+   *
+   * @param encoded The percent-encoded char sequence
+   * @param allowed The characters allowed without percent-encoding
+   * @since 1.0.0
+   */
+  public PercentEncodedComponent(final CharSequence encoded, final AsciiCharacterClass allowed) {
+    this(encoded, allowed, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Builds a component with a prebuilt class of allowed characters
+   *
+   * <p>It's the cheap constructor, so the class is meant to be built once and shared.</p>
+   *
+   * @param encoded The percent-encoded char sequence
+   * @param allowed The characters allowed without percent-encoding
+   * @param charset The charset to decode octets
+   * @since 1.0.0
+   */
+  public PercentEncodedComponent(final CharSequence encoded, final AsciiCharacterClass allowed, final Charset charset) {
+    this(encoded, allowed, HEX_DIGITS, charset);
+  }
+
+  private PercentEncodedComponent(
+    final CharSequence encoded,
+    final AsciiCharacterClass allowed,
+    final AsciiCharacterClass hexDigits,
+    final Charset charset
+  ) {
+    this.encoded = encoded;
+    this.value = new CharSequenceValue(new UpperCasePercentEncoding(encoded));
+    this.allowed = allowed;
+    this.hexDigits = hexDigits;
+    this.charset = charset;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return validated();
+  }
+
+  private CharSequence validated() {
+    var illegal = illegalIndex();
+    if (illegal < 0) {
+      return encoded;
+    }
+    throw illegalComponent(illegal);
+  }
+
+  private int illegalIndex() {
+    for (var i = 0; i < encoded.length(); i++) {
+      if (encoded.charAt(i) == '%') {
+        if (!octet(i)) {
+          return i;
+        }
+        i += 2;
+      } else if (!allowed.contains(encoded.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean octet(final int i) {
+    return i + 2 < encoded.length()
+      && hexDigits.contains(encoded.charAt(i + 1))
+      && hexDigits.contains(encoded.charAt(i + 2));
+  }
+
+  private RuntimeException illegalComponent(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_PERCENT_ENCODING,
+      illegal,
+      () -> String.format(
+        "Illegal percent-encoded component: <%s>",
+        encoded.length() > 4096 ? encoded.toString().substring(0, 4096).concat("...") : encoded
+      )
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    var illegal = illegalIndex();
+    return illegal < 0 ? new Valid() : new Invalid(ValidationError.ILLEGAL_PERCENT_ENCODING, illegal);
+  }
+
+  @Override
+  public String asString() {
+    return new PercentDecoded(validated(), charset).toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof PercentEncodedComponent && equal((PercentEncodedComponent) o);
+  }
+
+  private boolean equal(final PercentEncodedComponent other) {
+    return value.equals(other.value)
+      && allowed.equals(other.allowed)
+      && charset.equals(other.charset);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(value, allowed, charset);
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final AsciiCharacterClass HEX_DIGITS = new AsciiCharacterClass(new HexDigits());
+
+  private final CharSequence encoded;
+  private final CharSequenceValue value;
+  private final AsciiCharacterClass allowed;
+  private final AsciiCharacterClass hexDigits;
+  private final Charset charset;
+  private volatile int hash;
+}
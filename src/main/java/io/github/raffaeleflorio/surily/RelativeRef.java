@@ -27,11 +27,10 @@ import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 import io.github.raffaeleflorio.surily.scheme.UndefinedScheme;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * RFC3986 compliant relative-ref {@link UriReference}
@@ -163,7 +162,7 @@ public final class RelativeRef implements UriReference {
     final PathComponent path,
     final QueryComponent query,
     final FragmentComponent fragment,
-    final BiFunction<String, List<UriComponent>, UriComponent> formattedFn,
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn,
     final BiFunction<List<UriComponent>, String, UriComponent> joinedFn
   ) {
     this.authority = authority;
@@ -176,40 +175,40 @@ public final class RelativeRef implements UriReference {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return joinedComponents().encoded(charset);
+    return plan().encoded(charset);
   }
 
-  private UriComponent joinedComponents() {
-    return joinedFn.apply(formattedComponents(), "");
+  private UriComponent plan() {
+    var result = plan;
+    if (result == null) {
+      var components = new ArrayList<UriComponent>(4);
+      components.add(authority.<UriComponent>ifDefinedElse(path::relativePart, path::relativePart));
+      query.ifDefinedElse(x -> components.add(formattedFn.apply(QUERY_TEMPLATE, List.of(x))), () -> false);
+      fragment.ifDefinedElse(x -> components.add(formattedFn.apply(FRAGMENT_TEMPLATE, List.of(x))), () -> false);
+      result = joinedFn.apply(List.copyOf(components), "");
+      plan = result;
+    }
+    return result;
   }
 
-  private List<UriComponent> formattedComponents() {
-    return Stream.of(relativePart(), formattedQuery(), formattedFragment())
-      .flatMap(Function.identity())
-      .collect(Collectors.toUnmodifiableList());
-  }
-
-  private Stream<UriComponent> relativePart() {
-    return Stream.of(authority.<UriComponent>ifDefinedElse(path::relativePart, path::relativePart));
+  @Override
+  public int encodedLength(final Charset charset) {
+    return plan().encodedLength(charset);
   }
 
-  private Stream<UriComponent> formattedQuery() {
-    return query.ifDefinedElse(
-      x -> Stream.of(formattedFn.apply("?%s", List.of(x))),
-      Stream::empty
-    );
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    plan().appendTo(destination, charset);
   }
 
-  private Stream<UriComponent> formattedFragment() {
-    return fragment.ifDefinedElse(
-      x -> Stream.of(formattedFn.apply("#%s", List.of(x))),
-      Stream::of
-    );
+  @Override
+  public String asString() {
+    return plan().asString();
   }
 
   @Override
-  public String asString() {
-    return joinedComponents().asString();
+  public void appendTo(final Appendable destination) {
+    plan().appendTo(destination);
   }
 
   @Override
@@ -237,10 +236,37 @@ public final class RelativeRef implements UriReference {
     return fragment;
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof RelativeRef && equal((RelativeRef) o);
+  }
+
+  private boolean equal(final RelativeRef other) {
+    return authority.equals(other.authority)
+      && path.equals(other.path)
+      && query.equals(other.query)
+      && fragment.equals(other.fragment);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(authority, path, query, fragment);
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final FormatTemplate QUERY_TEMPLATE = new FormatTemplate("?%s");
+  private static final FormatTemplate FRAGMENT_TEMPLATE = new FormatTemplate("#%s");
+
   private final AuthorityComponent authority;
   private final PathComponent path;
   private final QueryComponent query;
   private final FragmentComponent fragment;
-  private final BiFunction<String, List<UriComponent>, UriComponent> formattedFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
   private final BiFunction<List<UriComponent>, String, UriComponent> joinedFn;
+  private volatile UriComponent plan;
+  private volatile int hash;
 }
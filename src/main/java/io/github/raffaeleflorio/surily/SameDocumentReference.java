@@ -56,11 +56,26 @@ public final class SameDocumentReference implements UriReference {
     return origin.encoded(charset);
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return origin.encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    origin.appendTo(destination, charset);
+  }
+
   @Override
   public String asString() {
     return origin.asString();
   }
 
+  @Override
+  public void appendTo(final Appendable destination) {
+    origin.appendTo(destination);
+  }
+
   @Override
   public SchemeComponent scheme() {
     return origin.scheme();
@@ -86,5 +101,15 @@ public final class SameDocumentReference implements UriReference {
     return origin.fragment();
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof SameDocumentReference && origin.equals(((SameDocumentReference) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final UriReference origin;
 }
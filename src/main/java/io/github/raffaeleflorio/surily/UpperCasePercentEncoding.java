@@ -0,0 +1,71 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * {@link CharSequence} view where the hexadecimal digits of percent-encoded octets are uppercase
+ *
+ * <p>Only the digits following a percent character are changed, so "%2f" and "%2F" have the same view, while other
+ * letters are left as they are. It's meant to compare percent-encoded components through
+ * {@link CharSequenceValue}.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-6.2.2.1">RFC3986 about case normalization</a>
+ * @since 1.0.0
+ */
+public final class UpperCasePercentEncoding implements CharSequence {
+  /**
+   * Builds an uppercase percent-encoding view
+   *
+   * @param origin The percent-encoded char sequence to decorate
+   * @since 1.0.0
+   */
+  public UpperCasePercentEncoding(final CharSequence origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public int length() {
+    return origin.length();
+  }
+
+  @Override
+  public char charAt(final int i) {
+    var c = origin.charAt(i);
+    return c >= 'a' && c <= 'f' && octetDigit(i) ? (char) (c & ~0x20) : c;
+  }
+
+  private boolean octetDigit(final int i) {
+    return i >= 1 && origin.charAt(i - 1) == '%' && i + 1 < origin.length() && hexDigit(origin.charAt(i + 1))
+      || i >= 2 && origin.charAt(i - 2) == '%' && hexDigit(origin.charAt(i - 1));
+  }
+
+  private boolean hexDigit(final char c) {
+    return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+  }
+
+  @Override
+  public CharSequence subSequence(final int i, final int i1) {
+    return toString().subSequence(i, i1);
+  }
+
+  @Override
+  public String toString() {
+    return new StringBuilder(this).toString();
+  }
+
+  private final CharSequence origin;
+}
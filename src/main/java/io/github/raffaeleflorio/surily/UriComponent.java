@@ -15,11 +15,27 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Component of an @{@link UriReference}
  *
+ * <p>Two components are equal when they're instances of the same class and they're equivalent after the case
+ * normalization of RFC3986:</p>
+ * <ul>
+ *   <li>the scheme and the reg-name host ignore the case of ASCII letters;</li>
+ *   <li>percent-encoded octets ignore the case of their hexadecimal digits;</li>
+ *   <li>internationalized hosts compare their A-labels;</li>
+ *   <li>valid IP addresses and ports compare their numeric value;</li>
+ *   <li>any other character is compared as it is.</li>
+ * </ul>
+ * <p>No other normalization is applied (e.g. decoding of unreserved characters or removal of dot-segments), and
+ * components of different classes are never equal, even if they have the same representations. Composite and
+ * decorating components are equal when their parts are equal. The hash code is consistent with this rule.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-3">RFC3986 about components</a>
  * @since 1.0.0
@@ -43,6 +59,75 @@ public interface UriComponent {
    */
   String asString();
 
+  /**
+   * Validates the component without rendering it when possible
+   *
+   * <p>The default implementation renders the encoded representation and converts an
+   * {@link IllegalComponentException} to its outcome.</p>
+   *
+   * @return The validation outcome
+   * @since 1.0.0
+   */
+  default Validation validation() {
+    try {
+      encoded(StandardCharsets.UTF_8);
+      return new Valid();
+    } catch (IllegalComponentException e) {
+      return e.validation();
+    }
+  }
+
+  /**
+   * Computes the length of the encoded representation
+   *
+   * <p>The default implementation computes the length of the encoded representation. Composite components override it
+   * to sum the lengths of their parts, so the size of a buffer can be known before rendering into it.</p>
+   *
+   * @param charset The charset to use to get bytes of non-ASCII characters
+   * @return The length of the encoded representation
+   * @since 1.0.0
+   */
+  default int encodedLength(final Charset charset) {
+    return encoded(charset).length();
+  }
+
+  /**
+   * Appends the encoded representation to a destination
+   *
+   * <p>The default implementation appends the encoded representation. Composite components override it to write their
+   * parts straight into the destination, without intermediate strings.</p>
+   *
+   * @param destination The destination
+   * @param charset     The charset to use to get bytes of non-ASCII characters
+   * @throws java.io.UncheckedIOException If the destination fails
+   * @since 1.0.0
+   */
+  default void appendTo(final Appendable destination, final Charset charset) {
+    try {
+      destination.append(encoded(charset));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Appends the unencoded representation to a destination
+   *
+   * <p>The default implementation appends the unencoded representation. Composite components override it to write
+   * their parts straight into the destination, without intermediate strings.</p>
+   *
+   * @param destination The destination
+   * @throws java.io.UncheckedIOException If the destination fails
+   * @since 1.0.0
+   */
+  default void appendTo(final Appendable destination) {
+    try {
+      destination.append(asString());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * {@link UriComponent} for testing purpose
    *
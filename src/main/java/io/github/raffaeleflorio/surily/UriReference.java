@@ -21,11 +21,18 @@ import io.github.raffaeleflorio.surily.path.PathComponent;
 import io.github.raffaeleflorio.surily.query.QueryComponent;
 import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The most common used resource identifier. It is either a URI or a relative reference.
  *
+ * <p>Two references are equal when they're instances of the same class and their components are equal according to
+ * {@link UriComponent}. So a parsed reference and a built one are never equal, even if they have the same
+ * representations.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-4.1">RFC3986 definition</a>
  * @since 1.0.0
@@ -49,6 +56,75 @@ public interface UriReference {
    */
   String asString();
 
+  /**
+   * Validates the reference without rendering it when possible
+   *
+   * <p>The default implementation renders the encoded representation and converts an
+   * {@link IllegalComponentException} to its outcome.</p>
+   *
+   * @return The validation outcome
+   * @since 1.0.0
+   */
+  default Validation validation() {
+    try {
+      encoded(StandardCharsets.UTF_8);
+      return new Valid();
+    } catch (IllegalComponentException e) {
+      return e.validation();
+    }
+  }
+
+  /**
+   * Computes the length of the encoded representation
+   *
+   * <p>The default implementation computes the length of the encoded representation. References built from components
+   * override it to sum the lengths of their parts, so the size of a buffer can be known before rendering into it.</p>
+   *
+   * @param charset The charset to use to get bytes of non-ASCII characters
+   * @return The length of the encoded representation
+   * @since 1.0.0
+   */
+  default int encodedLength(final Charset charset) {
+    return encoded(charset).length();
+  }
+
+  /**
+   * Appends the encoded representation to a destination
+   *
+   * <p>The default implementation appends the encoded representation. References built from components override it to
+   * write their parts straight into the destination, without intermediate strings.</p>
+   *
+   * @param destination The destination
+   * @param charset     The charset to use to get bytes of non-ASCII characters
+   * @throws java.io.UncheckedIOException If the destination fails
+   * @since 1.0.0
+   */
+  default void appendTo(final Appendable destination, final Charset charset) {
+    try {
+      destination.append(encoded(charset));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Appends the unencoded representation to a destination
+   *
+   * <p>The default implementation appends the unencoded representation. References built from components override it
+   * to write their parts straight into the destination, without intermediate strings.</p>
+   *
+   * @param destination The destination
+   * @throws java.io.UncheckedIOException If the destination fails
+   * @since 1.0.0
+   */
+  default void appendTo(final Appendable destination) {
+    try {
+      destination.append(asString());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Builds the scheme component
    *
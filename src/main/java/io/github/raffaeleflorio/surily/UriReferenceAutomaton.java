@@ -0,0 +1,367 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic finite automaton recognising the RFC3986 URI-reference grammar
+ *
+ * <p>It reads each character once. The next state comes from a transition table, indexed by the current state and
+ * by the category of the character. The only actions record the component boundaries and check the host. It neither
+ * allocates nor throws, so a single instance can be shared.</p>
+ *
+ * <p>The boundaries are written into a caller-supplied array of at least 12 elements. In order they are: scheme end,
+ * authority start, userinfo end, host start, host end, port start, path start, path end, query start, query end,
+ * fragment start and host kind (0 for reg-name, 1 for IPv4 address and 2 for IP literal). A missing component has
+ * negative boundaries.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#appendix-A">RFC3986 collected ABNF</a>
+ * @since 1.0.0
+ */
+public final class UriReferenceAutomaton {
+  /**
+   * Applies a function according to the validity of a reference
+   *
+   * @param reference The URI reference
+   * @param validFn   The function applied to the kind of a valid reference
+   * @param invalidFn The function applied to the index of the first illegal character of an invalid reference
+   * @param <T>       The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifValidElse(
+    final CharSequence reference,
+    final Function<UriReferenceKind, T> validFn,
+    final IntFunction<T> invalidFn
+  ) {
+    return ifValidElse(reference, new int[12], validFn, invalidFn);
+  }
+
+  /**
+   * Applies a function according to the validity of a reference, writing its boundaries
+   *
+   * @param reference  The URI reference
+   * @param boundaries The array where the boundaries are written
+   * @param validFn    The function applied to the kind of a valid reference
+   * @param invalidFn  The function applied to the index of the first illegal character of an invalid reference
+   * @param <T>        The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifValidElse(
+    final CharSequence reference,
+    final int[] boundaries,
+    final Function<UriReferenceKind, T> validFn,
+    final IntFunction<T> invalidFn
+  ) {
+    var error = scanned(reference, boundaries);
+    return error < 0 ? validFn.apply(kind(reference, boundaries)) : invalidFn.apply(error);
+  }
+
+  private int scanned(final CharSequence reference, final int[] boundaries) {
+    Arrays.fill(boundaries, 0, 11, -1);
+    boundaries[6] = 0;
+    boundaries[11] = 0;
+    var state = 'S';
+    var mark = 0;
+    for (var i = 0; i < reference.length(); i++) {
+      var next = next(state, category(reference.charAt(i)));
+      if (next == 'X') {
+        return error(state, i, mark, boundaries);
+      }
+      if (next != state) {
+        mark = "BEGMTY".indexOf(next) >= 0 ? i : mark;
+        var error = entered(state, next, i, reference, boundaries);
+        if (error >= 0) {
+          return error;
+        }
+      }
+      state = next;
+    }
+    return ended(state, reference, mark, boundaries);
+  }
+
+  private char next(final char state, final int category) {
+    return (
+      /*
+        Columns: A-F a-f, other ALPHA, DIGIT, "+", "-" ".", "_" "~", other sub-delims,
+                 ":", "@", "/", "?", "#", "%", "[", "]", other characters
+       */
+      "AAAAAAAAUPQFBIXX" + // A: authority
+      "DXDXXXXXXXXXXXXX" + // B: authority pct-encoded 1st hex
+      "CCCCCNNHNPQFTXXX" + // C: scheme or first segment
+      "AXAXXXXXXXXXXXXX" + // D: authority pct-encoded 2nd hex
+      "LXLXXXXXXXXXXXXX" + // E: reg-name pct-encoded 1st hex
+      "FFFFFFFFFFFXGXXX" + // F: fragment
+      "KXKXXXXXXXXXXXXX" + // G: fragment pct-encoded 1st hex
+      "PPPPPPPPPRQFMXXX" + // H: hier-part start
+      "IXIXIXXIXXXXXXJX" + // I: IP-literal
+      "XXXXXXXOXPQFXXXX" + // J: after IP-literal
+      "FXFXXXXXXXXXXXXX" + // K: fragment pct-encoded 2nd hex
+      "UXUXXXXXXXXXXXXX" + // L: reg-name pct-encoded 2nd hex
+      "WXWXXXXXXXXXXXXX" + // M: path pct-encoded 1st hex
+      "NNNNNNNXNPQFTXXX" + // N: path-noscheme first segment
+      "XXOXXXXXXPQFXXXX" + // O: port
+      "PPPPPPPPPPQFMXXX" + // P: path
+      "QQQQQQQQQQQFYXXX" + // Q: query
+      "PPPPPPPPPAQFMXXX" + // R: after a leading slash
+      "CCNNNNNXNRQFTXXX" + // S: start
+      "VXVXXXXXXXXXXXXX" + // T: first segment pct-encoded 1st hex
+      "UUUUUUUOXPQFEIXX" + // U: reg-name after userinfo
+      "NXNXXXXXXXXXXXXX" + // V: first segment pct-encoded 2nd hex
+      "PXPXXXXXXXXXXXXX" + // W: path pct-encoded 2nd hex
+      "XXXXXXXXXXXXXXXX" + // X: error
+      "ZXZXXXXXXXXXXXXX" + // Y: query pct-encoded 1st hex
+      "QXQXXXXXXXXXXXXX" // Z: query pct-encoded 2nd hex
+    ).charAt((state - 'A') * 16 + category);
+  }
+
+  private int category(final char c) {
+    switch (c) {
+      case 'A': case 'B': case 'C': case 'D': case 'E': case 'F':
+      case 'a': case 'b': case 'c': case 'd': case 'e': case 'f':
+        return 0;
+      case 'G': case 'H': case 'I': case 'J': case 'K': case 'L': case 'M': case 'N': case 'O': case 'P':
+      case 'Q': case 'R': case 'S': case 'T': case 'U': case 'V': case 'W': case 'X': case 'Y': case 'Z':
+      case 'g': case 'h': case 'i': case 'j': case 'k': case 'l': case 'm': case 'n': case 'o': case 'p':
+      case 'q': case 'r': case 's': case 't': case 'u': case 'v': case 'w': case 'x': case 'y': case 'z':
+        return 1;
+      case '0': case '1': case '2': case '3': case '4': case '5': case '6': case '7': case '8': case '9':
+        return 2;
+      case '+':
+        return 3;
+      case '-': case '.':
+        return 4;
+      case '_': case '~':
+        return 5;
+      case '!': case '$': case '&': case '\'': case '(': case ')': case '*': case ',': case ';': case '=':
+        return 6;
+      case ':':
+        return 7;
+      case '@':
+        return 8;
+      case '/':
+        return 9;
+      case '?':
+        return 10;
+      case '#':
+        return 11;
+      case '%':
+        return 12;
+      case '[':
+        return 13;
+      case ']':
+        return 14;
+      default:
+        return 15;
+    }
+  }
+
+  private int error(final char state, final int i, final int mark, final int[] boundaries) {
+    if (state == 'I') {
+      return boundaries[3] + 1;
+    }
+    return "BDELGKMTVWYZ".indexOf(state) >= 0 ? mark : i;
+  }
+
+  private int entered(
+    final char state,
+    final char next,
+    final int i,
+    final CharSequence reference,
+    final int[] boundaries
+  ) {
+    if (state == 'C' && next == 'H') {
+      boundaries[0] = i;
+      boundaries[6] = i + 1;
+    } else if (state == 'R' && next == 'A') {
+      boundaries[1] = i + 1;
+      boundaries[3] = i + 1;
+    } else if (state == 'A' && next == 'U') {
+      boundaries[2] = i;
+      boundaries[3] = i + 1;
+    } else if (next == 'I') {
+      return i == boundaries[3] ? -1 : i;
+    } else if (next == 'J') {
+      if (!ipv6(reference, boundaries[3] + 1, i)) {
+        return boundaries[3] + 1;
+      }
+      boundaries[4] = i + 1;
+      boundaries[11] = 2;
+    } else if (next == 'O') {
+      boundaries[4] = state == 'U' ? i : boundaries[4];
+      boundaries[5] = i + 1;
+    }
+    return left(state, next, i, reference, boundaries);
+  }
+
+  private int left(
+    final char state,
+    final char next,
+    final int i,
+    final CharSequence reference,
+    final int[] boundaries
+  ) {
+    var error = "AUJO".indexOf(state) >= 0 && "PQF".indexOf(next) >= 0
+      ? authorityEnd(state, i, reference, boundaries)
+      : -1;
+    if (next == 'Q' && state != 'Z') {
+      boundaries[7] = i;
+      boundaries[8] = i + 1;
+    } else if (next == 'F' && state != 'K') {
+      boundaries[7] = boundaries[7] < 0 ? i : boundaries[7];
+      boundaries[9] = boundaries[8] < 0 ? -1 : i;
+      boundaries[10] = i + 1;
+    }
+    return error;
+  }
+
+  private int authorityEnd(final char state, final int end, final CharSequence reference, final int[] boundaries) {
+    boundaries[6] = end;
+    if (state == 'A') {
+      var colon = index(reference, ':', boundaries[3], end);
+      boundaries[4] = colon < 0 ? end : colon;
+      boundaries[5] = colon < 0 ? -1 : colon + 1;
+      var digits = colon < 0 ? end : digits(reference, colon + 1, end);
+      if (digits < end) {
+        return digits;
+      }
+    } else if (state == 'U') {
+      boundaries[4] = end;
+    }
+    if (boundaries[11] != 2 && ipv4(reference, boundaries[3], boundaries[4])) {
+      boundaries[11] = 1;
+    }
+    return -1;
+  }
+
+  private int ended(final char state, final CharSequence reference, final int mark, final int[] boundaries) {
+    var end = reference.length();
+    var error = "AUJO".indexOf(state) >= 0 ? authorityEnd(state, end, reference, boundaries) : -1;
+    boundaries[7] = boundaries[7] < 0 ? end : boundaries[7];
+    boundaries[9] = boundaries[8] >= 0 && boundaries[10] < 0 ? end : boundaries[9];
+    if (error < 0 && "SCNHRAUJOPQF".indexOf(state) < 0) {
+      return error(state, end, mark, boundaries);
+    }
+    return error;
+  }
+
+  private UriReferenceKind kind(final CharSequence reference, final int[] boundaries) {
+    if (boundaries[0] >= 0) {
+      return boundaries[10] >= 0 ? UriReferenceKind.URI : UriReferenceKind.ABSOLUTE_URI;
+    }
+    if (boundaries[1] >= 0) {
+      return UriReferenceKind.NETWORK_PATH_REFERENCE;
+    }
+    if (boundaries[7] > boundaries[6] && reference.charAt(boundaries[6]) == '/') {
+      return UriReferenceKind.ABSOLUTE_PATH_REFERENCE;
+    }
+    return UriReferenceKind.RELATIVE_PATH_REFERENCE;
+  }
+
+  private int index(final CharSequence reference, final char c, final int start, final int end) {
+    for (var i = start; i < end; i++) {
+      if (reference.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int digits(final CharSequence reference, final int start, final int end) {
+    var i = start;
+    while (i < end && category(reference.charAt(i)) == 2) {
+      i++;
+    }
+    return i;
+  }
+
+  private int hexDigits(final CharSequence reference, final int start, final int end) {
+    var i = start;
+    while (i < end && (category(reference.charAt(i)) == 0 || category(reference.charAt(i)) == 2)) {
+      i++;
+    }
+    return i;
+  }
+
+  /*
+    From RFC3986:
+      IPv6address = 6( h16 ":" ) ls32 / ... / [ *6( h16 ":" ) h16 ] "::"
+      ls32        = ( h16 ":" h16 ) / IPv4address
+      h16         = 1*4HEXDIG
+   */
+  private boolean ipv6(final CharSequence reference, final int start, final int end) {
+    var groups = 0;
+    var compressed = false;
+    var i = start;
+    if (i + 1 < end && reference.charAt(i) == ':' && reference.charAt(i + 1) == ':') {
+      compressed = true;
+      i += 2;
+    }
+    while (i < end) {
+      var j = hexDigits(reference, i, end);
+      if (j < end && reference.charAt(j) == '.') {
+        return ipv4(reference, i, end) && (compressed ? groups < 6 : groups == 6);
+      }
+      if (j == i || j - i > 4) {
+        return false;
+      }
+      groups++;
+      i = j;
+      if (i < end) {
+        if (reference.charAt(i) != ':' || i + 1 == end) {
+          return false;
+        }
+        i++;
+        if (reference.charAt(i) == ':') {
+          if (compressed) {
+            return false;
+          }
+          compressed = true;
+          i++;
+        }
+      }
+    }
+    return compressed ? groups < 8 : groups == 8;
+  }
+
+  /*
+    From RFC3986:
+      IPv4address = dec-octet "." dec-octet "." dec-octet "." dec-octet
+      dec-octet   = DIGIT / %x31-39 DIGIT / "1" 2DIGIT / "2" %x30-34 DIGIT / "25" %x30-35
+   */
+  private boolean ipv4(final CharSequence reference, final int start, final int end) {
+    var i = start;
+    for (var octet = 0; octet < 4; octet++) {
+      var j = digits(reference, i, end);
+      if (!decOctet(reference, i, j) || (octet < 3 ? j == end || reference.charAt(j) != '.' : j != end)) {
+        return false;
+      }
+      i = j + 1;
+    }
+    return true;
+  }
+
+  private boolean decOctet(final CharSequence reference, final int start, final int end) {
+    var length = end - start;
+    return length == 1
+      || length > 1 && length < 4 && reference.charAt(start) != '0' && Integer.parseInt(reference, start, end, 10) < 256;
+  }
+}
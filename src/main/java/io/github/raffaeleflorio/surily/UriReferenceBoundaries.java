@@ -0,0 +1,220 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * Boundaries of the components of an RFC3986 URI reference, found with a single scan of its characters by an
+ * {@link UriReferenceAutomaton}
+ *
+ * <p>The scan happens once, on first use. Every boundary is an index of the reference and a missing component has
+ * negative boundaries. So the reference is expected to be immutable.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#appendix-A">RFC3986 collected ABNF</a>
+ * @since 1.0.0
+ */
+final class UriReferenceBoundaries {
+  /**
+   * Builds the boundaries
+   *
+   * @param reference The URI reference
+   * @since 1.0.0
+   */
+  UriReferenceBoundaries(final CharSequence reference) {
+    this(reference, new UriReferenceAutomaton());
+  }
+
+  /**
+   * Builds the boundaries
+   *
+   * @param reference The URI reference
+   * @param automaton The automaton used to scan the reference
+   * @since 1.0.0
+   */
+  UriReferenceBoundaries(final CharSequence reference, final UriReferenceAutomaton automaton) {
+    this.reference = reference;
+    this.automaton = automaton;
+  }
+
+  /**
+   * Checks if the reference is RFC3986 compliant
+   *
+   * @return True if compliant
+   * @since 1.0.0
+   */
+  boolean valid() {
+    return errorIndex() < 0;
+  }
+
+  /**
+   * Builds the index of the first illegal character
+   *
+   * @return The index or -1 if the reference is compliant
+   * @since 1.0.0
+   */
+  int errorIndex() {
+    return offsets()[12];
+  }
+
+  /**
+   * Builds the end index of the scheme
+   *
+   * @return The index or -1 if the scheme is undefined
+   * @since 1.0.0
+   */
+  int schemeEnd() {
+    return offsets()[0];
+  }
+
+  /**
+   * Builds the start index of the authority
+   *
+   * @return The index or -1 if the authority is undefined
+   * @since 1.0.0
+   */
+  int authorityStart() {
+    return offsets()[1];
+  }
+
+  /**
+   * Builds the end index of the userinfo
+   *
+   * @return The index or -1 if the userinfo is undefined
+   * @since 1.0.0
+   */
+  int userinfoEnd() {
+    return offsets()[2];
+  }
+
+  /**
+   * Builds the start index of the host
+   *
+   * @return The index or -1 if the authority is undefined
+   * @since 1.0.0
+   */
+  int hostStart() {
+    return offsets()[3];
+  }
+
+  /**
+   * Builds the end index of the host
+   *
+   * @return The index or -1 if the authority is undefined
+   * @since 1.0.0
+   */
+  int hostEnd() {
+    return offsets()[4];
+  }
+
+  /**
+   * Checks if the host is an IP literal (i.e. an IPv6 address enclosed in square brackets)
+   *
+   * @return True if it is an IP literal
+   * @since 1.0.0
+   */
+  boolean ipLiteralHost() {
+    return offsets()[11] == 2;
+  }
+
+  /**
+   * Checks if the host is an IPv4 address
+   *
+   * @return True if it is an IPv4 address
+   * @since 1.0.0
+   */
+  boolean ipv4Host() {
+    return offsets()[11] == 1;
+  }
+
+  /**
+   * Builds the start index of the port
+   *
+   * @return The index or -1 if the port is undefined
+   * @since 1.0.0
+   */
+  int portStart() {
+    return offsets()[5];
+  }
+
+  /**
+   * Builds the start index of the path
+   *
+   * @return The index
+   * @since 1.0.0
+   */
+  int pathStart() {
+    return offsets()[6];
+  }
+
+  /**
+   * Builds the end index of the path
+   *
+   * @return The index
+   * @since 1.0.0
+   */
+  int pathEnd() {
+    return offsets()[7];
+  }
+
+  /**
+   * Builds the start index of the query
+   *
+   * @return The index or -1 if the query is undefined
+   * @since 1.0.0
+   */
+  int queryStart() {
+    return offsets()[8];
+  }
+
+  /**
+   * Builds the end index of the query
+   *
+   * @return The index or -1 if the query is undefined
+   * @since 1.0.0
+   */
+  int queryEnd() {
+    return offsets()[9];
+  }
+
+  /**
+   * Builds the start index of the fragment
+   *
+   * @return The index or -1 if the fragment is undefined
+   * @since 1.0.0
+   */
+  int fragmentStart() {
+    return offsets()[10];
+  }
+
+  private int[] offsets() {
+    var result = offsets;
+    if (result == null) {
+      result = scanned();
+      offsets = result;
+    }
+    return result;
+  }
+
+  private int[] scanned() {
+    var boundaries = new int[13];
+    boundaries[12] = automaton.ifValidElse(reference, boundaries, kind -> -1, error -> error);
+    return boundaries;
+  }
+
+  private final CharSequence reference;
+  private final UriReferenceAutomaton automaton;
+  private volatile int[] offsets;
+}
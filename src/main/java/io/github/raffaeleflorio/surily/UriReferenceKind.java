@@ -0,0 +1,56 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * Kinds of RFC3986 URI reference
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-4">RFC3986 about URI reference</a>
+ * @since 1.0.0
+ */
+public enum UriReferenceKind {
+  /**
+   * URI with a scheme and a fragment (e.g. http://example.com/path#fragment)
+   *
+   * @since 1.0.0
+   */
+  URI,
+  /**
+   * URI with a scheme but without a fragment (e.g. http://example.com/path?query)
+   *
+   * @since 1.0.0
+   */
+  ABSOLUTE_URI,
+  /**
+   * Relative reference beginning with two slashes (e.g. //example.com/path)
+   *
+   * @since 1.0.0
+   */
+  NETWORK_PATH_REFERENCE,
+  /**
+   * Relative reference beginning with a single slash (e.g. /path?query)
+   *
+   * @since 1.0.0
+   */
+  ABSOLUTE_PATH_REFERENCE,
+  /**
+   * Relative reference not beginning with a slash (e.g. path/to?query or #fragment)
+   *
+   * @since 1.0.0
+   */
+  RELATIVE_PATH_REFERENCE
+}
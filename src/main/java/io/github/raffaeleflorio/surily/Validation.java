@@ -0,0 +1,38 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Outcome of a validation. It's either valid or an error with the offset where it has been detected.
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public interface Validation {
+  /**
+   * Applies a function according to the outcome
+   *
+   * @param validFn   The function applied if valid
+   * @param invalidFn The function applied to the error and its offset if invalid
+   * @param <T>       The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  <T> T ifValidElse(Supplier<T> validFn, BiFunction<ValidationError, Integer, T> invalidFn);
+}
@@ -0,0 +1,77 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+/**
+ * Error codes of a {@link Validation}
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public enum ValidationError {
+  /**
+   * A scheme with an illegal character
+   */
+  ILLEGAL_SCHEME,
+  /**
+   * A malformed IPv4 address
+   */
+  ILLEGAL_IPV4_ADDRESS,
+  /**
+   * A malformed IPv6 address
+   */
+  ILLEGAL_IPV6_ADDRESS,
+  /**
+   * A port with an illegal character or out of range
+   */
+  ILLEGAL_PORT,
+  /**
+   * A zero-length segment where a non-zero one is required
+   */
+  ZERO_LENGTH_SEGMENT,
+  /**
+   * A colon in a segment where a non-colon one is required
+   */
+  COLON_IN_SEGMENT,
+  /**
+   * An undefined component without representations
+   */
+  UNDEFINED_COMPONENT,
+  /**
+   * A percent-encoded component with an illegal character or a malformed percent-encoded octet
+   */
+  ILLEGAL_PERCENT_ENCODING,
+  /**
+   * A malformed URI reference
+   */
+  ILLEGAL_URI_REFERENCE,
+  /**
+   * An illegal delimiter between query parts
+   */
+  ILLEGAL_DELIMITER,
+  /**
+   * Components that cannot be combined (e.g. an authority with a relative path)
+   */
+  ILLEGAL_STRUCTURE,
+  /**
+   * A malformed CIDR range
+   */
+  ILLEGAL_CIDR_RANGE,
+  /**
+   * An internationalized domain name that cannot be converted to A-labels
+   */
+  ILLEGAL_IDN
+}
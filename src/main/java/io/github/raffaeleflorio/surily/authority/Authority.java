@@ -15,17 +15,18 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.FormatTemplate;
 import io.github.raffaeleflorio.surily.FormattedComponents;
 import io.github.raffaeleflorio.surily.JoinedComponents;
 import io.github.raffaeleflorio.surily.UriComponent;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * RFC3986 compliant authority {@link AuthorityComponent} like: userinfo@host:port
@@ -96,7 +97,7 @@ public final class Authority implements AuthorityComponent {
     final UserinfoSubComponent userinfo,
     final HostSubcomponent host,
     final PortSubcomponent port,
-    final BiFunction<String, List<UriComponent>, UriComponent> formattedFn,
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn,
     final BiFunction<List<UriComponent>, String, UriComponent> joinedFn
   ) {
     this.userinfo = userinfo;
@@ -123,40 +124,40 @@ public final class Authority implements AuthorityComponent {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return concatenatedComponents(formattedComponents()).encoded(charset);
+    return plan().encoded(charset);
   }
 
-  private UriComponent concatenatedComponents(final List<UriComponent> components) {
-    return joinedFn.apply(components, "");
+  private UriComponent plan() {
+    var result = plan;
+    if (result == null) {
+      var components = new ArrayList<UriComponent>(3);
+      userinfo.ifDefinedElse(x -> components.add(formattedFn.apply(USERINFO_TEMPLATE, List.of(x))), () -> false);
+      components.add(host);
+      port.ifDefinedElse(x -> components.add(formattedFn.apply(PORT_TEMPLATE, List.of(x))), () -> false);
+      result = joinedFn.apply(List.copyOf(components), "");
+      plan = result;
+    }
+    return result;
   }
 
-  private List<UriComponent> formattedComponents() {
-    return Stream.of(formattedUserInfo(), formattedHost(), formattedPort())
-      .flatMap(Function.identity())
-      .collect(Collectors.toUnmodifiableList());
-  }
-
-  private Stream<UriComponent> formattedUserInfo() {
-    return userinfo.ifDefinedElse(
-      x -> Stream.of(formattedFn.apply("%s@", List.of(x))),
-      Stream::empty
-    );
+  @Override
+  public int encodedLength(final Charset charset) {
+    return plan().encodedLength(charset);
   }
 
-  private Stream<UriComponent> formattedHost() {
-    return Stream.of(host);
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    plan().appendTo(destination, charset);
   }
 
-  private Stream<UriComponent> formattedPort() {
-    return port.ifDefinedElse(
-      x -> Stream.of(formattedFn.apply(":%s", List.of(x))),
-      Stream::empty
-    );
+  @Override
+  public String asString() {
+    return plan().asString();
   }
 
   @Override
-  public String asString() {
-    return concatenatedComponents(formattedComponents()).asString();
+  public void appendTo(final Appendable destination) {
+    plan().appendTo(destination);
   }
 
   @Override
@@ -164,9 +165,35 @@ public final class Authority implements AuthorityComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof Authority && equal((Authority) o);
+  }
+
+  private boolean equal(final Authority other) {
+    return userinfo.equals(other.userinfo)
+      && host.equals(other.host)
+      && port.equals(other.port);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(userinfo, host, port);
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final FormatTemplate USERINFO_TEMPLATE = new FormatTemplate("%s@");
+  private static final FormatTemplate PORT_TEMPLATE = new FormatTemplate(":%s");
+
   private final UserinfoSubComponent userinfo;
   private final HostSubcomponent host;
   private final PortSubcomponent port;
-  private final BiFunction<String, List<UriComponent>, UriComponent> formattedFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
   private final BiFunction<List<UriComponent>, String, UriComponent> joinedFn;
+  private volatile UriComponent plan;
+  private volatile int hash;
 }
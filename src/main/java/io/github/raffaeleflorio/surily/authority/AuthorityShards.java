@@ -0,0 +1,142 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.UriReference;
+import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Consistent mapping of URI references to shards by their authority (i.e. host and effective port)
+ *
+ * <p>The authority hash is a stable 64-bit hash read straight from the encoded characters of the host and the port,
+ * without rendering the reference. IP addresses and ports are hashed without allocating, while a reg-name streams its
+ * encoded characters into a small hashing {@link Appendable}, so it never builds its encoded string. Reg-names are
+ * case-insensitive and IP addresses are hashed by their binary form (i.e. IPv4 addresses as IPv4-mapped ones). An
+ * undefined or empty port is replaced by the default port of the scheme. References without authority share the same
+ * hash. The hash is mapped to a shard through the jump consistent hash, so adding a shard moves only about 1/N of the
+ * hosts and it moves them only to the new shard.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://arxiv.org/abs/1406.2294">A Fast, Minimal Memory, Consistent Hash Algorithm</a>
+ * @since 1.0.0
+ */
+public final class AuthorityShards {
+  /**
+   * Builds shards with the default ports of the schemes
+   *
+   * @param shards The number of shards
+   * @throws IllegalArgumentException If the number of shards isn't positive
+   * @since 1.0.0
+   */
+  public AuthorityShards(final Integer shards) {
+    this(shards, scheme -> scheme.ifDefaultPortElse(port -> port, () -> -1));
+  }
+
+  /**
+   * Builds shards
+   *
+   * @param shards        The number of shards
+   * @param defaultPortFn The function giving the default port of a scheme, or -1 if it hasn't one
+   * @throws IllegalArgumentException If the number of shards isn't positive
+   * @since 1.0.0
+   */
+  public AuthorityShards(final Integer shards, final ToIntFunction<SchemeComponent> defaultPortFn) {
+    if (shards < 1) {
+      throw new IllegalArgumentException(String.format("Expected a positive number of shards instead of %d", shards));
+    }
+    this.shards = shards;
+    this.defaultPortFn = defaultPortFn;
+  }
+
+  /**
+   * Computes the shard of a reference
+   *
+   * @param reference The reference
+   * @return The shard, from 0 to the number of shards minus one
+   * @since 1.0.0
+   */
+  public int shard(final UriReference reference) {
+    var key = hash(reference);
+    var shard = -1L;
+    var next = 0L;
+    while (next < shards) {
+      shard = next;
+      key = key * 2862933555777941757L + 1;
+      next = (long) ((shard + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+    }
+    return (int) shard;
+  }
+
+  /**
+   * Computes the authority hash of a reference
+   *
+   * @param reference The reference
+   * @return The hash
+   * @since 1.0.0
+   */
+  public long hash(final UriReference reference) {
+    var authority = reference.authority();
+    var host = authority.host().<HostSubcomponent>ifDefinedElse(defined -> defined, () -> null);
+    var port = authority.port().<PortSubcomponent>ifDefinedElse(defined -> defined, () -> null);
+    var number = port == null ? -1 : port(port.encoded(StandardCharsets.UTF_8));
+    var effective = number < 0 ? defaultPortFn.applyAsInt(reference.scheme()) : number;
+    return mixed((host == null ? 0L : hash(host)) ^ (effective + 1L));
+  }
+
+  private long hash(final HostSubcomponent host) {
+    var ipv4 = host.<IPv4Address>ifIpAddressElse(Function.identity(), AuthorityShards::none, AuthorityShards::none);
+    if (ipv4 != null) {
+      return words(0L, 0xFFFF00000000L | Integer.toUnsignedLong(ipv4.bits()));
+    }
+    var ipv6 = host.<IPv6Address>ifIpAddressElse(AuthorityShards::none, Function.identity(), AuthorityShards::none);
+    if (ipv6 != null) {
+      var words = ipv6.words();
+      return words(words[0], words[1]);
+    }
+    var hash = new CaseInsensitiveHash();
+    host.appendTo(hash, StandardCharsets.UTF_8);
+    return hash.value();
+  }
+
+  private static <T, R> R none(final T host) {
+    return null;
+  }
+
+  private long words(final long high, final long low) {
+    return mixed(mixed(high) ^ low);
+  }
+
+  private int port(final CharSequence port) {
+    var result = port.length() == 0 ? -1 : 0;
+    for (var i = 0; i < port.length(); i++) {
+      result = result * 10 + port.charAt(i) - '0';
+    }
+    return result;
+  }
+
+  private long mixed(final long hash) {
+    var result = (hash ^ hash >>> 33) * 0xFF51AFD7ED558CCDL;
+    result = (result ^ result >>> 33) * 0xC4CEB9FE1A85EC53L;
+    return result ^ result >>> 33;
+  }
+
+  private final Integer shards;
+  private final ToIntFunction<SchemeComponent> defaultPortFn;
+}
@@ -0,0 +1,122 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link IPv6Address} rendered in the RFC5952 canonical form, so equal addresses have the same representations
+ *
+ * <p>The representation is written from the binary form in a single pass and then reused.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc5952#section-4">RFC5952 about text representation</a>
+ * @since 1.0.0
+ */
+public final class CanonicalIPv6Address implements HostSubcomponent {
+  /**
+   * Builds a canonical IPv6 address
+   *
+   * @param address The address
+   * @since 1.0.0
+   */
+  public CanonicalIPv6Address(final CharSequence address) {
+    this(new IPv6Address(address));
+  }
+
+  /**
+   * Builds a canonical IPv6 address
+   *
+   * @param origin The address to canonicalize
+   * @since 1.0.0
+   */
+  public CanonicalIPv6Address(final IPv6Address origin) {
+    this(origin, new IPAddressFormat());
+  }
+
+  /**
+   * Builds a canonical IPv6 address
+   *
+   * @param origin The address to canonicalize
+   * @param format The format
+   * @since 1.0.0
+   */
+  CanonicalIPv6Address(final IPv6Address origin, final IPAddressFormat format) {
+    this.origin = origin;
+    this.format = format;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return canonical();
+  }
+
+  private String canonical() {
+    var result = canonical;
+    if (result == null) {
+      var words = origin.words();
+      var buffer = new char[41];
+      buffer[0] = '[';
+      var end = format.ipv6(words[0], words[1], buffer, 1);
+      buffer[end] = ']';
+      result = new String(buffer, 0, end + 1);
+      canonical = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String asString() {
+    return canonical();
+  }
+
+  @Override
+  public Validation validation() {
+    return origin.validation();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public <T> T ifIpAddressElse(
+    final Function<IPv4Address, T> ipv4Fn,
+    final Function<IPv6Address, T> ipv6Fn,
+    final Function<HostSubcomponent, T> otherFn
+  ) {
+    return ipv6Fn.apply(origin);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof CanonicalIPv6Address && origin.equals(((CanonicalIPv6Address) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final IPv6Address origin;
+  private final IPAddressFormat format;
+  private volatile String canonical;
+}
@@ -0,0 +1,70 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+/**
+ * {@link Appendable} that folds the appended characters into a case-insensitive FNV-1a 64-bit hash
+ *
+ * <p>ASCII uppercase letters are hashed as lowercase ones. It lets a host stream its encoded characters into the hash
+ * without rendering them. It's stateful and not thread-safe.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="http://www.isthe.com/chongo/tech/comp/fnv/">FNV hash</a>
+ * @since 1.0.0
+ */
+final class CaseInsensitiveHash implements Appendable {
+  /**
+   * Builds an empty hash
+   *
+   * @since 1.0.0
+   */
+  CaseInsensitiveHash() {
+    this.hash = 0xCBF29CE484222325L;
+  }
+
+  @Override
+  public CaseInsensitiveHash append(final CharSequence csq) {
+    var chars = csq == null ? "null" : csq;
+    return append(chars, 0, chars.length());
+  }
+
+  @Override
+  public CaseInsensitiveHash append(final CharSequence csq, final int start, final int end) {
+    var chars = csq == null ? "null" : csq;
+    for (var i = start; i < end; i++) {
+      append(chars.charAt(i));
+    }
+    return this;
+  }
+
+  @Override
+  public CaseInsensitiveHash append(final char c) {
+    hash = (hash ^ (c >= 'A' && c <= 'Z' ? c | 0x20 : c)) * 0x100000001B3L;
+    return this;
+  }
+
+  /**
+   * Builds the hash of the appended characters
+   *
+   * @return The hash
+   * @since 1.0.0
+   */
+  long value() {
+    return hash;
+  }
+
+  private long hash;
+}
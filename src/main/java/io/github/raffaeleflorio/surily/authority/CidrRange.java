@@ -0,0 +1,199 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.ValidationError;
+
+import java.util.Arrays;
+
+/**
+ * IPv4 or IPv6 address range in CIDR notation (e.g. 10.0.0.0/8 or fd00::/8)
+ *
+ * <p>IPv4 ranges are handled as IPv4-mapped IPv6 ranges (i.e. ::ffff:0:0/96), so an IPv4 range also covers the
+ * IPv4-mapped IPv6 addresses. Bits after the prefix length are ignored, also by equality (e.g. 10.1.0.0/8 equals
+ * 10.0.0.0/8). Malformed ranges are equal only if their address and prefix length are equal.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc4632#section-3.1">RFC4632 about CIDR notation</a>
+ * @since 1.0.0
+ */
+public final class CidrRange {
+  /**
+   * Builds a range from its CIDR notation
+   *
+   * @param range The range (e.g. 192.168.0.0/16 or 2001:db8::/32)
+   * @since 1.0.0
+   */
+  public CidrRange(final CharSequence range) {
+    this(range, range.toString().indexOf('/'));
+  }
+
+  private CidrRange(final CharSequence range, final int slash) {
+    this(
+      slash < 0 ? range : range.subSequence(0, slash),
+      slash < 0 ? "" : range.subSequence(slash + 1, range.length())
+    );
+  }
+
+  private CidrRange(final CharSequence address, final CharSequence length) {
+    this(address.toString().indexOf(':') < 0 ? new IPv4Address(address) : new IPv6Address(address), length);
+  }
+
+  /**
+   * Builds an IPv4 range
+   *
+   * @param address The address
+   * @param length  The prefix length
+   * @since 1.0.0
+   */
+  public CidrRange(final IPv4Address address, final Integer length) {
+    this(address, length.toString());
+  }
+
+  /**
+   * Builds an IPv6 range
+   *
+   * @param address The address
+   * @param length  The prefix length
+   * @since 1.0.0
+   */
+  public CidrRange(final IPv6Address address, final Integer length) {
+    this(address, length.toString());
+  }
+
+  /**
+   * Builds a range
+   *
+   * @param address The address
+   * @param length  The prefix length
+   * @since 1.0.0
+   */
+  CidrRange(final HostSubcomponent address, final CharSequence length) {
+    this.address = address;
+    this.length = length;
+  }
+
+  /**
+   * Builds the address as IPv6 binary form
+   *
+   * @return The most and the least significant 64 bits
+   * @since 1.0.0
+   */
+  long[] words() {
+    return address.ifIpAddressElse(
+      ipv4 -> new long[]{0L, 0xFFFF00000000L | Integer.toUnsignedLong(ipv4.bits())},
+      IPv6Address::words,
+      host -> {
+        throw illegalAddress();
+      }
+    );
+  }
+
+  /**
+   * Builds the prefix length as IPv6 prefix length
+   *
+   * @return The prefix length
+   * @since 1.0.0
+   */
+  int prefixLength() {
+    var offset = address.ifIpAddressElse(ipv4 -> 96, ipv6 -> 0, host -> -1);
+    if (offset < 0) {
+      throw illegalAddress();
+    }
+    var value = parsedLength();
+    if (value < 0 || offset + value > 128) {
+      throw illegalLength();
+    }
+    return offset + value;
+  }
+
+  private int parsedLength() {
+    if (length.length() == 0 || length.length() > 3) {
+      return -1;
+    }
+    var value = 0;
+    for (var i = 0; i < length.length(); i++) {
+      if (length.charAt(i) < '0' || length.charAt(i) > '9') {
+        return -1;
+      }
+      value = value * 10 + length.charAt(i) - '0';
+    }
+    return value;
+  }
+
+  private RuntimeException illegalAddress() {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_CIDR_RANGE,
+      0,
+      "Unable to build a CIDR range without an IP address"
+    );
+  }
+
+  private RuntimeException illegalLength() {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_CIDR_RANGE,
+      0,
+      () -> String.format(
+        "Illegal CIDR prefix length: <%s>",
+        length.length() > 4096 ? length.toString().substring(0, 4096).concat("...") : length
+      )
+    );
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof CidrRange && equal((CidrRange) o);
+  }
+
+  private boolean equal(final CidrRange other) {
+    var masked = masked();
+    return masked == null
+      ? other.masked() == null
+      && address.equals(other.address)
+      && new CharSequenceValue(length).equals(new CharSequenceValue(other.length))
+      : Arrays.equals(masked, other.masked());
+  }
+
+  private long[] masked() {
+    var offset = address.ifIpAddressElse(ipv4 -> 96, ipv6 -> 0, host -> -1);
+    var value = parsedLength();
+    var valid = offset >= 0 && value >= 0 && offset + value <= 128
+      && address.validation().ifValidElse(() -> true, (error, index) -> false);
+    if (!valid) {
+      return null;
+    }
+    var prefix = offset + value;
+    var words = words();
+    return new long[]{
+      prefix == 0 ? 0L : words[0] & (prefix >= 64 ? -1L : -1L << 64 - prefix),
+      prefix <= 64 ? 0L : words[1] & -1L << 128 - prefix,
+      prefix,
+    };
+  }
+
+  @Override
+  public int hashCode() {
+    var masked = masked();
+    return masked == null
+      ? 31 * address.hashCode() + new CharSequenceValue(length).hashCode()
+      : Arrays.hashCode(masked);
+  }
+
+  private final HostSubcomponent address;
+  private final CharSequence length;
+}
@@ -0,0 +1,128 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Immutable index of {@link CidrRange} to find the most specific range containing a host
+ *
+ * <p>The index is a binary trie built on first lookup in O(ranges * 128) and then shared by every thread. A lookup
+ * visits at most 128 nodes and it doesn't allocate. IPv4 addresses and IPv4-mapped IPv6 addresses share the same
+ * ranges. Hosts that aren't IP addresses (e.g. reg-names) never match.</p>
+ *
+ * @param <T> The type of the values associated to the ranges
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class CidrRanges<T> {
+  /**
+   * Builds an index
+   *
+   * @param ranges The non-null values associated to the ranges, copied to keep the index immutable
+   * @since 1.0.0
+   */
+  public CidrRanges(final Map<CidrRange, T> ranges) {
+    this.ranges = Map.copyOf(ranges);
+  }
+
+  /**
+   * Uses a function with the value of the most specific range containing a host, otherwise a supplier
+   *
+   * @param host      The host
+   * @param matchFn   The function used with the value of the matching range
+   * @param noMatchFn The supplier used if no ranges contain the host
+   * @param <R>       The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <R> R ifMatchElse(final HostSubcomponent host, final Function<T, R> matchFn, final Supplier<R> noMatchFn) {
+    return host.ifIpAddressElse(
+      ipv4 -> ifMatchElse(ipv4, matchFn, noMatchFn),
+      ipv6 -> ifMatchElse(ipv6, matchFn, noMatchFn),
+      other -> noMatchFn.get()
+    );
+  }
+
+  /**
+   * Uses a function with the value of the most specific range containing an IPv4 address, otherwise a supplier
+   *
+   * @param host      The IPv4 address
+   * @param matchFn   The function used with the value of the matching range
+   * @param noMatchFn The supplier used if no ranges contain the address
+   * @param <R>       The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <R> R ifMatchElse(final IPv4Address host, final Function<T, R> matchFn, final Supplier<R> noMatchFn) {
+    return found(trie().matched(0L, 0xFFFF00000000L | Integer.toUnsignedLong(host.bits())), matchFn, noMatchFn);
+  }
+
+  /**
+   * Uses a function with the value of the most specific range containing an IPv6 address, otherwise a supplier
+   *
+   * @param host      The IPv6 address
+   * @param matchFn   The function used with the value of the matching range
+   * @param noMatchFn The supplier used if no ranges contain the address
+   * @param <R>       The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <R> R ifMatchElse(final IPv6Address host, final Function<T, R> matchFn, final Supplier<R> noMatchFn) {
+    var words = host.words();
+    return found(trie().matched(words[0], words[1]), matchFn, noMatchFn);
+  }
+
+  private <R> R found(final T value, final Function<T, R> matchFn, final Supplier<R> noMatchFn) {
+    return value == null ? noMatchFn.get() : matchFn.apply(value);
+  }
+
+  private CidrTrie<T> trie() {
+    var result = trie;
+    if (result == null) {
+      var children = new int[256];
+      var values = new ArrayList<T>();
+      values.add(null);
+      for (var range : ranges.entrySet()) {
+        var words = range.getKey().words();
+        var length = range.getKey().prefixLength();
+        var node = 0;
+        for (var depth = 0; depth < length; depth++) {
+          var slot = 2 * node + ((int) (words[depth >>> 6] >>> 63 - (depth & 63)) & 1);
+          if (children[slot] == 0) {
+            if (children.length < 2 * values.size() + 2) {
+              children = Arrays.copyOf(children, children.length * 2);
+            }
+            children[slot] = values.size();
+            values.add(null);
+          }
+          node = children[slot];
+        }
+        values.set(node, range.getValue());
+      }
+      result = new CidrTrie<>(children, values);
+      trie = result;
+    }
+    return result;
+  }
+
+  private final Map<CidrRange, T> ranges;
+  private volatile CidrTrie<T> trie;
+}
@@ -0,0 +1,68 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import java.util.List;
+
+/**
+ * Binary trie over 128-bit prefixes
+ *
+ * <p>Node 0 is the root. Each node has two slots in the children array (i.e. one for each bit) and the index 0 means
+ * no child, since the root cannot be a child.</p>
+ *
+ * @param <T> The value type
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class CidrTrie<T> {
+  /**
+   * Builds a trie
+   *
+   * @param children The children of each node
+   * @param values   The value of each node, null if the node isn't a prefix end
+   * @since 1.0.0
+   */
+  CidrTrie(final int[] children, final List<T> values) {
+    this.children = children;
+    this.values = values;
+  }
+
+  /**
+   * Finds the value of the longest prefix matching an address
+   *
+   * @param high The most significant 64 bits of the address
+   * @param low  The least significant 64 bits of the address
+   * @return The value or null if no prefix matches
+   * @since 1.0.0
+   */
+  T matched(final long high, final long low) {
+    var result = values.get(0);
+    var node = 0;
+    for (var depth = 0; depth < 128; depth++) {
+      node = children[2 * node + ((int) ((depth < 64 ? high : low) >>> 63 - (depth & 63)) & 1)];
+      if (node == 0) {
+        break;
+      }
+      if (values.get(node) != null) {
+        result = values.get(node);
+      }
+    }
+    return result;
+  }
+
+  private final int[] children;
+  private final List<T> values;
+}
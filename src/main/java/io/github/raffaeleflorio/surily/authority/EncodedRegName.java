@@ -0,0 +1,89 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.LowerCaseAscii;
+import io.github.raffaeleflorio.surily.PercentEncodedComponent;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.SubDelims;
+import io.github.raffaeleflorio.surily.characters.UnreservedCharacters;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * RFC3986 compliant reg-name {@link HostSubcomponent} built from an already percent-encoded reg-name
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class EncodedRegName implements HostSubcomponent {
+  /**
+   * Builds a reg-name
+   *
+   * @param regname The percent-encoded reg-name
+   * @since 1.0.0
+   */
+  public EncodedRegName(final CharSequence regname) {
+    this(regname, new PercentEncodedComponent(regname, ALLOWED_CHARACTERS));
+  }
+
+  private EncodedRegName(final CharSequence regname, final UriComponent origin) {
+    this.value = new CharSequenceValue(new LowerCaseAscii(regname));
+    this.origin = origin;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return origin.encoded(charset);
+  }
+
+  @Override
+  public Validation validation() {
+    return origin.validation();
+  }
+
+  @Override
+  public String asString() {
+    return origin.asString();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof EncodedRegName && value.equals(((EncodedRegName) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new UnreservedCharacters(), new SubDelims()));
+
+  private final CharSequenceValue value;
+  private final UriComponent origin;
+}
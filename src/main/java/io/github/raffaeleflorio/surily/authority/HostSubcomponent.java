@@ -39,6 +39,24 @@ public interface HostSubcomponent extends UriComponent {
    */
   <T> T ifDefinedElse(Function<HostSubcomponent, T> fn, Supplier<T> undefinedFn);
 
+  /**
+   * Uses a function according to the kind of IP address of the host, otherwise another one
+   *
+   * @param ipv4Fn  The function used when the host is an IPv4 address
+   * @param ipv6Fn  The function used when the host is an IPv6 address
+   * @param otherFn The function used when the host isn't an IP address
+   * @param <T>     The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  default <T> T ifIpAddressElse(
+    final Function<IPv4Address, T> ipv4Fn,
+    final Function<IPv6Address, T> ipv6Fn,
+    final Function<HostSubcomponent, T> otherFn
+  ) {
+    return otherFn.apply(this);
+  }
+
   /**
    * {@link HostSubcomponent} for testing purpose
    *
@@ -0,0 +1,152 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+/**
+ * Writer of the textual form of binary IP addresses into a caller-provided buffer
+ *
+ * <p>IPv6 addresses are written in the RFC5952 canonical form: lowercase hexadecimal digits without leading zeros,
+ * the longest run of at least two zero groups (the first one on ties) compressed to "::" and IPv4-mapped addresses in
+ * the mixed notation (e.g. ::ffff:192.0.2.1).</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc5952#section-4">RFC5952 about text representation</a>
+ * @since 1.0.0
+ */
+final class IPAddressFormat {
+  /**
+   * Builds a format
+   *
+   * @since 1.0.0
+   */
+  IPAddressFormat() {
+
+  }
+
+  /**
+   * Builds the dotted-decimal form of an IPv4 address
+   *
+   * @param address The packed address
+   * @return The dotted-decimal form
+   * @since 1.0.0
+   */
+  String ipv4(final int address) {
+    var buffer = new char[15];
+    return new String(buffer, 0, ipv4(address, buffer, 0));
+  }
+
+  /**
+   * Writes an IPv4 address in dotted-decimal form (i.e. at most 15 chars)
+   *
+   * @param address The packed address
+   * @param buffer  The buffer
+   * @param offset  The offset where to start to write
+   * @return The offset after the last written char
+   * @since 1.0.0
+   */
+  int ipv4(final int address, final char[] buffer, final int offset) {
+    var i = offset;
+    for (var shift = 24; shift > -1; shift -= 8) {
+      var octet = address >>> shift & 0xFF;
+      if (octet > 99) {
+        buffer[i++] = (char) ('0' + octet / 100);
+      }
+      if (octet > 9) {
+        buffer[i++] = (char) ('0' + octet / 10 % 10);
+      }
+      buffer[i++] = (char) ('0' + octet % 10);
+      if (shift > 0) {
+        buffer[i++] = '.';
+      }
+    }
+    return i;
+  }
+
+  /**
+   * Builds the canonical form of an IPv6 address
+   *
+   * @param high The most significant 64 bits
+   * @param low  The least significant 64 bits
+   * @return The canonical form
+   * @since 1.0.0
+   */
+  String ipv6(final long high, final long low) {
+    var buffer = new char[39];
+    return new String(buffer, 0, ipv6(high, low, buffer, 0));
+  }
+
+  /**
+   * Writes an IPv6 address in canonical form (i.e. at most 39 chars)
+   *
+   * @param high   The most significant 64 bits
+   * @param low    The least significant 64 bits
+   * @param buffer The buffer
+   * @param offset The offset where to start to write
+   * @return The offset after the last written char
+   * @since 1.0.0
+   */
+  int ipv6(final long high, final long low, final char[] buffer, final int offset) {
+    var mapped = high == 0 && low >>> 32 == 0xFFFF;
+    var groups = mapped ? 6 : 8;
+    var runStart = -1;
+    var bestStart = -1;
+    var bestLength = 1;
+    for (var group = 0; group < groups; group++) {
+      if (hextet(high, low, group) != 0) {
+        runStart = -1;
+      } else {
+        runStart = runStart < 0 ? group : runStart;
+        if (group - runStart + 1 > bestLength) {
+          bestStart = runStart;
+          bestLength = group - runStart + 1;
+        }
+      }
+    }
+    var i = offset;
+    for (var group = 0; group < groups; group++) {
+      if (group == bestStart) {
+        buffer[i++] = ':';
+        buffer[i++] = ':';
+        group += bestLength - 1;
+      } else {
+        if (group > 0 && group != bestStart + bestLength) {
+          buffer[i++] = ':';
+        }
+        i = hex(hextet(high, low, group), buffer, i);
+      }
+    }
+    if (mapped) {
+      buffer[i++] = ':';
+      i = ipv4((int) low, buffer, i);
+    }
+    return i;
+  }
+
+  private int hextet(final long high, final long low, final int group) {
+    return (int) ((group < 4 ? high : low) >>> 48 - 16 * (group & 3)) & 0xFFFF;
+  }
+
+  private int hex(final int hextet, final char[] buffer, final int offset) {
+    var i = offset;
+    for (var shift = 12; shift > -1; shift -= 4) {
+      var digit = hextet >>> shift & 0xF;
+      if (digit != 0 || shift == 0 || i > offset) {
+        buffer[i++] = "0123456789abcdef".charAt(digit);
+      }
+    }
+    return i;
+  }
+}
@@ -15,20 +15,27 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * RFC3986 compliant IPv4 address {@link HostSubcomponent}
  *
+ * <p>The address is parsed once, on first need, to its packed 32-bit form. Addresses are ordered numerically.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @since 1.0.0
  */
-public final class IPv4Address implements HostSubcomponent {
+public final class IPv4Address implements HostSubcomponent, Comparable<IPv4Address> {
   /**
    * Builds an IPv4 address
    *
@@ -43,7 +50,12 @@ public final class IPv4Address implements HostSubcomponent {
     final Integer third,
     final Integer fourth
   ) {
-    this(List.of(first.toString(), second.toString(), third.toString(), fourth.toString()));
+    this(
+      (first | second | third | fourth) >>> 8 == 0 ? null : first + "." + second + "." + third + "." + fourth,
+      (first | second | third | fourth) >>> 8 == 0 ? (long) first << 24 | second << 16 | third << 8 | fourth : -1L,
+      new IPv4AddressParser(),
+      new IPAddressFormat()
+    );
   }
 
   /**
@@ -55,24 +67,46 @@ public final class IPv4Address implements HostSubcomponent {
     this(String.join(".", octets));
   }
 
+  /**
+   * Builds an IPv4 address from its packed form
+   *
+   * @param address The address as 32 bits where the most significant octet is the first one
+   * @since 1.0.0
+   */
+  public IPv4Address(final int address) {
+    this(null, Integer.toUnsignedLong(address), new IPv4AddressParser(), new IPAddressFormat());
+  }
+
   /**
    * Builds an IPv4 address
    *
    * @param address The address
    */
   public IPv4Address(final CharSequence address) {
-    this(address, Pattern::matches);
+    this(address, new IPv4AddressParser());
   }
 
   /**
    * Builds an IPv4 address
    *
    * @param address The address
-   * @param matchFn The function used to match a string against a regexp
+   * @param parser  The parser
+   * @since 1.0.0
    */
-  IPv4Address(final CharSequence address, final BiFunction<String, CharSequence, Boolean> matchFn) {
+  IPv4Address(final CharSequence address, final IPv4AddressParser parser) {
+    this(address, Long.MIN_VALUE, parser, new IPAddressFormat());
+  }
+
+  private IPv4Address(
+    final CharSequence address,
+    final long parsed,
+    final IPv4AddressParser parser,
+    final IPAddressFormat format
+  ) {
     this.address = address;
-    this.matchFn = matchFn;
+    this.parsed = parsed;
+    this.parser = parser;
+    this.format = format;
   }
 
   @Override
@@ -81,39 +115,55 @@ public final class IPv4Address implements HostSubcomponent {
   }
 
   private String address() {
-    if (legalAddress()) {
-      return address.toString();
+    var result = text;
+    if (result == null) {
+      var value = bits();
+      result = address == null ? format.ipv4(value) : address.toString();
+      text = result;
     }
-    throw illegalIPAddress();
+    return result;
   }
 
-  /*
-    From RFC3986:
-      IPv4address = dec-octet "." dec-octet "." dec-octet "." dec-octet
-
-      dec-octet   = DIGIT                 ; 0-9
-                  / %x31-39 DIGIT         ; 10-99
-                  / "1" 2DIGIT            ; 100-199
-                  / "2" %x30-34 DIGIT     ; 200-249
-                  / "25" %x30-35          ; 250-255
+  private long parsed() {
+    var result = parsed;
+    if (result == Long.MIN_VALUE) {
+      result = parser.parsed(address, 0);
+      parsed = result;
+    }
+    return result;
+  }
 
+  /**
+   * Builds the packed form
+   *
+   * @return The address as 32 bits where the most significant octet is the first one
+   * @since 1.0.0
    */
-  private Boolean legalAddress() {
-    return matchFn.apply(
-      "^(([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])\\.){3}([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$",
-      address
-    );
+  int bits() {
+    var result = parsed();
+    if (result < 0) {
+      throw illegalIPAddress((int) -result - 1);
+    }
+    return (int) result;
   }
 
-  private RuntimeException illegalIPAddress() {
-    return new IllegalStateException(
-      String.format(
+  private RuntimeException illegalIPAddress(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_IPV4_ADDRESS,
+      illegal,
+      () -> String.format(
         "Illegal IPv4 address: <%s>",
         address.length() > 4096 ? address.toString().substring(0, 4096).concat("...") : address
       )
     );
   }
 
+  @Override
+  public Validation validation() {
+    var result = parsed();
+    return result < 0 ? new Invalid(ValidationError.ILLEGAL_IPV4_ADDRESS, (int) -result - 1) : new Valid();
+  }
+
   @Override
   public String asString() {
     return address();
@@ -124,6 +174,41 @@ public final class IPv4Address implements HostSubcomponent {
     return fn.apply(this);
   }
 
+  @Override
+  public <T> T ifIpAddressElse(
+    final Function<IPv4Address, T> ipv4Fn,
+    final Function<IPv6Address, T> ipv6Fn,
+    final Function<HostSubcomponent, T> otherFn
+  ) {
+    return ipv4Fn.apply(this);
+  }
+
+  @Override
+  public int compareTo(final IPv4Address other) {
+    return Integer.compareUnsigned(bits(), other.bits());
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof IPv4Address && equal((IPv4Address) o);
+  }
+
+  private boolean equal(final IPv4Address other) {
+    var parsed = parsed();
+    return parsed < 0
+      ? other.parsed() < 0 && new CharSequenceValue(address).equals(new CharSequenceValue(other.address))
+      : parsed == other.parsed();
+  }
+
+  @Override
+  public int hashCode() {
+    var parsed = parsed();
+    return parsed < 0 ? new CharSequenceValue(address).hashCode() : Long.hashCode(parsed);
+  }
+
   private final CharSequence address;
-  private final BiFunction<String, CharSequence, Boolean> matchFn;
+  private final IPv4AddressParser parser;
+  private final IPAddressFormat format;
+  private volatile long parsed;
+  private volatile String text;
 }
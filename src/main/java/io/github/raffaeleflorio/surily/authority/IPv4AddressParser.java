@@ -0,0 +1,77 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+/**
+ * Single-scan RFC3986 IPv4 address parser producing the 32-bit binary form
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class IPv4AddressParser {
+  /**
+   * Builds a parser
+   *
+   * @since 1.0.0
+   */
+  IPv4AddressParser() {
+
+  }
+
+  /*
+    From RFC3986:
+      IPv4address = dec-octet "." dec-octet "." dec-octet "." dec-octet
+
+      dec-octet   = DIGIT                 ; 0-9
+                  / %x31-39 DIGIT         ; 10-99
+                  / "1" 2DIGIT            ; 100-199
+                  / "2" %x30-34 DIGIT     ; 200-249
+                  / "25" %x30-35          ; 250-255
+   */
+
+  /**
+   * Parses an address from an offset to the end of a char sequence
+   *
+   * @param address The char sequence
+   * @param start   The offset where the address starts
+   * @return The address as the unsigned 32 least significant bits if legal, otherwise the negated illegal offset minus
+   * one (i.e. -offset-1)
+   * @since 1.0.0
+   */
+  long parsed(final CharSequence address, final int start) {
+    var i = start;
+    var value = 0L;
+    for (var octet = 0; octet < 4; octet++) {
+      if (octet > 0) {
+        if (i == address.length() || address.charAt(i) != '.') {
+          return -i - 1;
+        }
+        i++;
+      }
+      var octetStart = i;
+      var octetValue = 0;
+      while (i < address.length() && i - octetStart < 3 && address.charAt(i) >= '0' && address.charAt(i) <= '9') {
+        octetValue = octetValue * 10 + address.charAt(i) - '0';
+        i++;
+      }
+      if (i == octetStart || octetValue > 255 || i - octetStart > 1 && address.charAt(octetStart) == '0') {
+        return -octetStart - 1;
+      }
+      value = value << 8 | octetValue;
+    }
+    return i == address.length() ? value : -i - 1;
+  }
+}
@@ -15,20 +15,28 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * RFC3986 compliant IPv6 address {@link HostSubcomponent}
  *
+ * <p>The address is parsed once, on first need, to its 128-bit binary form. Addresses are ordered numerically.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @since 1.0.0
  */
-public final class IPv6Address implements HostSubcomponent {
+public final class IPv6Address implements HostSubcomponent, Comparable<IPv6Address> {
   /**
    * Builds an IPv6 address
    *
@@ -39,6 +47,18 @@ public final class IPv6Address implements HostSubcomponent {
     this(String.join(":", hextets));
   }
 
+  /**
+   * Builds an IPv6 address from its binary form. Its text is the RFC5952 canonical one.
+   *
+   * @param high The most significant 64 bits
+   * @param low  The least significant 64 bits
+   * @since 1.0.0
+   */
+  public IPv6Address(final long high, final long low) {
+    this(new IPAddressFormat().ipv6(high, low));
+    this.words = new long[]{high, low};
+  }
+
   /**
    * Builds an IPv6 address
    *
@@ -46,19 +66,19 @@ public final class IPv6Address implements HostSubcomponent {
    * @since 1.0.0
    */
   public IPv6Address(final CharSequence address) {
-    this(address, Pattern::matches);
+    this(address, new IPv6AddressParser());
   }
 
   /**
    * Builds an IPv6 address
    *
    * @param address The address
-   * @param matchFn The function used to match a string against a regexp
+   * @param parser  The parser
    * @since 1.0.0
    */
-  IPv6Address(final CharSequence address, final BiFunction<String, CharSequence, Boolean> matchFn) {
+  IPv6Address(final CharSequence address, final IPv6AddressParser parser) {
     this.address = address;
-    this.matchFn = matchFn;
+    this.parser = parser;
   }
 
   @Override
@@ -67,60 +87,55 @@ public final class IPv6Address implements HostSubcomponent {
   }
 
   private String address() {
-    if (legalAddress()) {
+    var illegal = illegalOffset();
+    if (illegal < 0) {
       return "[".concat(address.toString()).concat("]");
     }
-    throw illegalIPAddress();
-  }
-
-  /*
-    From RFC3986:
-      IPv6address =                            6( h16 ":" ) ls32
-                  /                       "::" 5( h16 ":" ) ls32
-                  / [               h16 ] "::" 4( h16 ":" ) ls32
-                  / [ *1( h16 ":" ) h16 ] "::" 3( h16 ":" ) ls32
-                  / [ *2( h16 ":" ) h16 ] "::" 2( h16 ":" ) ls32
-                  / [ *3( h16 ":" ) h16 ] "::"    h16 ":"   ls32
-                  / [ *4( h16 ":" ) h16 ] "::"              ls32
-                  / [ *5( h16 ":" ) h16 ] "::"              h16
-                  / [ *6( h16 ":" ) h16 ] "::"
-
-      ls32        = ( h16 ":" h16 ) / IPv4address
-                  ; least-significant 32 bits of address
-
-      h16         = 1*4HEXDIG
-                  ; 16 bits of address represented in hexadecimal
+    throw illegalIPAddress(illegal);
+  }
+
+  private int illegalOffset() {
+    if (words != null) {
+      return -1;
+    }
+    var parsed = new long[2];
+    var illegal = parser.parsed(address, parsed);
+    if (illegal < 0) {
+      words = parsed;
+    }
+    return illegal;
+  }
+
+  /**
+   * Builds the binary form
+   *
+   * @return The most and the least significant 64 bits
+   * @since 1.0.0
    */
-  private Boolean legalAddress() {
-    var h16 = "[a-fA-F0-9]{1,4}";
-    var ipv4 = "(([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])\\.){3}([0-9]|[1-9][0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])";
-    var ls32 = String.format("(%s:%s)|(%s)", h16, h16, ipv4);
-    var first = String.format("(%s:){6}(%s)", h16, ls32);
-    var second = String.format("::(%s:){5}(%s)", h16, ls32);
-    var third = String.format("(%s)?::(%s:){4}(%s)", h16, h16, ls32);
-    var fourth = String.format("((%s:){0,1}%s)?::(%s:){3}(%s)", h16, h16, h16, ls32);
-    var fifth = String.format("((%s:){0,2}%s)?::(%s:){2}(%s)", h16, h16, h16, ls32);
-    var sixth = String.format("((%s:){0,3}%s)?::%s:(%s)", h16, h16, h16, ls32);
-    var seventh = String.format("((%s:){0,4}%s)?::(%s)", h16, h16, ls32);
-    var eighth = String.format("((%s:){0,5}%s)?::%s", h16, h16, h16);
-    var ninth = String.format("((%s:){0,6}%s)?::", h16, h16);
-    return matchFn.apply(
-      String.format(
-        "^((%s)|(%s)|(%s)|(%s)|(%s)|(%s)|(%s)|(%s)|(%s))$",
-        first, second, third, fourth, fifth, sixth, seventh, eighth, ninth
-      ),
-      address
-    );
+  long[] words() {
+    var illegal = illegalOffset();
+    if (illegal < 0) {
+      return words;
+    }
+    throw illegalIPAddress(illegal);
   }
 
-  private RuntimeException illegalIPAddress() {
-    return new IllegalStateException(
-      String.format(
+  private RuntimeException illegalIPAddress(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_IPV6_ADDRESS,
+      illegal,
+      () -> String.format(
         "Illegal IPv6 address: <%s>",
         address.length() > 4096 ? address.toString().substring(0, 4096).concat("...") : address)
     );
   }
 
+  @Override
+  public Validation validation() {
+    var illegal = illegalOffset();
+    return illegal < 0 ? new Valid() : new Invalid(ValidationError.ILLEGAL_IPV6_ADDRESS, illegal);
+  }
+
   @Override
   public String asString() {
     return address();
@@ -131,6 +146,40 @@ public final class IPv6Address implements HostSubcomponent {
     return fn.apply(this);
   }
 
+  @Override
+  public <T> T ifIpAddressElse(
+    final Function<IPv4Address, T> ipv4Fn,
+    final Function<IPv6Address, T> ipv6Fn,
+    final Function<HostSubcomponent, T> otherFn
+  ) {
+    return ipv6Fn.apply(this);
+  }
+
+  @Override
+  public int compareTo(final IPv6Address other) {
+    var words = words();
+    var otherWords = other.words();
+    var high = Long.compareUnsigned(words[0], otherWords[0]);
+    return high != 0 ? high : Long.compareUnsigned(words[1], otherWords[1]);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof IPv6Address && equal((IPv6Address) o);
+  }
+
+  private boolean equal(final IPv6Address other) {
+    return illegalOffset() < 0
+      ? other.illegalOffset() < 0 && Arrays.equals(words, other.words)
+      : other.illegalOffset() >= 0 && new CharSequenceValue(address).equals(new CharSequenceValue(other.address));
+  }
+
+  @Override
+  public int hashCode() {
+    return illegalOffset() < 0 ? Arrays.hashCode(words) : new CharSequenceValue(address).hashCode();
+  }
+
   private final CharSequence address;
-  private final BiFunction<String, CharSequence, Boolean> matchFn;
+  private final IPv6AddressParser parser;
+  private volatile long[] words;
 }
@@ -0,0 +1,164 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+/**
+ * Linear-time RFC3986 IPv6 address parser producing the 128-bit binary form
+ *
+ * <p>It never backtracks across groups and it doesn't allocate. Only the digits of an embedded IPv4 address are read
+ * twice.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class IPv6AddressParser {
+  /**
+   * Builds a parser
+   *
+   * @since 1.0.0
+   */
+  IPv6AddressParser() {
+    this(new IPv4AddressParser());
+  }
+
+  /**
+   * Builds a parser
+   *
+   * @param ipv4Parser The parser of the embedded IPv4 address
+   * @since 1.0.0
+   */
+  IPv6AddressParser(final IPv4AddressParser ipv4Parser) {
+    this.ipv4Parser = ipv4Parser;
+  }
+
+  /*
+    From RFC3986:
+      IPv6address =                            6( h16 ":" ) ls32
+                  /                       "::" 5( h16 ":" ) ls32
+                  / [               h16 ] "::" 4( h16 ":" ) ls32
+                  / [ *1( h16 ":" ) h16 ] "::" 3( h16 ":" ) ls32
+                  / [ *2( h16 ":" ) h16 ] "::" 2( h16 ":" ) ls32
+                  / [ *3( h16 ":" ) h16 ] "::"    h16 ":"   ls32
+                  / [ *4( h16 ":" ) h16 ] "::"              ls32
+                  / [ *5( h16 ":" ) h16 ] "::"              h16
+                  / [ *6( h16 ":" ) h16 ] "::"
+
+      ls32        = ( h16 ":" h16 ) / IPv4address
+                  ; least-significant 32 bits of address
+
+      h16         = 1*4HEXDIG
+                  ; 16 bits of address represented in hexadecimal
+
+    That is: at most seven groups around a single "::", otherwise exactly eight groups, where an IPv4 address counts
+    as two trailing groups.
+   */
+
+  /**
+   * Parses an address
+   *
+   * @param address The address without brackets
+   * @param words   The array where the most and the least significant 64 bits are written if legal
+   * @return -1 if legal, otherwise the offset of the first illegal character
+   * @since 1.0.0
+   */
+  int parsed(final CharSequence address, final long[] words) {
+    var length = address.length();
+    var i = 0;
+    var groups = 0;
+    var compressed = -1;
+    var headHigh = 0L;
+    var headLow = 0L;
+    var high = 0L;
+    var low = 0L;
+    if (length > 1 && address.charAt(0) == ':' && address.charAt(1) == ':') {
+      compressed = 0;
+      i = 2;
+    }
+    while (compressed < 0 || i < length) {
+      if (groups == (compressed < 0 ? 8 : 7)) {
+        return i;
+      }
+      var start = i;
+      var hextet = 0;
+      while (i < length && i - start < 4 && hexValue(address.charAt(i)) > -1) {
+        hextet = hextet << 4 | hexValue(address.charAt(i));
+        i++;
+      }
+      if (i < length && address.charAt(i) == '.') {
+        var ipv4 = ipv4Parser.parsed(address, start);
+        if (ipv4 < 0) {
+          return (int) -ipv4 - 1;
+        }
+        if (groups > (compressed < 0 ? 6 : 5)) {
+          return start;
+        }
+        high = high << 32 | low >>> 32;
+        low = low << 32 | ipv4;
+        groups += 2;
+        break;
+      }
+      if (i == start || i < length && hexValue(address.charAt(i)) > -1) {
+        return i;
+      }
+      high = high << 16 | low >>> 48;
+      low = low << 16 | hextet;
+      groups++;
+      if (i == length) {
+        break;
+      }
+      if (address.charAt(i) != ':') {
+        return i;
+      }
+      i++;
+      if (i == length) {
+        return i;
+      }
+      if (address.charAt(i) == ':') {
+        if (compressed > -1 || groups == 8) {
+          return i;
+        }
+        compressed = groups;
+        headHigh = high;
+        headLow = low;
+        high = 0L;
+        low = 0L;
+        i++;
+      }
+    }
+    if (compressed < 0) {
+      if (groups < 8) {
+        return length;
+      }
+      words[0] = high;
+      words[1] = low;
+    } else {
+      var shift = 16 * (8 - compressed);
+      words[0] = (shift < 64 ? headHigh << shift | headLow >>> 64 - shift : headLow << shift - 64) | high;
+      words[1] = (shift < 64 ? headLow << shift : 0L) | low;
+    }
+    return -1;
+  }
+
+  private int hexValue(final char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    var lower = c | 0x20;
+    return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+  }
+
+  private final IPv4AddressParser ipv4Parser;
+}
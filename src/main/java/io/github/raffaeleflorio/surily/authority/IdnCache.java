@@ -0,0 +1,104 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import java.net.IDN;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Bounded concurrent cache of IDNA conversions to share among {@link IdnRegName}
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3490">RFC3490 about IDNA</a>
+ * @since 1.0.0
+ */
+public final class IdnCache {
+  /**
+   * Builds a cache with 16 stripes of 1024 conversions for each direction
+   *
+   * @since 1.0.0
+   */
+  public IdnCache() {
+    this(16, 1024);
+  }
+
+  /**
+   * Builds a cache
+   *
+   * @param stripes  The number of stripes
+   * @param capacity The maximum number of conversions of each stripe for each direction
+   * @throws IllegalArgumentException If the number of stripes isn't positive or the capacity is negative
+   * @since 1.0.0
+   */
+  public IdnCache(final Integer stripes, final Integer capacity) {
+    this(
+      new StripedLruCache<>(stripes, capacity),
+      new StripedLruCache<>(stripes, capacity),
+      IDN::toASCII,
+      IDN::toUnicode
+    );
+  }
+
+  /**
+   * Builds a cache
+   *
+   * @param asciis    The cache of the A-labels conversions
+   * @param unicodes  The cache of the U-labels conversions
+   * @param asciiFn   The function to convert to A-labels
+   * @param unicodeFn The function to convert to U-labels
+   * @since 1.0.0
+   */
+  IdnCache(
+    final StripedLruCache<String, String> asciis,
+    final StripedLruCache<String, String> unicodes,
+    final Function<String, String> asciiFn,
+    final Function<String, String> unicodeFn
+  ) {
+    this.asciis = asciis;
+    this.unicodes = unicodes;
+    this.asciiFn = asciiFn;
+    this.unicodeFn = unicodeFn;
+  }
+
+  /**
+   * Converts a host to its lowercase A-labels
+   *
+   * @param host The host
+   * @return The A-labels
+   * @throws IllegalArgumentException If the host isn't a legal internationalized domain name
+   * @since 1.0.0
+   */
+  String ascii(final String host) {
+    return asciis.value(host, x -> asciiFn.apply(x).toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Converts a host to its U-labels
+   *
+   * @param host The host
+   * @return The U-labels
+   * @since 1.0.0
+   */
+  String unicode(final String host) {
+    return unicodes.value(host, unicodeFn);
+  }
+
+  private final StripedLruCache<String, String> asciis;
+  private final StripedLruCache<String, String> unicodes;
+  private final Function<String, String> asciiFn;
+  private final Function<String, String> unicodeFn;
+}
@@ -0,0 +1,201 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.SubDelims;
+import io.github.raffaeleflorio.surily.characters.UnreservedCharacters;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Internationalized domain name {@link HostSubcomponent}
+ *
+ * <p>The encoded representation is made of lowercase A-labels (e.g. xn--bcher-kva.example) and the unencoded one of
+ * U-labels (e.g. bücher.example). Pure ASCII hosts without A-labels are only lowercased, without any IDNA
+ * processing. Other conversions go through an {@link IdnCache}.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3490">RFC3490 about IDNA</a>
+ * @since 1.0.0
+ */
+public final class IdnRegName implements HostSubcomponent {
+  /**
+   * Builds an internationalized domain name with a default cache shared among instances
+   *
+   * @param host The host with either A-labels or U-labels
+   * @since 1.0.0
+   */
+  public IdnRegName(final CharSequence host) {
+    this(host, SHARED_CACHE);
+  }
+
+  /**
+   * Builds an internationalized domain name
+   *
+   * @param host  The host with either A-labels or U-labels
+   * @param cache The conversions cache
+   * @since 1.0.0
+   */
+  public IdnRegName(final CharSequence host, final IdnCache cache) {
+    this(host, cache, ALLOWED_CHARACTERS);
+  }
+
+  /**
+   * Builds an internationalized domain name
+   *
+   * @param host       The host with either A-labels or U-labels
+   * @param cache      The conversions cache
+   * @param characters The characters allowed in the encoded representation (i.e. unreserved and sub-delims)
+   * @since 1.0.0
+   */
+  IdnRegName(final CharSequence host, final IdnCache cache, final AsciiCharacterClass characters) {
+    this.host = host;
+    this.cache = cache;
+    this.characters = characters;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    var ascii = ascii();
+    var illegal = illegalOffset(ascii);
+    if (illegal < 0) {
+      return ascii;
+    }
+    throw illegalHost(illegal);
+  }
+
+  private String ascii() {
+    var text = host.toString();
+    if (plainAscii(text)) {
+      return lowercase(text);
+    }
+    try {
+      return cache.ascii(text);
+    } catch (IllegalArgumentException e) {
+      throw illegalHost(0);
+    }
+  }
+
+  private boolean plainAscii(final String text) {
+    for (var i = 0; i < text.length(); i++) {
+      if (text.charAt(i) > 0x7F || aLabel(text, i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean aLabel(final String text, final int i) {
+    return (i == 0 || text.charAt(i - 1) == '.') && text.regionMatches(true, i, "xn--", 0, 4);
+  }
+
+  private String lowercase(final String text) {
+    var i = 0;
+    while (i < text.length() && (text.charAt(i) < 'A' || text.charAt(i) > 'Z')) {
+      i++;
+    }
+    if (i == text.length()) {
+      return text;
+    }
+    var chars = text.toCharArray();
+    for (; i < chars.length; i++) {
+      chars[i] = chars[i] >= 'A' && chars[i] <= 'Z' ? (char) (chars[i] | 0x20) : chars[i];
+    }
+    return new String(chars);
+  }
+
+  private int illegalOffset(final String ascii) {
+    for (var i = 0; i < ascii.length(); i++) {
+      if (!characters.contains(ascii.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private RuntimeException illegalHost(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_IDN,
+      illegal,
+      () -> String.format(
+        "Illegal internationalized domain name: <%s>",
+        host.length() > 4096 ? host.toString().substring(0, 4096).concat("...") : host
+      )
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    try {
+      var illegal = illegalOffset(ascii());
+      return illegal < 0 ? new Valid() : new Invalid(ValidationError.ILLEGAL_IDN, illegal);
+    } catch (IllegalComponentException e) {
+      return e.validation();
+    }
+  }
+
+  @Override
+  public String asString() {
+    var text = host.toString();
+    return plainAscii(text) ? lowercase(text) : cache.unicode(text);
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof IdnRegName && aLabels().equals(((IdnRegName) o).aLabels());
+  }
+
+  @Override
+  public int hashCode() {
+    return aLabels().hashCode();
+  }
+
+  private String aLabels() {
+    var result = aLabels;
+    if (result == null) {
+      try {
+        result = ascii();
+      } catch (IllegalComponentException e) {
+        result = lowercase(host.toString());
+      }
+      aLabels = result;
+    }
+    return result;
+  }
+
+  private static final IdnCache SHARED_CACHE = new IdnCache();
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new UnreservedCharacters(), new SubDelims()));
+
+  private final CharSequence host;
+  private final IdnCache cache;
+  private final AsciiCharacterClass characters;
+  private volatile String aLabels;
+}
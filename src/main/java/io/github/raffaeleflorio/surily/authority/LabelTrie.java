@@ -0,0 +1,138 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+/**
+ * Immutable trie of public suffix rules keyed on reversed host labels
+ *
+ * <p>Node 0 is the root. The edges live in an open-addressing table keyed on the parent node and the label. It's built
+ * on first lookup and then shared by every thread. A lookup hashes and compares the labels of a host in place, from
+ * the rightmost one, without splitting it. Labels are compared case-insensitively. The root is always a wildcard node
+ * (i.e. the implicit "*" rule).</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://publicsuffix.org/list/">Public Suffix List format</a>
+ * @since 1.0.0
+ */
+final class LabelTrie {
+  /**
+   * Builds a trie
+   *
+   * @param parents The parent of each node
+   * @param labels  The label of each node
+   * @param flags   The flags of each node (i.e. 1 for rules, 2 for wildcard parents and 4 for exceptions), the root
+   *                has only the wildcard one
+   * @since 1.0.0
+   */
+  LabelTrie(final int[] parents, final String[] labels, final byte[] flags) {
+    this.parents = parents;
+    this.labels = labels;
+    this.flags = flags;
+  }
+
+  /**
+   * Finds the public suffix of a host
+   *
+   * @param host The host
+   * @return The offset of the public suffix or -1 if the host has an empty label before the public suffix end
+   * @since 1.0.0
+   */
+  int suffix(final CharSequence host) {
+    var result = -1;
+    var node = 0;
+    var end = host.length();
+    while (end >= 0) {
+      var start = end;
+      while (start > 0 && host.charAt(start - 1) != '.') {
+        start--;
+      }
+      if (start == end) {
+        return -1;
+      }
+      var child = child(node, host, start, end);
+      if ((flags[child] & 4) != 0) {
+        return end + 1;
+      }
+      if ((flags[node] & 2) != 0 || (flags[child] & 1) != 0) {
+        result = start;
+      }
+      if (child == 0) {
+        break;
+      }
+      node = child;
+      end = start - 1;
+    }
+    return result;
+  }
+
+  private int child(final int parent, final CharSequence host, final int start, final int end) {
+    var slots = slots();
+    var mask = slots.length - 1;
+    for (var i = slot(parent, host, start, end, mask); slots[i] != 0; i = i + 1 & mask) {
+      var node = slots[i];
+      if (parents[node] == parent && matches(labels[node], host, start, end)) {
+        return node;
+      }
+    }
+    return 0;
+  }
+
+  private boolean matches(final String label, final CharSequence host, final int start, final int end) {
+    if (label.length() != end - start) {
+      return false;
+    }
+    for (var i = start; i < end; i++) {
+      if (lowercase(label.charAt(i - start)) != lowercase(host.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int[] slots() {
+    var result = slots;
+    if (result == null) {
+      result = new int[Integer.highestOneBit(Math.max(parents.length, 1)) << 2];
+      var mask = result.length - 1;
+      for (var node = 1; node < parents.length; node++) {
+        var i = slot(parents[node], labels[node], 0, labels[node].length(), mask);
+        while (result[i] != 0) {
+          i = i + 1 & mask;
+        }
+        result[i] = node;
+      }
+      slots = result;
+    }
+    return result;
+  }
+
+  private int slot(final int parent, final CharSequence label, final int start, final int end, final int mask) {
+    var hash = parent;
+    for (var i = start; i < end; i++) {
+      hash = 31 * hash + lowercase(label.charAt(i));
+    }
+    return (hash ^ hash >>> 16) & mask;
+  }
+
+  private char lowercase(final char c) {
+    return c < 0x80 ? c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c : Character.toLowerCase(c);
+  }
+
+  private final int[] parents;
+  private final String[] labels;
+  private final byte[] flags;
+  private volatile int[] slots;
+}
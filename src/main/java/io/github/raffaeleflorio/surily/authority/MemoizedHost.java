@@ -0,0 +1,103 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.MemoizedUriComponent;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link HostSubcomponent} decorator that renders its origin once per charset
+ *
+ * <p>The encoded representations, the unencoded one and the validation are computed on first use through a
+ * {@link MemoizedUriComponent}. The definedness is checked once too, while the other methods are delegated to the
+ * origin.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MemoizedHost implements HostSubcomponent {
+  /**
+   * Builds a memoized host
+   *
+   * @param origin The host to decorate
+   * @since 1.0.0
+   */
+  public MemoizedHost(final HostSubcomponent origin) {
+    this(origin, new MemoizedUriComponent(origin));
+  }
+
+  private MemoizedHost(final HostSubcomponent origin, final UriComponent memoized) {
+    this.origin = origin;
+    this.memoized = memoized;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return memoized.encoded(charset);
+  }
+
+  @Override
+  public String asString() {
+    return memoized.asString();
+  }
+
+  @Override
+  public Validation validation() {
+    return memoized.validation();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+    return defined() ? fn.apply(this) : undefinedFn.get();
+  }
+
+  private boolean defined() {
+    var result = defined;
+    if (result == null) {
+      result = origin.ifDefinedElse(x -> true, () -> false);
+      defined = result;
+    }
+    return result;
+  }
+
+  @Override
+  public <T> T ifIpAddressElse(
+    final Function<IPv4Address, T> ipv4Fn,
+    final Function<IPv6Address, T> ipv6Fn,
+    final Function<HostSubcomponent, T> otherFn
+  ) {
+    return origin.ifIpAddressElse(ipv4Fn, ipv6Fn, x -> otherFn.apply(this));
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MemoizedHost && origin.equals(((MemoizedHost) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final HostSubcomponent origin;
+  private final UriComponent memoized;
+  private volatile Boolean defined;
+}
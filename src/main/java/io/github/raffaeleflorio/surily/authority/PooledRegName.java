@@ -0,0 +1,80 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.LowerCaseAscii;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Already validated and encoded reg-name {@link HostSubcomponent} shared by a {@link RegNamePool}
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class PooledRegName implements HostSubcomponent {
+  /**
+   * Builds a pooled reg-name
+   *
+   * @param encoded  The encoded representation
+   * @param asString The unencoded representation
+   * @since 1.0.0
+   */
+  PooledRegName(final String encoded, final String asString) {
+    this.encoded = encoded;
+    this.asString = asString;
+    this.value = new CharSequenceValue(new LowerCaseAscii(encoded));
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return encoded;
+  }
+
+  @Override
+  public String asString() {
+    return asString;
+  }
+
+  @Override
+  public Validation validation() {
+    return new Valid();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof PooledRegName && value.equals(((PooledRegName) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private final String encoded;
+  private final String asString;
+  private final CharSequenceValue value;
+}
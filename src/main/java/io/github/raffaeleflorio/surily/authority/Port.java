@@ -15,6 +15,15 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -53,6 +62,7 @@ public final class Port implements PortSubcomponent {
    */
   public Port(final CharSequence port) {
     this.port = port;
+    this.value = new CharSequenceValue(port);
   }
 
   @Override
@@ -60,38 +70,59 @@ public final class Port implements PortSubcomponent {
     return port();
   }
 
-  private String port() {
-    if (legalPort()) {
-      return port.toString();
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    var illegal = illegalIndex();
+    if (illegal >= 0) {
+      throw illegalPort(illegal);
+    }
+    try {
+      destination.append(port);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    throw illegalPort();
-  }
-
-  private Boolean legalPort() {
-    return emptyPort() || legalNumericPort();
   }
 
-  private Boolean legalNumericPort() {
-    try {
-      var numericPort = Integer.parseInt(port.toString());
-      return numericPort > -1 && numericPort < 65536;
-    } catch (NumberFormatException e) {
-      return false;
+  private String port() {
+    var illegal = illegalIndex();
+    if (illegal < 0) {
+      return port.toString();
     }
+    throw illegalPort(illegal);
   }
 
-  private Boolean emptyPort() {
-    return port.length() == 0;
+  /*
+    From RFC3986:
+      port = *DIGIT
+   */
+  private int illegalIndex() {
+    var value = 0;
+    for (var i = 0; i < port.length(); i++) {
+      var c = port.charAt(i);
+      if (c < '0' || c > '9') {
+        return i;
+      }
+      value = Math.min(value * 10 + c - '0', 65536);
+    }
+    return value < 65536 ? -1 : 0;
   }
 
-  private RuntimeException illegalPort() {
-    return new IllegalStateException(
-      String.format(
+  private RuntimeException illegalPort(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_PORT,
+      illegal,
+      () -> String.format(
         "Illegal port: <%s>", port.length() > 4096 ? port.toString().substring(0, 4096).concat("...") : port
       )
     );
   }
 
+  @Override
+  public Validation validation() {
+    var illegal = illegalIndex();
+    return illegal < 0 ? new Valid() : new Invalid(ValidationError.ILLEGAL_PORT, illegal);
+  }
+
   @Override
   public String asString() {
     return port();
@@ -102,5 +133,26 @@ public final class Port implements PortSubcomponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof Port && equal((Port) o);
+  }
+
+  private boolean equal(final Port other) {
+    var number = number();
+    return number < 0 ? other.number() < 0 && value.equals(other.value) : number == other.number();
+  }
+
+  private int number() {
+    return port.length() == 0 || illegalIndex() >= 0 ? -1 : Integer.parseInt(port.toString());
+  }
+
+  @Override
+  public int hashCode() {
+    var number = number();
+    return number < 0 ? value.hashCode() : Integer.hashCode(number);
+  }
+
   private final CharSequence port;
+  private final CharSequenceValue value;
 }
@@ -0,0 +1,191 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.PercentEncoded;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.IDN;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Immutable Public Suffix List to find the public suffix and the registrable domain (i.e. eTLD+1) of reg-name hosts
+ *
+ * <p>The rules are loaded on first lookup in the Public Suffix List format (i.e. one rule per line, with wildcard and
+ * exception rules, while comments and blank lines are ignored). Rules with non-ASCII labels are also indexed with their
+ * percent-encoded UTF-8 and A-label forms. A lookup walks the labels of the encoded host from the rightmost one over
+ * its characters (i.e. the original ones of a parsed reference) and it returns views over them, so it allocates only
+ * the views. IP addresses and undefined hosts don't have a registrable domain.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://publicsuffix.org/list/">Public Suffix List</a>
+ * @since 1.0.0
+ */
+public final class PublicSuffixes {
+  /**
+   * Builds a list from a UTF-8 file (e.g. a local copy of public_suffix_list.dat)
+   *
+   * @param file The file
+   * @since 1.0.0
+   */
+  public PublicSuffixes(final Path file) {
+    this(() -> {
+      try {
+        return Files.readAllLines(file, StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Builds a list
+   *
+   * @param rules The lines of the list
+   * @since 1.0.0
+   */
+  public PublicSuffixes(final List<String> rules) {
+    this(() -> rules);
+  }
+
+  /**
+   * Builds a list
+   *
+   * @param rulesFn The supplier of the lines of the list
+   * @since 1.0.0
+   */
+  PublicSuffixes(final Supplier<List<String>> rulesFn) {
+    this.rulesFn = rulesFn;
+  }
+
+  /**
+   * Uses a function with the public suffix and the registrable domain of a host, otherwise a supplier
+   *
+   * @param host    The host
+   * @param fn      The function used with the encoded public suffix and registrable domain
+   * @param otherFn The supplier used if the host doesn't have a registrable domain (e.g. it's a public suffix)
+   * @param <T>     The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifRegistrableElse(
+    final HostSubcomponent host,
+    final BiFunction<CharSequence, CharSequence, T> fn,
+    final Supplier<T> otherFn
+  ) {
+    return host.ifDefinedElse(
+      defined -> defined.ifIpAddressElse(
+        ipv4 -> otherFn.get(),
+        ipv6 -> otherFn.get(),
+        regname -> registrable(regname.encoded(StandardCharsets.UTF_8), fn, otherFn)
+      ),
+      otherFn
+    );
+  }
+
+  private <T> T registrable(
+    final CharSequence host,
+    final BiFunction<CharSequence, CharSequence, T> fn,
+    final Supplier<T> otherFn
+  ) {
+    var suffix = trie().suffix(host);
+    var start = suffix - 1;
+    while (start > 0 && host.charAt(start - 1) != '.') {
+      start--;
+    }
+    return start < suffix - 1
+      ? fn.apply(CharBuffer.wrap(host, suffix, host.length()), CharBuffer.wrap(host, start, host.length()))
+      : otherFn.get();
+  }
+
+  private LabelTrie trie() {
+    var result = trie;
+    if (result == null) {
+      var nodes = new HashMap<String, Integer>();
+      var parents = new ArrayList<>(List.of(0));
+      var labels = new ArrayList<>(List.of(""));
+      var flags = new ArrayList<>(List.of(2));
+      for (var line : rulesFn.get()) {
+        var rule = line.strip().split("\\s", 2)[0];
+        var flag = rule.startsWith("!") ? 4 : rule.startsWith("*.") ? 2 : 1;
+        var labelled = rule.substring(flag == 1 ? 0 : flag == 4 ? 1 : 2).split("\\.", -1);
+        if (rule.isEmpty() || rule.startsWith("//") || flag == 4 && labelled.length < 2) {
+          continue;
+        }
+        for (var variant : variants(labelled)) {
+          var node = 0;
+          for (var i = variant.length - 1; i >= 0; i--) {
+            var key = node + "." + variant[i].toLowerCase(Locale.ROOT);
+            if (!nodes.containsKey(key)) {
+              nodes.put(key, parents.size());
+              parents.add(node);
+              labels.add(variant[i]);
+              flags.add(0);
+            }
+            node = nodes.get(key);
+          }
+          flags.set(node, flags.get(node) | flag);
+        }
+      }
+      var packed = new byte[flags.size()];
+      for (var i = 0; i < packed.length; i++) {
+        packed[i] = flags.get(i).byteValue();
+      }
+      result = new LabelTrie(
+        parents.stream().mapToInt(Integer::intValue).toArray(),
+        labels.toArray(String[]::new),
+        packed
+      );
+      trie = result;
+    }
+    return result;
+  }
+
+  private List<String[]> variants(final String[] labels) {
+    if (Arrays.stream(labels).allMatch(label -> label.chars().allMatch(c -> c < 0x80))) {
+      return List.<String[]>of(labels);
+    }
+    var encoded = new String[labels.length];
+    var ascii = new String[labels.length];
+    for (var i = 0; i < labels.length; i++) {
+      encoded[i] = new PercentEncoded(labels[i]).toString();
+      ascii[i] = aLabel(labels[i]);
+    }
+    return List.of(labels, encoded, ascii);
+  }
+
+  private String aLabel(final String label) {
+    try {
+      return IDN.toASCII(label, IDN.ALLOW_UNASSIGNED);
+    } catch (IllegalArgumentException e) {
+      return label;
+    }
+  }
+
+  private final Supplier<List<String>> rulesFn;
+  private volatile LabelTrie trie;
+}
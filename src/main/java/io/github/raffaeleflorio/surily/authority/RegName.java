@@ -15,12 +15,15 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.LowerCaseAscii;
 import io.github.raffaeleflorio.surily.PercentEncoded;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.SubDelims;
 import io.github.raffaeleflorio.surily.characters.UnreservedCharacters;
-import io.github.raffaeleflorio.surily.set.UnionSet;
 
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -51,7 +54,7 @@ public final class RegName implements HostSubcomponent {
   public RegName(final CharSequence regname) {
     this(
       regname,
-      (s, charset) -> new PercentEncoded(s, charset, new UnionSet<>(new UnreservedCharacters(), new SubDelims()))
+      (s, charset) -> new PercentEncoded(s, charset, ALLOWED_CHARACTERS)
     );
   }
 
@@ -62,8 +65,9 @@ public final class RegName implements HostSubcomponent {
    * @param encodingFn The encoding function
    * @since 1.0.0
    */
-  RegName(final CharSequence regname, final BiFunction<CharSequence, Charset, CharSequence> encodingFn) {
+  RegName(final CharSequence regname, final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn) {
     this.regname = regname;
+    this.value = new CharSequenceValue(new LowerCaseAscii(regname));
     this.encodingFn = encodingFn;
   }
 
@@ -72,6 +76,16 @@ public final class RegName implements HostSubcomponent {
     return encodingFn.apply(regname, charset).toString();
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return encodingFn.apply(regname, charset).length();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    encodingFn.apply(regname, charset).appendTo(destination);
+  }
+
   @Override
   public String asString() {
     return regname.toString();
@@ -82,6 +96,20 @@ public final class RegName implements HostSubcomponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof RegName && value.equals(((RegName) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new UnreservedCharacters(), new SubDelims()));
+
   private final CharSequence regname;
-  private final BiFunction<CharSequence, Charset, CharSequence> encodingFn;
+  private final CharSequenceValue value;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn;
 }
@@ -0,0 +1,132 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.PercentDecoded;
+
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Concurrent pool of reg-name hosts that shares one validated and encoded instance per case-folded host
+ *
+ * <p>Hosts are case-folded as RFC3986 suggests: letters are lowercased and percent-encoded octets are uppercased. The
+ * encoded representation uses UTF-8 regardless of the requested charset. The pool is lock-striped and it holds its
+ * entries weakly, so an entry lives as long as someone uses its host. Each stripe holds a bounded number of entries:
+ * when it's full, hosts are still validated and encoded but not shared. IP addresses and undefined hosts are returned
+ * as they are.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-6.2.2.1">RFC3986 about case normalization</a>
+ * @since 1.0.0
+ */
+public final class RegNamePool {
+  /**
+   * Builds a pool with 64 stripes of 16384 entries
+   *
+   * @since 1.0.0
+   */
+  public RegNamePool() {
+    this(64, 16384);
+  }
+
+  /**
+   * Builds a pool
+   *
+   * @param stripes  The number of stripes, not necessarily a power of two
+   * @param capacity The maximum number of entries of each stripe, zero to never share hosts
+   * @throws IllegalArgumentException If the number of stripes isn't positive or the capacity is negative
+   * @since 1.0.0
+   */
+  public RegNamePool(final Integer stripes, final Integer capacity) {
+    this(
+      IntStream.range(0, checked(stripes, 1, "positive number of stripes"))
+        .mapToObj(x -> new WeakHashMap<String, WeakReference<HostSubcomponent>>())
+        .collect(Collectors.toUnmodifiableList()),
+      checked(capacity, 0, "non-negative capacity")
+    );
+  }
+
+  private static Integer checked(final Integer value, final Integer min, final String name) {
+    if (value < min) {
+      throw new IllegalArgumentException(String.format("Expected a %s instead of %d", name, value));
+    }
+    return value;
+  }
+
+  private RegNamePool(final List<Map<String, WeakReference<HostSubcomponent>>> stripes, final Integer capacity) {
+    this.stripes = stripes;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Builds the shared instance of a host
+   *
+   * @param host The host
+   * @return The shared instance if the host is a reg-name, otherwise the host itself
+   * @since 1.0.0
+   */
+  public HostSubcomponent interned(final HostSubcomponent host) {
+    return host.ifDefinedElse(
+      defined -> defined.ifIpAddressElse(
+        ipv4 -> defined,
+        ipv6 -> defined,
+        regname -> pooled(folded(regname.encoded(StandardCharsets.UTF_8)))
+      ),
+      () -> host
+    );
+  }
+
+  private String folded(final CharSequence encoded) {
+    var chars = new char[encoded.length()];
+    for (var i = 0; i < chars.length; i++) {
+      var c = encoded.charAt(i);
+      if (c == '%' && i + 2 < chars.length) {
+        chars[i] = c;
+        chars[i + 1] = Character.toUpperCase(encoded.charAt(i + 1));
+        chars[i + 2] = Character.toUpperCase(encoded.charAt(i + 2));
+        i += 2;
+      } else {
+        chars[i] = c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+      }
+    }
+    return new String(chars);
+  }
+
+  private HostSubcomponent pooled(final String encoded) {
+    var stripe = stripes.get(Math.floorMod(encoded.hashCode(), stripes.size()));
+    synchronized (stripe) {
+      var reference = stripe.get(encoded);
+      var pooled = reference == null ? null : reference.get();
+      if (pooled == null) {
+        pooled = new PooledRegName(encoded, new PercentDecoded(encoded, StandardCharsets.UTF_8).toString());
+        stripe.remove(encoded);
+        if (stripe.size() < capacity) {
+          stripe.put(encoded, new WeakReference<>(pooled));
+        }
+      }
+      return pooled;
+    }
+  }
+
+  private final List<Map<String, WeakReference<HostSubcomponent>>> stripes;
+  private final Integer capacity;
+}
@@ -0,0 +1,87 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bounded concurrent cache made of lock-striped LRU maps
+ *
+ * <p>Each stripe evicts its least recently used entry when it's full, so the whole cache approximates a LRU one
+ * without a global lock. Values are computed under the lock of their stripe, so each one is computed once.</p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+final class StripedLruCache<K, V> {
+  /**
+   * Builds a cache
+   *
+   * @param stripes  The number of stripes
+   * @param capacity The maximum number of entries of each stripe, zero to never cache
+   * @throws IllegalArgumentException If the number of stripes isn't positive or the capacity is negative
+   * @since 1.0.0
+   */
+  StripedLruCache(final Integer stripes, final Integer capacity) {
+    this(stripes(checked(stripes, 1, "positive number of stripes"), checked(capacity, 0, "non-negative capacity")));
+  }
+
+  private StripedLruCache(final List<Map<K, V>> stripes) {
+    this.stripes = stripes;
+  }
+
+  private static <K, V> List<Map<K, V>> stripes(final Integer stripes, final Integer capacity) {
+    return IntStream.range(0, stripes)
+      .mapToObj(x -> new LinkedHashMap<K, V>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+          return size() > capacity;
+        }
+      })
+      .collect(Collectors.toUnmodifiableList());
+  }
+
+  private static Integer checked(final Integer value, final Integer min, final String name) {
+    if (value < min) {
+      throw new IllegalArgumentException(String.format("Expected a %s instead of %d", name, value));
+    }
+    return value;
+  }
+
+  /**
+   * Builds the cached value of a key, computing it if absent
+   *
+   * @param key The key
+   * @param fn  The function to compute the value
+   * @return The value
+   * @since 1.0.0
+   */
+  V value(final K key, final Function<K, V> fn) {
+    var stripe = stripes.get(Math.floorMod(key.hashCode(), stripes.size()));
+    synchronized (stripe) {
+      return stripe.computeIfAbsent(key, fn);
+    }
+  }
+
+  private final List<Map<K, V>> stripes;
+}
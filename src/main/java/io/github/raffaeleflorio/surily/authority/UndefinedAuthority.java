@@ -15,6 +15,11 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,7 +46,16 @@ public final class UndefinedAuthority implements AuthorityComponent {
   }
 
   private RuntimeException undefinedAuthorityException() {
-    return new IllegalStateException("No representations for an undefined authority");
+    return new IllegalComponentException(
+      ValidationError.UNDEFINED_COMPONENT,
+      0,
+      "No representations for an undefined authority"
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    return new Invalid(ValidationError.UNDEFINED_COMPONENT, 0);
   }
 
   @Override
@@ -68,4 +82,14 @@ public final class UndefinedAuthority implements AuthorityComponent {
   public UserinfoSubComponent userinfo() {
     return new UndefinedUserinfo();
   }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof UndefinedAuthority;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
 }
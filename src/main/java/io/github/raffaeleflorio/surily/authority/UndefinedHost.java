@@ -15,6 +15,11 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,7 +46,16 @@ public final class UndefinedHost implements HostSubcomponent {
   }
 
   private RuntimeException undefinedHostException() {
-    return new IllegalStateException("No representations for an undefined host");
+    return new IllegalComponentException(
+      ValidationError.UNDEFINED_COMPONENT,
+      0,
+      "No representations for an undefined host"
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    return new Invalid(ValidationError.UNDEFINED_COMPONENT, 0);
   }
 
   @Override
@@ -53,4 +67,14 @@ public final class UndefinedHost implements HostSubcomponent {
   public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
     return undefinedFn.get();
   }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof UndefinedHost;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
 }
@@ -15,7 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
 import io.github.raffaeleflorio.surily.PercentEncoded;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.Pchar;
 import io.github.raffaeleflorio.surily.set.DiffSet;
 
@@ -50,7 +52,7 @@ public final class Userinfo implements UserinfoSubComponent {
   public Userinfo(final CharSequence userinfo) {
     this(
       userinfo,
-      (s, charset) -> new PercentEncoded(s, charset, new DiffSet<>(new Pchar(), Set.of('@')))
+      (s, charset) -> new PercentEncoded(s, charset, ALLOWED_CHARACTERS)
     );
   }
 
@@ -61,8 +63,9 @@ public final class Userinfo implements UserinfoSubComponent {
    * @param encodingFn The encoding function
    * @since 1.0.0
    */
-  Userinfo(final CharSequence userinfo, final BiFunction<CharSequence, Charset, CharSequence> encodingFn) {
+  Userinfo(final CharSequence userinfo, final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn) {
     this.userinfo = userinfo;
+    this.value = new CharSequenceValue(userinfo);
     this.encodingFn = encodingFn;
   }
 
@@ -71,6 +74,16 @@ public final class Userinfo implements UserinfoSubComponent {
     return encodingFn.apply(userinfo, charset).toString();
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return encodingFn.apply(userinfo, charset).length();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    encodingFn.apply(userinfo, charset).appendTo(destination);
+  }
+
   @Override
   public String asString() {
     return userinfo.toString();
@@ -81,6 +94,20 @@ public final class Userinfo implements UserinfoSubComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof Userinfo && value.equals(((Userinfo) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(new DiffSet<>(new Pchar(), Set.of('@')));
+
   private final CharSequence userinfo;
-  private final BiFunction<CharSequence, Charset, CharSequence> encodingFn;
+  private final CharSequenceValue value;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn;
 }
@@ -0,0 +1,138 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.characters;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of ASCII characters backed by two 64-bit words (i.e. one bit for each of the 128 ASCII code points)
+ *
+ * <p>Non-ASCII characters are ignored, so it also behaves as the intersection between the given characters and the
+ * ASCII ones.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class AsciiCharacterClass extends AbstractSet<Character> {
+  /**
+   * Builds a class with the characters of a char sequence
+   *
+   * @param characters The characters
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass(final CharSequence characters) {
+    this(characters.chars());
+  }
+
+  /**
+   * Builds a class with the characters of a set
+   *
+   * @param characters The characters
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass(final Set<Character> characters) {
+    this(characters.stream().mapToInt(Character::charValue));
+  }
+
+  /**
+   * Builds a class with the union of the characters of some sets
+   *
+   * @param characters The characters sets
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass(final List<Set<Character>> characters) {
+    this(characters.stream().flatMap(Set::stream).mapToInt(Character::charValue));
+  }
+
+  private AsciiCharacterClass(final IntStream codePoints) {
+    this(codePoints.toArray());
+  }
+
+  private AsciiCharacterClass(final int[] codePoints) {
+    this(
+      Arrays.stream(codePoints).filter(c -> c >>> 6 == 0).mapToLong(c -> 1L << c).reduce(0L, (x, y) -> x | y),
+      Arrays.stream(codePoints).filter(c -> c >>> 6 == 1).mapToLong(c -> 1L << c).reduce(0L, (x, y) -> x | y)
+    );
+  }
+
+  /**
+   * Builds a class from its words
+   *
+   * @param low  The bits of the code points from 0 to 63
+   * @param high The bits of the code points from 64 to 127
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass(final long low, final long high) {
+    this.low = low;
+    this.high = high;
+  }
+
+  /**
+   * Checks if a code point belongs to the class without boxing it
+   *
+   * @param codePoint The code point
+   * @return True if the code point belongs to the class
+   * @since 1.0.0
+   */
+  public boolean contains(final int codePoint) {
+    return codePoint >>> 6 == 0 ? (low & 1L << codePoint) != 0 : codePoint >>> 6 == 1 && (high & 1L << codePoint) != 0;
+  }
+
+  /**
+   * Builds the characters belonging to both classes without iterating them
+   *
+   * @param other The other class
+   * @return The intersection
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass intersection(final AsciiCharacterClass other) {
+    return new AsciiCharacterClass(low & other.low, high & other.high);
+  }
+
+  /**
+   * Builds the characters belonging to this class but not to another one without iterating them
+   *
+   * @param other The other class
+   * @return The difference
+   * @since 1.0.0
+   */
+  public AsciiCharacterClass difference(final AsciiCharacterClass other) {
+    return new AsciiCharacterClass(low & ~other.low, high & ~other.high);
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return o instanceof Character && contains(((Character) o).charValue());
+  }
+
+  @Override
+  public Iterator<Character> iterator() {
+    return IntStream.range(0, 128).filter(this::contains).mapToObj(c -> (char) c).iterator();
+  }
+
+  @Override
+  public int size() {
+    return Long.bitCount(low) + Long.bitCount(high);
+  }
+
+  private final long low;
+  private final long high;
+}
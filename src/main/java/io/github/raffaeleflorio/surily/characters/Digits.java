@@ -17,7 +17,6 @@ package io.github.raffaeleflorio.surily.characters;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  * Digits set (i.e. 0-9)
@@ -32,15 +31,18 @@ public final class Digits extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public Digits() {
-    this(
-      Set.of('0', '1', '2', '3', '4', '5', '6', '7', '8', '9')
-    );
+    this(new AsciiCharacterClass("0123456789"));
   }
 
-  private Digits(final Set<Character> digits) {
+  private Digits(final AsciiCharacterClass digits) {
     this.digits = digits;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return digits.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return digits.iterator();
@@ -51,5 +53,5 @@ public final class Digits extends AbstractSet<Character> {
     return digits.size();
   }
 
-  private final Set<Character> digits;
+  private final AsciiCharacterClass digits;
 }
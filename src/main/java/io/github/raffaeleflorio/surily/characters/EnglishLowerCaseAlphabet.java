@@ -17,7 +17,6 @@ package io.github.raffaeleflorio.surily.characters;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  * English lower-case alphabet (i.e. a-z)
@@ -32,18 +31,18 @@ public final class EnglishLowerCaseAlphabet extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public EnglishLowerCaseAlphabet() {
-    this(
-      Set.of(
-        'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm',
-        'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z'
-      )
-    );
+    this(new AsciiCharacterClass("abcdefghijklmnopqrstuvwxyz"));
   }
 
-  private EnglishLowerCaseAlphabet(final Set<Character> alphabet) {
+  private EnglishLowerCaseAlphabet(final AsciiCharacterClass alphabet) {
     this.alphabet = alphabet;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return alphabet.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return alphabet.iterator();
@@ -54,5 +53,5 @@ public final class EnglishLowerCaseAlphabet extends AbstractSet<Character> {
     return alphabet.size();
   }
 
-  private final Set<Character> alphabet;
+  private final AsciiCharacterClass alphabet;
 }
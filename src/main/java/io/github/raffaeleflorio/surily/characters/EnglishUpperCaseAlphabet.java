@@ -17,7 +17,6 @@ package io.github.raffaeleflorio.surily.characters;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  * English upper-case alphabet (i.e. A-Z)
@@ -32,18 +31,18 @@ public final class EnglishUpperCaseAlphabet extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public EnglishUpperCaseAlphabet() {
-    this(
-      Set.of(
-        'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M',
-        'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z'
-      )
-    );
+    this(new AsciiCharacterClass("ABCDEFGHIJKLMNOPQRSTUVWXYZ"));
   }
 
-  private EnglishUpperCaseAlphabet(final Set<Character> alphabet) {
+  private EnglishUpperCaseAlphabet(final AsciiCharacterClass alphabet) {
     this.alphabet = alphabet;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return alphabet.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return alphabet.iterator();
@@ -54,5 +53,5 @@ public final class EnglishUpperCaseAlphabet extends AbstractSet<Character> {
     return alphabet.size();
   }
 
-  private final Set<Character> alphabet;
+  private final AsciiCharacterClass alphabet;
 }
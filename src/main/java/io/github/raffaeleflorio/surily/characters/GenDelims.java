@@ -17,7 +17,6 @@ package io.github.raffaeleflorio.surily.characters;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  * RFC3986 gen-delims characters (i.e. ":" / "/" / "?" / "#" / "[" / "]" / "@")
@@ -33,13 +32,18 @@ public final class GenDelims extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public GenDelims() {
-    this(Set.of(':', '/', '?', '#', '[', ']', '@'));
+    this(new AsciiCharacterClass(":/?#[]@"));
   }
 
-  private GenDelims(final Set<Character> genDelims) {
+  private GenDelims(final AsciiCharacterClass genDelims) {
     this.genDelims = genDelims;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return genDelims.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return genDelims.iterator();
@@ -50,5 +54,5 @@ public final class GenDelims extends AbstractSet<Character> {
     return genDelims.size();
   }
 
-  private final Set<Character> genDelims;
+  private final AsciiCharacterClass genDelims;
 }
@@ -0,0 +1,58 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.characters;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+/**
+ * Case-insensitive hexadecimal digits set (i.e. 0-9, A-F and a-f)
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @see <a href="https://datatracker.ietf.org/doc/html/rfc3986#section-2.1">RFC3986 about HEXDIG</a>
+ * @since 1.0.0
+ */
+public final class HexDigits extends AbstractSet<Character> {
+  /**
+   * Builds the hexadecimal digits set
+   *
+   * @since 1.0.0
+   */
+  public HexDigits() {
+    this(new AsciiCharacterClass("0123456789ABCDEFabcdef"));
+  }
+
+  private HexDigits(final AsciiCharacterClass hexDigits) {
+    this.hexDigits = hexDigits;
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return hexDigits.contains(o);
+  }
+
+  @Override
+  public Iterator<Character> iterator() {
+    return hexDigits.iterator();
+  }
+
+  @Override
+  public int size() {
+    return hexDigits.size();
+  }
+
+  private final AsciiCharacterClass hexDigits;
+}
@@ -15,10 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.characters;
 
-import io.github.raffaeleflorio.surily.set.UnionSet;
-
 import java.util.AbstractSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -35,20 +34,25 @@ public final class Pchar extends AbstractSet<Character> {
    */
   public Pchar() {
     this(
-      new UnionSet<>(
-        new UnionSet<>(
+      new AsciiCharacterClass(
+        List.of(
           new UnreservedCharacters(),
-          new SubDelims()
-        ),
-        Set.of(':', '@', '%')
+          new SubDelims(),
+          Set.of(':', '@', '%')
+        )
       )
     );
   }
 
-  private Pchar(final Set<Character> pchar) {
+  private Pchar(final AsciiCharacterClass pchar) {
     this.pchar = pchar;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return pchar.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return pchar.iterator();
@@ -59,5 +63,5 @@ public final class Pchar extends AbstractSet<Character> {
     return pchar.size();
   }
 
-  private final Set<Character> pchar;
+  private final AsciiCharacterClass pchar;
 }
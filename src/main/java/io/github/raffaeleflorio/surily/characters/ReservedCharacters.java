@@ -15,11 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.characters;
 
-import io.github.raffaeleflorio.surily.set.UnionSet;
-
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
+import java.util.List;
 
 /**
  * RFC3986 reserved characters (i.e. gen-delims / sub-delims)
@@ -35,13 +33,18 @@ public final class ReservedCharacters extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public ReservedCharacters() {
-    this(new UnionSet<>(new GenDelims(), new SubDelims()));
+    this(new AsciiCharacterClass(List.of(new GenDelims(), new SubDelims())));
   }
 
-  private ReservedCharacters(final Set<Character> reserved) {
+  private ReservedCharacters(final AsciiCharacterClass reserved) {
     this.reserved = reserved;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return reserved.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return reserved.iterator();
@@ -52,5 +55,5 @@ public final class ReservedCharacters extends AbstractSet<Character> {
     return reserved.size();
   }
 
-  private final Set<Character> reserved;
+  private final AsciiCharacterClass reserved;
 }
@@ -17,7 +17,6 @@ package io.github.raffaeleflorio.surily.characters;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
-import java.util.Set;
 
 /**
  * RFC3986 sub-delims characters (i.e. "!" / "$" / "&" / "'" / "(" / ")" / "*" / "+" / "," / ";" / "=")
@@ -33,13 +32,18 @@ public final class SubDelims extends AbstractSet<Character> {
    * @since 1.0.0
    */
   public SubDelims() {
-    this(Set.of('!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '='));
+    this(new AsciiCharacterClass("!$&'()*+,;="));
   }
 
-  private SubDelims(final Set<Character> subDelims) {
+  private SubDelims(final AsciiCharacterClass subDelims) {
     this.subDelims = subDelims;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return subDelims.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return subDelims.iterator();
@@ -50,5 +54,5 @@ public final class SubDelims extends AbstractSet<Character> {
     return subDelims.size();
   }
 
-  private final Set<Character> subDelims;
+  private final AsciiCharacterClass subDelims;
 }
@@ -15,10 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.characters;
 
-import io.github.raffaeleflorio.surily.set.UnionSet;
-
 import java.util.AbstractSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -35,23 +34,26 @@ public final class UnreservedCharacters extends AbstractSet<Character> {
    */
   public UnreservedCharacters() {
     this(
-      new UnionSet<>(
-        new UnionSet<>(
-          new UnionSet<>(
-            new EnglishLowerCaseAlphabet(),
-            new EnglishUpperCaseAlphabet()
-          ),
-          new Digits()
-        ),
-        Set.of('-', '.', '_', '~')
+      new AsciiCharacterClass(
+        List.of(
+          new EnglishLowerCaseAlphabet(),
+          new EnglishUpperCaseAlphabet(),
+          new Digits(),
+          Set.of('-', '.', '_', '~')
+        )
       )
     );
   }
 
-  private UnreservedCharacters(final Set<Character> unreserved) {
+  private UnreservedCharacters(final AsciiCharacterClass unreserved) {
     this.unreserved = unreserved;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return unreserved.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return unreserved.iterator();
@@ -62,5 +64,5 @@ public final class UnreservedCharacters extends AbstractSet<Character> {
     return unreserved.size();
   }
 
-  private final Set<Character> unreserved;
+  private final AsciiCharacterClass unreserved;
 }
@@ -0,0 +1,85 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.fragment;
+
+import io.github.raffaeleflorio.surily.PercentEncodedComponent;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.Pchar;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * RFC3986 compliant {@link FragmentComponent} built from an already percent-encoded fragment
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class EncodedFragment implements FragmentComponent {
+  /**
+   * Builds a fragment
+   *
+   * @param fragment The percent-encoded fragment
+   * @since 1.0.0
+   */
+  public EncodedFragment(final CharSequence fragment) {
+    this(new PercentEncodedComponent(fragment, ALLOWED_CHARACTERS));
+  }
+
+  private EncodedFragment(final UriComponent origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return origin.encoded(charset);
+  }
+
+  @Override
+  public Validation validation() {
+    return origin.validation();
+  }
+
+  @Override
+  public String asString() {
+    return origin.asString();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<FragmentComponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof EncodedFragment && origin.equals(((EncodedFragment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new Pchar(), Set.of('/', '?')));
+
+  private final UriComponent origin;
+}
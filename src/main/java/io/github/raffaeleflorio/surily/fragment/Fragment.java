@@ -15,11 +15,13 @@
  */
 package io.github.raffaeleflorio.surily.fragment;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
 import io.github.raffaeleflorio.surily.PercentEncoded;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.Pchar;
-import io.github.raffaeleflorio.surily.set.UnionSet;
 
 import java.nio.charset.Charset;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -50,7 +52,7 @@ public final class Fragment implements FragmentComponent {
   public Fragment(final CharSequence origin) {
     this(
       origin,
-      (s, charset) -> new PercentEncoded(s, charset, new UnionSet<>(new Pchar(), Set.of('/', '?')))
+      (s, charset) -> new PercentEncoded(s, charset, ALLOWED_CHARACTERS)
     );
   }
 
@@ -61,8 +63,9 @@ public final class Fragment implements FragmentComponent {
    * @param encodingFn The encoding function
    * @since 1.0.0
    */
-  Fragment(final CharSequence origin, final BiFunction<CharSequence, Charset, CharSequence> encodingFn) {
+  Fragment(final CharSequence origin, final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn) {
     this.origin = origin;
+    this.value = new CharSequenceValue(origin);
     this.encodingFn = encodingFn;
   }
 
@@ -71,6 +74,16 @@ public final class Fragment implements FragmentComponent {
     return encodingFn.apply(origin, charset).toString();
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return encodingFn.apply(origin, charset).length();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    encodingFn.apply(origin, charset).appendTo(destination);
+  }
+
   @Override
   public String asString() {
     return origin.toString();
@@ -81,6 +94,20 @@ public final class Fragment implements FragmentComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof Fragment && value.equals(((Fragment) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new Pchar(), Set.of('/', '?')));
+
   private final CharSequence origin;
-  private final BiFunction<CharSequence, Charset, CharSequence> encodingFn;
+  private final CharSequenceValue value;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn;
 }
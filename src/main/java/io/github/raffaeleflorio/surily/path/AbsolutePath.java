@@ -15,19 +15,18 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.FormatTemplate;
 import io.github.raffaeleflorio.surily.FormattedComponents;
 import io.github.raffaeleflorio.surily.JoinedComponents;
 import io.github.raffaeleflorio.surily.UriComponent;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * RFC3986 compliant absolute {@link PathComponent} like: /an/absolute/path or /
@@ -67,7 +66,7 @@ public final class AbsolutePath implements PathComponent {
   AbsolutePath(
     final List<PathSegmentSubcomponent> segments,
     final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> zeroSegmentFn,
-    final BiFunction<String, List<UriComponent>, UriComponent> formattedFn,
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn,
     final BiFunction<List<UriComponent>, String, UriComponent> joinedFn
   ) {
     this.segments = segments;
@@ -78,25 +77,44 @@ public final class AbsolutePath implements PathComponent {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return formattedSegments().encoded(charset);
+    return plan().encoded(charset);
   }
 
-  private UriComponent formattedSegments() {
-    return formattedFn.apply("/%s", List.of(joinedSegments()));
+  private UriComponent plan() {
+    var result = plan;
+    if (result == null) {
+      result = formattedFn.apply(ABSOLUTE_PATH_TEMPLATE, List.of(joinedFn.apply(List.copyOf(segments()), "/")));
+      plan = result;
+    }
+    return result;
   }
 
-  private UriComponent joinedSegments() {
-    return joinedFn.apply(segments().collect(Collectors.toUnmodifiableList()), "/");
+  private List<PathSegmentSubcomponent> segments() {
+    var result = new ArrayList<PathSegmentSubcomponent>(segments.size());
+    for (var i = 0; i < segments.size(); i++) {
+      result.add(i == 0 ? zeroSegmentFn.apply(segments.get(0)) : segments.get(i));
+    }
+    return result;
   }
 
-  private Stream<PathSegmentSubcomponent> segments() {
-    return IntStream.range(0, segments.size())
-      .mapToObj(i -> i == 0 ? zeroSegmentFn.apply(segments.get(0)) : segments.get(i));
+  @Override
+  public int encodedLength(final Charset charset) {
+    return plan().encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    plan().appendTo(destination, charset);
   }
 
   @Override
   public String asString() {
-    return formattedSegments().asString();
+    return plan().asString();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination) {
+    plan().appendTo(destination);
   }
 
   @Override
@@ -115,7 +133,7 @@ public final class AbsolutePath implements PathComponent {
   }
 
   private UriComponent part(final AuthorityComponent authority, final PathComponent path) {
-    return formattedFn.apply("//%s%s", List.of(authority, path));
+    return formattedFn.apply(AUTHORITY_PATH_TEMPLATE, List.of(authority, path));
   }
 
   @Override
@@ -143,8 +161,32 @@ public final class AbsolutePath implements PathComponent {
     return absoluteFn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof AbsolutePath && equal((AbsolutePath) o);
+  }
+
+  private boolean equal(final AbsolutePath other) {
+    return segments.equals(other.segments);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = segments.hashCode();
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final FormatTemplate ABSOLUTE_PATH_TEMPLATE = new FormatTemplate("/%s");
+  private static final FormatTemplate AUTHORITY_PATH_TEMPLATE = new FormatTemplate("//%s%s");
+
   private final List<PathSegmentSubcomponent> segments;
   private final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> zeroSegmentFn;
-  private final BiFunction<String, List<UriComponent>, UriComponent> formattedFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
   private final BiFunction<List<UriComponent>, String, UriComponent> joinedFn;
+  private volatile UriComponent plan;
+  private volatile int hash;
 }
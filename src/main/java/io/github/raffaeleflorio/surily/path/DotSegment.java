@@ -57,5 +57,15 @@ public final class DotSegment implements PathSegmentSubcomponent {
     return singleFn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof DotSegment && origin.equals(((DotSegment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final PathSegmentSubcomponent origin;
 }
@@ -57,5 +57,15 @@ public final class DoubleDotSegment implements PathSegmentSubcomponent {
     return doubleFn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof DoubleDotSegment && origin.equals(((DoubleDotSegment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final PathSegmentSubcomponent origin;
 }
@@ -15,7 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.ValidationError;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
 
 import java.nio.charset.Charset;
@@ -63,7 +65,7 @@ public final class EmptyPath implements PathComponent {
 
   @Override
   public PathComponent segments(final List<PathSegmentSubcomponent> segments) {
-    throw new IllegalStateException("An empty path cannot have segments");
+    throw new IllegalComponentException(ValidationError.ILLEGAL_STRUCTURE, 0, "An empty path cannot have segments");
   }
 
   @Override
@@ -84,15 +86,40 @@ public final class EmptyPath implements PathComponent {
     return origin.encoded(charset);
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return origin.encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    origin.appendTo(destination, charset);
+  }
+
   @Override
   public String asString() {
     return origin.asString();
   }
 
+  @Override
+  public void appendTo(final Appendable destination) {
+    origin.appendTo(destination);
+  }
+
   @Override
   public Iterator<PathSegmentSubcomponent> iterator() {
     return origin.iterator();
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof EmptyPath && origin.equals(((EmptyPath) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final PathComponent origin;
 }
@@ -0,0 +1,208 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.FormatTemplate;
+import io.github.raffaeleflorio.surily.FormattedComponents;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.PercentEncodedComponent;
+import io.github.raffaeleflorio.surily.UpperCasePercentEncoding;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.Pchar;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * RFC3986 compliant {@link PathComponent} built from an already percent-encoded path (e.g. a parsed one)
+ *
+ * <p>Its segments are views over the given path, so nothing is copied until a representation is requested.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class EncodedPath implements PathComponent {
+  /**
+   * Builds a path
+   *
+   * @param path The percent-encoded path
+   * @since 1.0.0
+   */
+  public EncodedPath(final CharSequence path) {
+    this(
+      path,
+      new PercentEncodedComponent(path, ALLOWED_CHARACTERS),
+      EncodedPathSegment::new,
+      FormattedComponents::new
+    );
+  }
+
+  /**
+   * Builds a path
+   *
+   * @param path        The percent-encoded path
+   * @param origin      The component used to validate and decode the path
+   * @param segmentFn   The function to build segments
+   * @param formattedFn The function to format components
+   * @since 1.0.0
+   */
+  EncodedPath(
+    final CharSequence path,
+    final UriComponent origin,
+    final Function<CharSequence, PathSegmentSubcomponent> segmentFn,
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn
+  ) {
+    this.path = path;
+    this.value = new CharSequenceValue(new UpperCasePercentEncoding(path));
+    this.origin = origin;
+    this.segmentFn = segmentFn;
+    this.formattedFn = formattedFn;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return origin.encoded(charset);
+  }
+
+  @Override
+  public Validation validation() {
+    return origin.validation();
+  }
+
+  @Override
+  public String asString() {
+    return origin.asString();
+  }
+
+  @Override
+  public Iterator<PathSegmentSubcomponent> iterator() {
+    return segments().iterator();
+  }
+
+  private List<PathSegmentSubcomponent> segments() {
+    var segments = new ArrayList<PathSegmentSubcomponent>();
+    var start = absolute() ? 1 : 0;
+    if (start < path.length()) {
+      for (var i = start; i <= path.length(); i++) {
+        if (i == path.length() || path.charAt(i) == '/') {
+          segments.add(segmentFn.apply(CharBuffer.wrap(path, start, i)));
+          start = i + 1;
+        }
+      }
+    }
+    return segments;
+  }
+
+  private boolean absolute() {
+    return path.length() > 0 && path.charAt(0) == '/';
+  }
+
+  @Override
+  public UriComponent relativePart() {
+    if (!absolute() && firstSegmentWithColon()) {
+      throw new IllegalComponentException(
+        ValidationError.ILLEGAL_STRUCTURE,
+        0,
+        "Unable to build a relative-part with a colon in the first segment"
+      );
+    }
+    return hierPart();
+  }
+
+  private boolean firstSegmentWithColon() {
+    for (var i = 0; i < path.length() && path.charAt(i) != '/'; i++) {
+      if (path.charAt(i) == ':') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public UriComponent relativePart(final AuthorityComponent authority) {
+    return hierPart(authority);
+  }
+
+  @Override
+  public UriComponent hierPart() {
+    if (path.length() > 1 && path.charAt(0) == '/' && path.charAt(1) == '/') {
+      throw new IllegalComponentException(
+        ValidationError.ILLEGAL_STRUCTURE,
+        0,
+        "Unable to build a part without authority and a path starting with //"
+      );
+    }
+    return this;
+  }
+
+  @Override
+  public UriComponent hierPart(final AuthorityComponent authority) {
+    if (absolute() || path.length() == 0) {
+      return formattedFn.apply(AUTHORITY_PATH_TEMPLATE, List.of(authority, this));
+    }
+    throw new IllegalComponentException(
+      ValidationError.ILLEGAL_STRUCTURE,
+      0,
+      "Unable to build a part with an authority and a full relative-path"
+    );
+  }
+
+  @Override
+  public PathComponent segments(final List<PathSegmentSubcomponent> segments) {
+    return absolute() ? new AbsolutePath(segments) : new RelativePath(segments);
+  }
+
+  @Override
+  public <T> T ifEmptyElse(final Function<PathComponent, T> emptyFn, final Function<PathComponent, T> fullFn) {
+    return path.length() == 0 ? emptyFn.apply(this) : fullFn.apply(this);
+  }
+
+  @Override
+  public <T> T ifAbsoluteElse(final Function<PathComponent, T> absoluteFn, final Function<PathComponent, T> relativeFn) {
+    return absolute() ? absoluteFn.apply(this) : relativeFn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof EncodedPath && value.equals(((EncodedPath) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final FormatTemplate AUTHORITY_PATH_TEMPLATE = new FormatTemplate("//%s%s");
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS =
+    new AsciiCharacterClass(List.of(new Pchar(), Set.of('/')));
+
+  private final CharSequence path;
+  private final CharSequenceValue value;
+  private final UriComponent origin;
+  private final Function<CharSequence, PathSegmentSubcomponent> segmentFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
+}
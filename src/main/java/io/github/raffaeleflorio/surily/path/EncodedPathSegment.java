@@ -0,0 +1,97 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.PercentEncodedComponent;
+import io.github.raffaeleflorio.surily.UpperCasePercentEncoding;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.Pchar;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
+/**
+ * RFC3986 compliant {@link PathSegmentSubcomponent} built from an already percent-encoded segment
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class EncodedPathSegment implements PathSegmentSubcomponent {
+  /**
+   * Builds a segment
+   *
+   * @param segment The percent-encoded segment
+   * @since 1.0.0
+   */
+  public EncodedPathSegment(final CharSequence segment) {
+    this(segment, new PercentEncodedComponent(segment, ALLOWED_CHARACTERS));
+  }
+
+  private EncodedPathSegment(final CharSequence segment, final UriComponent origin) {
+    this.segment = segment;
+    this.value = new CharSequenceValue(new UpperCasePercentEncoding(segment));
+    this.origin = origin;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return origin.encoded(charset);
+  }
+
+  @Override
+  public Validation validation() {
+    return origin.validation();
+  }
+
+  @Override
+  public String asString() {
+    return origin.asString();
+  }
+
+  @Override
+  public <T> T ifDotElse(
+    final Function<PathSegmentSubcomponent, T> singleFn,
+    final Function<PathSegmentSubcomponent, T> doubleFn,
+    final Function<PathSegmentSubcomponent, T> normalSegmentFn
+  ) {
+    if (CharSequence.compare(segment, ".") == 0) {
+      return singleFn.apply(this);
+    }
+    if (CharSequence.compare(segment, "..") == 0) {
+      return doubleFn.apply(this);
+    }
+    return normalSegmentFn.apply(this);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof EncodedPathSegment && value.equals(((EncodedPathSegment) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS = new AsciiCharacterClass(new Pchar());
+
+  private final CharSequence segment;
+  private final CharSequenceValue value;
+  private final UriComponent origin;
+}
@@ -0,0 +1,101 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import io.github.raffaeleflorio.surily.MemoizedUriComponent;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
+/**
+ * {@link PathSegmentSubcomponent} decorator that renders its origin once per charset
+ *
+ * <p>The encoded representations, the unencoded one and the validation are computed on first use through a
+ * {@link MemoizedUriComponent}. Whether it's a dot-segment is checked once too. Paths render themselves inside their
+ * hier-part or relative part, so they're memoized through their segments.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MemoizedPathSegment implements PathSegmentSubcomponent {
+  /**
+   * Builds a memoized path segment
+   *
+   * @param origin The path segment to decorate
+   * @since 1.0.0
+   */
+  public MemoizedPathSegment(final PathSegmentSubcomponent origin) {
+    this(origin, new MemoizedUriComponent(origin));
+  }
+
+  private MemoizedPathSegment(final PathSegmentSubcomponent origin, final UriComponent memoized) {
+    this.origin = origin;
+    this.memoized = memoized;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return memoized.encoded(charset);
+  }
+
+  @Override
+  public String asString() {
+    return memoized.asString();
+  }
+
+  @Override
+  public Validation validation() {
+    return memoized.validation();
+  }
+
+  @Override
+  public <T> T ifDotElse(
+    final Function<PathSegmentSubcomponent, T> singleFn,
+    final Function<PathSegmentSubcomponent, T> doubleFn,
+    final Function<PathSegmentSubcomponent, T> normalSegmentFn
+  ) {
+    var dots = dots();
+    if (dots == 1) {
+      return singleFn.apply(this);
+    }
+    return dots == 2 ? doubleFn.apply(this) : normalSegmentFn.apply(this);
+  }
+
+  private int dots() {
+    var result = dots;
+    if (result == null) {
+      result = origin.ifDotElse(x -> 1, x -> 2, x -> 0);
+      dots = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MemoizedPathSegment && origin.equals(((MemoizedPathSegment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final PathSegmentSubcomponent origin;
+  private final UriComponent memoized;
+  private volatile Integer dots;
+}
@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -71,6 +72,16 @@ public final class MergedPath implements PathComponent {
     return merged().encoded(charset);
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return merged().encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    merged().appendTo(destination, charset);
+  }
+
   private PathComponent merged() {
     return Map.<Boolean, Supplier<PathComponent>>of(
         true, this::absoluteRef,
@@ -119,6 +130,11 @@ public final class MergedPath implements PathComponent {
     return merged().asString();
   }
 
+  @Override
+  public void appendTo(final Appendable destination) {
+    merged().appendTo(destination);
+  }
+
   @Override
   public UriComponent relativePart() {
     return merged().relativePart();
@@ -159,7 +175,32 @@ public final class MergedPath implements PathComponent {
     return merged().iterator();
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MergedPath && equal((MergedPath) o);
+  }
+
+  private boolean equal(final MergedPath other) {
+    return base.equals(other.base)
+      && referenceList().equals(other.referenceList());
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(base, referenceList());
+      hash = result;
+    }
+    return result;
+  }
+
+  private List<PathSegmentSubcomponent> referenceList() {
+    return StreamSupport.stream(reference.spliterator(), false).collect(Collectors.toList());
+  }
+
   private final UriReference base;
   private final Iterable<PathSegmentSubcomponent> reference;
   private final Function<List<PathSegmentSubcomponent>, PathComponent> absoluteFn;
+  private volatile int hash;
 }
@@ -15,7 +15,14 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 /**
@@ -52,21 +59,36 @@ public final class NonColonPathSegment implements PathSegmentSubcomponent {
 
   private String nonColon(final CharSequence cs) {
     var segment = cs.toString();
-    if (segment.contains(":")) {
-      throw illegalNonColonSegment(segment);
+    var colon = segment.indexOf(':');
+    if (colon > -1) {
+      throw illegalNonColonSegment(segment, colon);
     }
     return segment;
   }
 
-  private RuntimeException illegalNonColonSegment(final String segment) {
-    return new IllegalStateException(
-      String.format(
+  private RuntimeException illegalNonColonSegment(final String segment, final int colon) {
+    return new IllegalComponentException(
+      ValidationError.COLON_IN_SEGMENT,
+      colon,
+      () -> String.format(
         "Illegal non-colon segment: <%s>",
         segment.length() > 4096 ? segment.substring(0, 4096).concat("...") : segment
       )
     );
   }
 
+  @Override
+  public Validation validation() {
+    return origin.validation().ifValidElse(
+      () -> colonValidation(origin.encoded(StandardCharsets.UTF_8).toString().indexOf(':')),
+      Invalid::new
+    );
+  }
+
+  private Validation colonValidation(final int colon) {
+    return colon > -1 ? new Invalid(ValidationError.COLON_IN_SEGMENT, colon) : new Valid();
+  }
+
   @Override
   public String asString() {
     return nonColon(origin.asString());
@@ -85,5 +107,15 @@ public final class NonColonPathSegment implements PathSegmentSubcomponent {
     );
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof NonColonPathSegment && origin.equals(((NonColonPathSegment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final PathSegmentSubcomponent origin;
 }
@@ -15,7 +15,14 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
 /**
@@ -52,11 +59,21 @@ public final class NonZeroPathSegment implements PathSegmentSubcomponent {
 
   private String nonZero(final CharSequence cs) {
     if (cs.length() == 0) {
-      throw new IllegalStateException("Illegal non-zero segment");
+      throw new IllegalComponentException(ValidationError.ZERO_LENGTH_SEGMENT, 0, "Illegal non-zero segment");
     }
     return cs.toString();
   }
 
+  @Override
+  public Validation validation() {
+    return origin.validation().ifValidElse(
+      () -> origin.encoded(StandardCharsets.UTF_8).length() == 0
+        ? new Invalid(ValidationError.ZERO_LENGTH_SEGMENT, 0)
+        : new Valid(),
+      Invalid::new
+    );
+  }
+
   @Override
   public String asString() {
     return nonZero(origin.asString());
@@ -75,5 +92,15 @@ public final class NonZeroPathSegment implements PathSegmentSubcomponent {
     );
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof NonZeroPathSegment && origin.equals(((NonZeroPathSegment) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
   private final PathSegmentSubcomponent origin;
 }
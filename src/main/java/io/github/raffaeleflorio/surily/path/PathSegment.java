@@ -15,7 +15,9 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
 import io.github.raffaeleflorio.surily.PercentEncoded;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.Pchar;
 
 import java.nio.charset.Charset;
@@ -47,7 +49,7 @@ public final class PathSegment implements PathSegmentSubcomponent {
    * @since 1.0.0
    */
   public PathSegment(final CharSequence segment) {
-    this(segment, (s, charset) -> new PercentEncoded(s, charset, new Pchar()));
+    this(segment, (s, charset) -> new PercentEncoded(s, charset, ALLOWED_CHARACTERS));
   }
 
   /**
@@ -57,8 +59,9 @@ public final class PathSegment implements PathSegmentSubcomponent {
    * @param encodingFn The encoding function
    * @since 1.0.0
    */
-  PathSegment(final CharSequence segment, final BiFunction<CharSequence, Charset, CharSequence> encodingFn) {
+  PathSegment(final CharSequence segment, final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn) {
     this.segment = segment;
+    this.value = new CharSequenceValue(segment);
     this.encodingFn = encodingFn;
   }
 
@@ -67,6 +70,16 @@ public final class PathSegment implements PathSegmentSubcomponent {
     return encodingFn.apply(segment, charset).toString();
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return encodingFn.apply(segment, charset).length();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    encodingFn.apply(segment, charset).appendTo(destination);
+  }
+
   @Override
   public String asString() {
     return segment.toString();
@@ -84,6 +97,19 @@ public final class PathSegment implements PathSegmentSubcomponent {
     ).getOrDefault(segment, () -> normalSegmentFn.apply(this)).get();
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof PathSegment && value.equals(((PathSegment) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALLOWED_CHARACTERS = new AsciiCharacterClass(new Pchar());
+
   private final CharSequence segment;
-  private final BiFunction<CharSequence, Charset, CharSequence> encodingFn;
+  private final CharSequenceValue value;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> encodingFn;
 }
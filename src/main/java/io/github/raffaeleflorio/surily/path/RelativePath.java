@@ -15,19 +15,20 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.FormatTemplate;
 import io.github.raffaeleflorio.surily.FormattedComponents;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import io.github.raffaeleflorio.surily.JoinedComponents;
 import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.ValidationError;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
 
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * RFC3986 compliant relative {@link PathComponent} like: ../../../file.json
@@ -76,7 +77,7 @@ public final class RelativePath implements PathComponent {
     final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> rootlessFn,
     final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> noSchemeFn,
     final BiFunction<List<UriComponent>, String, UriComponent> joinedFn,
-    final BiFunction<String, List<UriComponent>, UriComponent> formattedFn
+    final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn
   ) {
     this.segments = segments;
     this.rootlessFn = rootlessFn;
@@ -87,25 +88,52 @@ public final class RelativePath implements PathComponent {
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return joinedSegments(rootlessFn).encoded(charset);
+    return plan().encoded(charset);
+  }
+
+  private UriComponent plan() {
+    var result = plan;
+    if (result == null) {
+      result = joinedSegments(rootlessFn);
+      plan = result;
+    }
+    return result;
   }
 
   private UriComponent joinedSegments(
     final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> firstFn
   ) {
-    return joinedFn.apply(segments(firstFn).collect(Collectors.toUnmodifiableList()), "/");
+    return joinedFn.apply(List.copyOf(segments(firstFn)), "/");
   }
 
-  private Stream<PathSegmentSubcomponent> segments(
+  private List<PathSegmentSubcomponent> segments(
     final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> firstFn
   ) {
-    return IntStream.range(0, segments.size())
-      .mapToObj(i -> i == 0 ? firstFn.apply(segments.get(0)) : segments.get(i));
+    var result = new ArrayList<PathSegmentSubcomponent>(segments.size());
+    for (var i = 0; i < segments.size(); i++) {
+      result.add(i == 0 ? firstFn.apply(segments.get(0)) : segments.get(i));
+    }
+    return result;
+  }
+
+  @Override
+  public int encodedLength(final Charset charset) {
+    return plan().encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    plan().appendTo(destination, charset);
   }
 
   @Override
   public String asString() {
-    return joinedSegments(rootlessFn).asString();
+    return plan().asString();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination) {
+    plan().appendTo(destination);
   }
 
   @Override
@@ -123,13 +151,17 @@ public final class RelativePath implements PathComponent {
     return ifEmptyElse(
       x -> part(authority),
       y -> {
-        throw new IllegalStateException("Unable to build a relative-part with an authority and a full relative-path");
+        throw new IllegalComponentException(
+          ValidationError.ILLEGAL_STRUCTURE,
+          0,
+          "Unable to build a relative-part with an authority and a full relative-path"
+        );
       }
     );
   }
 
   private UriComponent part(final AuthorityComponent authority) {
-    return formattedFn.apply("//%s", List.of(authority));
+    return formattedFn.apply(AUTHORITY_TEMPLATE, List.of(authority));
   }
 
   @Override
@@ -142,7 +174,11 @@ public final class RelativePath implements PathComponent {
     return ifEmptyElse(
       x -> part(authority),
       y -> {
-        throw new IllegalStateException("Unable to build a hier-part with an authority and a full relative-path");
+        throw new IllegalComponentException(
+          ValidationError.ILLEGAL_STRUCTURE,
+          0,
+          "Unable to build a hier-part with an authority and a full relative-path"
+        );
       }
     );
   }
@@ -162,9 +198,32 @@ public final class RelativePath implements PathComponent {
     return relativeFn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof RelativePath && equal((RelativePath) o);
+  }
+
+  private boolean equal(final RelativePath other) {
+    return segments.equals(other.segments);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = segments.hashCode();
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final FormatTemplate AUTHORITY_TEMPLATE = new FormatTemplate("//%s");
+
   private final List<PathSegmentSubcomponent> segments;
   private final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> rootlessFn;
   private final Function<PathSegmentSubcomponent, PathSegmentSubcomponent> noSchemeFn;
   private final BiFunction<List<UriComponent>, String, UriComponent> joinedFn;
-  private final BiFunction<String, List<UriComponent>, UriComponent> formattedFn;
+  private final BiFunction<FormatTemplate, List<UriComponent>, UriComponent> formattedFn;
+  private volatile UriComponent plan;
+  private volatile int hash;
 }
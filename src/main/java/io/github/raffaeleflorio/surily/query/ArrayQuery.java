@@ -15,6 +15,7 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+
 import java.nio.charset.Charset;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -102,17 +103,52 @@ public final class ArrayQuery implements QueryComponent {
     return concatenatedFn.apply(key, values).encoded(charset);
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    return concatenatedFn.apply(key, values).encodedLength(charset);
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    concatenatedFn.apply(key, values).appendTo(destination, charset);
+  }
+
   @Override
   public String asString() {
     return concatenatedFn.apply(key, values).asString();
   }
 
+  @Override
+  public void appendTo(final Appendable destination) {
+    concatenatedFn.apply(key, values).appendTo(destination);
+  }
+
   @Override
   public <T> T ifDefinedElse(final Function<QueryComponent, T> fn, final Supplier<T> undefinedFn) {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof ArrayQuery && equal((ArrayQuery) o);
+  }
+
+  private boolean equal(final ArrayQuery other) {
+    return concatenatedFn.apply(key, values).equals(other.concatenatedFn.apply(other.key, other.values));
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = concatenatedFn.apply(key, values).hashCode();
+      hash = result;
+    }
+    return result;
+  }
+
   private final CharSequence key;
   private final Iterable<CharSequence> values;
   private final BiFunction<CharSequence, Iterable<CharSequence>, QueryComponent> concatenatedFn;
+  private volatile int hash;
 }
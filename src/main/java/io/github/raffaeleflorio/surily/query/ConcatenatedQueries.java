@@ -15,10 +15,16 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import io.github.raffaeleflorio.surily.PercentEncoded;
-import io.github.raffaeleflorio.surily.set.DiffSet;
+import io.github.raffaeleflorio.surily.ValidationError;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -52,24 +58,22 @@ public final class ConcatenatedQueries implements QueryComponent {
    * @since 1.0.0
    */
   public ConcatenatedQueries(final Iterable<QueryComponent> components, final Character delimiter) {
+    this(components, delimiter, QUERY_CHARACTERS.difference(new AsciiCharacterClass(delimiter.toString())));
+  }
+
+  private ConcatenatedQueries(
+    final Iterable<QueryComponent> components,
+    final Character delimiter,
+    final AsciiCharacterClass componentCharacters
+  ) {
     this(
       components,
       delimiter,
-      new DiffSet<>(
-        new QueryCharacters(),
-        Set.of('%')
-      ),
+      ALLOWED_DELIMITERS,
       (component, charset) -> component
         .encoded(charset)
         .toString()
-        .replace(
-          delimiter.toString(),
-          new PercentEncoded(
-            delimiter.toString(),
-            charset,
-            new DiffSet<>(new QueryCharacters(), Set.of(delimiter))
-          )
-        )
+        .replace(delimiter.toString(), new PercentEncoded(delimiter.toString(), charset, componentCharacters))
     );
   }
 
@@ -101,6 +105,20 @@ public final class ConcatenatedQueries implements QueryComponent {
       .collect(Collectors.joining(delimiter.toString()));
   }
 
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    assertValidDelimiter();
+    try {
+      var separator = "";
+      for (var component : components) {
+        destination.append(separator).append(componentEncodingFn.apply(component, charset));
+        separator = delimiter.toString();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private Stream<QueryComponent> components() {
     assertValidDelimiter();
     return StreamSupport.stream(components.spliterator(), false);
@@ -108,7 +126,11 @@ public final class ConcatenatedQueries implements QueryComponent {
 
   private void assertValidDelimiter() {
     if (!allowedDelimiters.contains(delimiter)) {
-      throw new IllegalStateException(String.format("Illegal delimiter: <%s>", delimiter));
+      throw new IllegalComponentException(
+        ValidationError.ILLEGAL_DELIMITER,
+        0,
+        () -> String.format("Illegal delimiter: <%s>", delimiter)
+      );
     }
   }
 
@@ -122,8 +144,37 @@ public final class ConcatenatedQueries implements QueryComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof ConcatenatedQueries && equal((ConcatenatedQueries) o);
+  }
+
+  private boolean equal(final ConcatenatedQueries other) {
+    return componentList().equals(other.componentList())
+      && delimiter.equals(other.delimiter);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(componentList(), delimiter);
+      hash = result;
+    }
+    return result;
+  }
+
+  private List<QueryComponent> componentList() {
+    return StreamSupport.stream(components.spliterator(), false).collect(Collectors.toList());
+  }
+
+  private static final AsciiCharacterClass QUERY_CHARACTERS = new AsciiCharacterClass(new QueryCharacters());
+  private static final AsciiCharacterClass ALLOWED_DELIMITERS =
+    QUERY_CHARACTERS.difference(new AsciiCharacterClass("%"));
+
   private final Iterable<QueryComponent> components;
   private final Character delimiter;
   private final Set<Character> allowedDelimiters;
   private final BiFunction<QueryComponent, Charset, CharSequence> componentEncodingFn;
+  private volatile int hash;
 }
@@ -15,10 +15,16 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import io.github.raffaeleflorio.surily.PercentEncoded;
-import io.github.raffaeleflorio.surily.set.DiffSet;
+import io.github.raffaeleflorio.surily.ValidationError;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -51,13 +57,22 @@ public final class PairQuery implements QueryComponent {
    * @since 1.0.0
    */
   public PairQuery(final CharSequence key, final CharSequence value, final Character delimiter) {
+    this(key, value, delimiter, QUERY_CHARACTERS.difference(new AsciiCharacterClass(delimiter.toString())));
+  }
+
+  private PairQuery(
+    final CharSequence key,
+    final CharSequence value,
+    final Character delimiter,
+    final AsciiCharacterClass keyCharacters
+  ) {
     this(
       key,
       value,
       delimiter,
-      (s, charset) -> new PercentEncoded(s, charset, new DiffSet<>(new QueryCharacters(), Set.of(delimiter))),
-      (s, charset) -> new PercentEncoded(s, charset, new QueryCharacters()),
-      new DiffSet<>(new QueryCharacters(), Set.of('%'))
+      (s, charset) -> new PercentEncoded(s, charset, keyCharacters),
+      (s, charset) -> new PercentEncoded(s, charset, QUERY_CHARACTERS),
+      ALLOWED_DELIMITERS
     );
   }
 
@@ -76,8 +91,8 @@ public final class PairQuery implements QueryComponent {
     final CharSequence key,
     final CharSequence value,
     final Character delimiter,
-    final BiFunction<CharSequence, Charset, CharSequence> keyEncoding,
-    final BiFunction<CharSequence, Charset, CharSequence> valueEncoding,
+    final BiFunction<CharSequence, Charset, PercentEncoded> keyEncoding,
+    final BiFunction<CharSequence, Charset, PercentEncoded> valueEncoding,
     final Set<Character> allowedDelimiters
   ) {
     this.key = key;
@@ -97,6 +112,23 @@ public final class PairQuery implements QueryComponent {
     );
   }
 
+  @Override
+  public int encodedLength(final Charset charset) {
+    assertDelimiter();
+    return keyEncoding.apply(key, charset).length() + 1 + valueEncoding.apply(value, charset).length();
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    assertDelimiter();
+    try {
+      keyEncoding.apply(key, charset).appendTo(destination).append(delimiter);
+      valueEncoding.apply(value, charset).appendTo(destination);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private String concatenated(final CharSequence key, final Character delimiter, final CharSequence value) {
     assertDelimiter();
     return String.format("%s%s%s", key, delimiter, value);
@@ -104,7 +136,11 @@ public final class PairQuery implements QueryComponent {
 
   private void assertDelimiter() {
     if (!allowedDelimiters.contains(delimiter)) {
-      throw new IllegalStateException(String.format("Illegal delimiter: <%s>", delimiter));
+      throw new IllegalComponentException(
+        ValidationError.ILLEGAL_DELIMITER,
+        0,
+        () -> String.format("Illegal delimiter: <%s>", delimiter)
+      );
     }
   }
 
@@ -118,10 +154,36 @@ public final class PairQuery implements QueryComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof PairQuery && equal((PairQuery) o);
+  }
+
+  private boolean equal(final PairQuery other) {
+    return new CharSequenceValue(key).equals(new CharSequenceValue(other.key))
+      && new CharSequenceValue(value).equals(new CharSequenceValue(other.value))
+      && delimiter.equals(other.delimiter);
+  }
+
+  @Override
+  public int hashCode() {
+    var result = hash;
+    if (result == 0) {
+      result = Objects.hash(new CharSequenceValue(key), new CharSequenceValue(value), delimiter);
+      hash = result;
+    }
+    return result;
+  }
+
+  private static final AsciiCharacterClass QUERY_CHARACTERS = new AsciiCharacterClass(new QueryCharacters());
+  private static final AsciiCharacterClass ALLOWED_DELIMITERS =
+    QUERY_CHARACTERS.difference(new AsciiCharacterClass("%"));
+
   private final CharSequence key;
   private final CharSequence value;
   private final Character delimiter;
-  private final BiFunction<CharSequence, Charset, CharSequence> keyEncoding;
-  private final BiFunction<CharSequence, Charset, CharSequence> valueEncoding;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> keyEncoding;
+  private final BiFunction<CharSequence, Charset, PercentEncoded> valueEncoding;
   private final Set<Character> allowedDelimiters;
+  private volatile int hash;
 }
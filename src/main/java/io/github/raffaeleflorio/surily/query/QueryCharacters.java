@@ -15,11 +15,12 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
 import io.github.raffaeleflorio.surily.characters.Pchar;
-import io.github.raffaeleflorio.surily.set.UnionSet;
 
 import java.util.AbstractSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -36,17 +37,24 @@ final class QueryCharacters extends AbstractSet<Character> {
    */
   QueryCharacters() {
     this(
-      new UnionSet<>(
-        new Pchar(),
-        Set.of('/', '?')
+      new AsciiCharacterClass(
+        List.of(
+          new Pchar(),
+          Set.of('/', '?')
+        )
       )
     );
   }
 
-  private QueryCharacters(final Set<Character> queryCharacters) {
+  private QueryCharacters(final AsciiCharacterClass queryCharacters) {
     this.queryCharacters = queryCharacters;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return queryCharacters.contains(o);
+  }
+
   @Override
   public Iterator<Character> iterator() {
     return queryCharacters.iterator();
@@ -57,5 +65,5 @@ final class QueryCharacters extends AbstractSet<Character> {
     return queryCharacters.size();
   }
 
-  private final Set<Character> queryCharacters;
+  private final AsciiCharacterClass queryCharacters;
 }
@@ -15,6 +15,11 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -40,7 +45,16 @@ public final class UndefinedQuery implements QueryComponent {
   }
 
   private RuntimeException undefinedQuery() {
-    return new IllegalStateException("No representations for an undefined query");
+    return new IllegalComponentException(
+      ValidationError.UNDEFINED_COMPONENT,
+      0,
+      "No representations for an undefined query"
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    return new Invalid(ValidationError.UNDEFINED_COMPONENT, 0);
   }
 
   @Override
@@ -52,4 +66,14 @@ public final class UndefinedQuery implements QueryComponent {
   public <T> T ifDefinedElse(final Function<QueryComponent, T> fn, final Supplier<T> undefinedFn) {
     return undefinedFn.get();
   }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof UndefinedQuery;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
 }
@@ -0,0 +1,99 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import io.github.raffaeleflorio.surily.MemoizedUriComponent;
+import io.github.raffaeleflorio.surily.UriComponent;
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link SchemeComponent} decorator that renders its origin once per charset
+ *
+ * <p>The encoded representations, the unencoded one and the validation are computed on first use through a
+ * {@link MemoizedUriComponent}. The definedness is checked once too, while the other methods are delegated to the
+ * origin.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MemoizedScheme implements SchemeComponent {
+  /**
+   * Builds a memoized scheme
+   *
+   * @param origin The scheme to decorate
+   * @since 1.0.0
+   */
+  public MemoizedScheme(final SchemeComponent origin) {
+    this(origin, new MemoizedUriComponent(origin));
+  }
+
+  private MemoizedScheme(final SchemeComponent origin, final UriComponent memoized) {
+    this.origin = origin;
+    this.memoized = memoized;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return memoized.encoded(charset);
+  }
+
+  @Override
+  public String asString() {
+    return memoized.asString();
+  }
+
+  @Override
+  public Validation validation() {
+    return memoized.validation();
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<SchemeComponent, T> fn, final Supplier<T> undefinedFn) {
+    return defined() ? fn.apply(this) : undefinedFn.get();
+  }
+
+  private boolean defined() {
+    var result = defined;
+    if (result == null) {
+      result = origin.ifDefinedElse(x -> true, () -> false);
+      defined = result;
+    }
+    return result;
+  }
+
+  @Override
+  public <T> T ifDefaultPortElse(final Function<Integer, T> fn, final Supplier<T> otherFn) {
+    return origin.ifDefaultPortElse(fn, otherFn);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof MemoizedScheme && origin.equals(((MemoizedScheme) o).origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return origin.hashCode();
+  }
+
+  private final SchemeComponent origin;
+  private final UriComponent memoized;
+  private volatile Boolean defined;
+}
@@ -15,15 +15,32 @@
  */
 package io.github.raffaeleflorio.surily.scheme;
 
+import io.github.raffaeleflorio.surily.CharSequenceValue;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.LowerCaseAscii;
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+import io.github.raffaeleflorio.surily.characters.AsciiCharacterClass;
+import io.github.raffaeleflorio.surily.characters.Digits;
+import io.github.raffaeleflorio.surily.characters.EnglishLowerCaseAlphabet;
+import io.github.raffaeleflorio.surily.characters.EnglishUpperCaseAlphabet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
-import java.util.function.BiFunction;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * RFC3986 {@link SchemeComponent}
  *
+ * <p>Well-known schemes are rendered through their {@link WellKnownScheme} constant, which also gives their default
+ * port.</p>
+ *
  * @author Raffaele Florio (raffaeleflorio@protonmail.com)
  * @since 1.0.0
  */
@@ -35,42 +52,99 @@ public final class Scheme implements SchemeComponent {
    * @since 1.0.0
    */
   public Scheme(final CharSequence scheme) {
-    this(scheme, Pattern::matches);
+    this(scheme, ALPHA, SCHEME_CHARACTERS);
+  }
+
+  /**
+   * Builds a scheme
+   *
+   * @param scheme     The scheme
+   * @param alpha      The characters allowed as first character (i.e. ALPHA)
+   * @param characters The characters allowed after the first one (i.e. ALPHA / DIGIT / "+" / "-" / ".")
+   * @since 1.0.0
+   */
+  Scheme(final CharSequence scheme, final AsciiCharacterClass alpha, final AsciiCharacterClass characters) {
+    this(scheme, alpha, characters, new WellKnownSchemes());
   }
 
   /**
    * Builds a scheme
    *
-   * @param scheme  The scheme
-   * @param matchFn The function to match a string against a regexp
+   * @param scheme     The scheme
+   * @param alpha      The characters allowed as first character (i.e. ALPHA)
+   * @param characters The characters allowed after the first one (i.e. ALPHA / DIGIT / "+" / "-" / ".")
+   * @param schemes    The well-known schemes
    * @since 1.0.0
    */
-  Scheme(final CharSequence scheme, final BiFunction<String, CharSequence, Boolean> matchFn) {
+  Scheme(
+    final CharSequence scheme,
+    final AsciiCharacterClass alpha,
+    final AsciiCharacterClass characters,
+    final WellKnownSchemes schemes
+  ) {
     this.scheme = scheme;
-    this.matchFn = matchFn;
+    this.value = new CharSequenceValue(new LowerCaseAscii(scheme));
+    this.alpha = alpha;
+    this.characters = characters;
+    this.schemes = schemes;
   }
 
   @Override
   public CharSequence encoded(final Charset charset) {
-    return validated().toLowerCase();
+    return schemes.ifKnownElse(scheme, known -> known.encoded(charset), () -> validated().toLowerCase());
+  }
+
+  @Override
+  public void appendTo(final Appendable destination, final Charset charset) {
+    var illegal = illegalIndex();
+    if (illegal >= 0) {
+      throw illegalSchemeExcpetion(illegal);
+    }
+    try {
+      for (var i = 0; i < scheme.length(); i++) {
+        destination.append(Character.toLowerCase(scheme.charAt(i)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   private String validated() {
-    if (matchFn.apply("[a-zA-Z][a-zA-Z0-9+\\-.]*", scheme)) {
+    var illegal = illegalIndex();
+    if (illegal < 0) {
       return scheme.toString();
     }
-    throw illegalSchemeExcpetion();
+    throw illegalSchemeExcpetion(illegal);
   }
 
-  private RuntimeException illegalSchemeExcpetion() {
-    return new IllegalStateException(
-      String.format(
+  private int illegalIndex() {
+    if (scheme.length() == 0 || !alpha.contains(scheme.charAt(0))) {
+      return 0;
+    }
+    var i = 1;
+    while (i < scheme.length() && characters.contains(scheme.charAt(i))) {
+      i++;
+    }
+    return i == scheme.length() ? -1 : i;
+  }
+
+  private RuntimeException illegalSchemeExcpetion(final int illegal) {
+    return new IllegalComponentException(
+      ValidationError.ILLEGAL_SCHEME,
+      illegal,
+      () -> String.format(
         "Illegal scheme: <%s>",
         scheme.length() > 4096 ? scheme.toString().substring(0, 4096).concat("...") : scheme
       )
     );
   }
 
+  @Override
+  public Validation validation() {
+    var illegal = illegalIndex();
+    return illegal < 0 ? new Valid() : new Invalid(ValidationError.ILLEGAL_SCHEME, illegal);
+  }
+
   @Override
   public String asString() {
     return validated();
@@ -81,6 +155,29 @@ public final class Scheme implements SchemeComponent {
     return fn.apply(this);
   }
 
+  @Override
+  public <T> T ifDefaultPortElse(final Function<Integer, T> fn, final Supplier<T> otherFn) {
+    return schemes.ifKnownElse(scheme, known -> known.ifDefaultPortElse(fn, otherFn), otherFn);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    return this == o || o instanceof Scheme && value.equals(((Scheme) o).value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  private static final AsciiCharacterClass ALPHA =
+    new AsciiCharacterClass(List.of(new EnglishLowerCaseAlphabet(), new EnglishUpperCaseAlphabet()));
+  private static final AsciiCharacterClass SCHEME_CHARACTERS =
+    new AsciiCharacterClass(List.of(ALPHA, new Digits(), Set.of('+', '-', '.')));
+
   private final CharSequence scheme;
-  private final BiFunction<String, CharSequence, Boolean> matchFn;
+  private final CharSequenceValue value;
+  private final AsciiCharacterClass alpha;
+  private final AsciiCharacterClass characters;
+  private final WellKnownSchemes schemes;
 }
@@ -39,6 +39,19 @@ public interface SchemeComponent extends UriComponent {
    */
   <T> T ifDefinedElse(Function<SchemeComponent, T> fn, Supplier<T> undefinedFn);
 
+  /**
+   * Uses a function with the default port of the scheme (e.g. 80 for http) if it has one, otherwise a supplier
+   *
+   * @param fn      The function used with the default port
+   * @param otherFn The supplier used when the scheme hasn't a default port
+   * @param <T>     The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  default <T> T ifDefaultPortElse(Function<Integer, T> fn, Supplier<T> otherFn) {
+    return otherFn.get();
+  }
+
   /**
    * {@link SchemeComponent} for testing purpose
    *
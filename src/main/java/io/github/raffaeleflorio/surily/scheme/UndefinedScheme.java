@@ -15,6 +15,11 @@
  */
 package io.github.raffaeleflorio.surily.scheme;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
+import io.github.raffaeleflorio.surily.Invalid;
+import io.github.raffaeleflorio.surily.Validation;
+import io.github.raffaeleflorio.surily.ValidationError;
+
 import java.nio.charset.Charset;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,11 +50,30 @@ public final class UndefinedScheme implements SchemeComponent {
   }
 
   private RuntimeException undefinedSchemeException() {
-    return new IllegalStateException("No representations for an undefined scheme");
+    return new IllegalComponentException(
+      ValidationError.UNDEFINED_COMPONENT,
+      0,
+      "No representations for an undefined scheme"
+    );
+  }
+
+  @Override
+  public Validation validation() {
+    return new Invalid(ValidationError.UNDEFINED_COMPONENT, 0);
   }
 
   @Override
   public String asString() {
     throw undefinedSchemeException();
   }
+
+  @Override
+  public boolean equals(final Object o) {
+    return o instanceof UndefinedScheme;
+  }
+
+  @Override
+  public int hashCode() {
+    return 0;
+  }
 }
@@ -0,0 +1,121 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import io.github.raffaeleflorio.surily.Valid;
+import io.github.raffaeleflorio.surily.Validation;
+
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shared, valid and lowercase {@link SchemeComponent} of well-known schemes
+ *
+ * <p>Its representations are constant strings. Use {@link WellKnownSchemes} to resolve a scheme to its constant.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public enum WellKnownScheme implements SchemeComponent {
+  /**
+   * The http scheme with 80 as default port
+   *
+   * @since 1.0.0
+   */
+  HTTP("http", 80),
+  /**
+   * The https scheme with 443 as default port
+   *
+   * @since 1.0.0
+   */
+  HTTPS("https", 443),
+  /**
+   * The ws scheme with 80 as default port
+   *
+   * @since 1.0.0
+   */
+  WS("ws", 80),
+  /**
+   * The wss scheme with 443 as default port
+   *
+   * @since 1.0.0
+   */
+  WSS("wss", 443),
+  /**
+   * The ftp scheme with 21 as default port
+   *
+   * @since 1.0.0
+   */
+  FTP("ftp", 21),
+  /**
+   * The file scheme without default port
+   *
+   * @since 1.0.0
+   */
+  FILE("file", -1),
+  /**
+   * The mailto scheme without default port
+   *
+   * @since 1.0.0
+   */
+  MAILTO("mailto", -1),
+  /**
+   * The urn scheme without default port
+   *
+   * @since 1.0.0
+   */
+  URN("urn", -1),
+  /**
+   * The data scheme without default port
+   *
+   * @since 1.0.0
+   */
+  DATA("data", -1);
+
+  WellKnownScheme(final String scheme, final Integer port) {
+    this.scheme = scheme;
+    this.port = port;
+  }
+
+  @Override
+  public CharSequence encoded(final Charset charset) {
+    return scheme;
+  }
+
+  @Override
+  public Validation validation() {
+    return new Valid();
+  }
+
+  @Override
+  public String asString() {
+    return scheme;
+  }
+
+  @Override
+  public <T> T ifDefinedElse(final Function<SchemeComponent, T> fn, final Supplier<T> undefinedFn) {
+    return fn.apply(this);
+  }
+
+  @Override
+  public <T> T ifDefaultPortElse(final Function<Integer, T> fn, final Supplier<T> otherFn) {
+    return port < 0 ? otherFn.get() : fn.apply(port);
+  }
+
+  private final String scheme;
+  private final Integer port;
+}
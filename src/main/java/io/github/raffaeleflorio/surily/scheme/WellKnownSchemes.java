@@ -0,0 +1,110 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Case-insensitive lookup of the {@link WellKnownScheme} constants
+ *
+ * <p>A lookup switches on the length and the first character of the scheme and then it compares the characters of
+ * the only candidate. It doesn't allocate.</p>
+ *
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class WellKnownSchemes {
+  /**
+   * Builds the lookup
+   *
+   * @since 1.0.0
+   */
+  public WellKnownSchemes() {
+
+  }
+
+  /**
+   * Uses a function with the well-known constant of a scheme, otherwise a supplier
+   *
+   * @param scheme  The scheme
+   * @param fn      The function used with the constant
+   * @param otherFn The supplier used if the scheme isn't well-known
+   * @param <T>     The result type
+   * @return The result
+   * @since 1.0.0
+   */
+  public <T> T ifKnownElse(
+    final CharSequence scheme,
+    final Function<WellKnownScheme, T> fn,
+    final Supplier<T> otherFn
+  ) {
+    var candidate = candidate(scheme);
+    return candidate != null && matches(candidate.asString(), scheme) ? fn.apply(candidate) : otherFn.get();
+  }
+
+  private WellKnownScheme candidate(final CharSequence scheme) {
+    switch (scheme.length()) {
+      case 2:
+        return WellKnownScheme.WS;
+      case 3:
+        return threeLetters(lowercase(scheme.charAt(0)));
+      case 4:
+        return fourLetters(lowercase(scheme.charAt(0)));
+      case 5:
+        return WellKnownScheme.HTTPS;
+      case 6:
+        return WellKnownScheme.MAILTO;
+      default:
+        return null;
+    }
+  }
+
+  private WellKnownScheme threeLetters(final char first) {
+    switch (first) {
+      case 'w':
+        return WellKnownScheme.WSS;
+      case 'f':
+        return WellKnownScheme.FTP;
+      default:
+        return WellKnownScheme.URN;
+    }
+  }
+
+  private WellKnownScheme fourLetters(final char first) {
+    switch (first) {
+      case 'h':
+        return WellKnownScheme.HTTP;
+      case 'f':
+        return WellKnownScheme.FILE;
+      default:
+        return WellKnownScheme.DATA;
+    }
+  }
+
+  private boolean matches(final String known, final CharSequence scheme) {
+    for (var i = 0; i < known.length(); i++) {
+      if (known.charAt(i) != lowercase(scheme.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private char lowercase(final char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+  }
+}
@@ -40,6 +40,11 @@ public final class IntersectionSet<T> extends AbstractSet<T> {
     this.two = two;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return one.contains(o) && two.contains(o);
+  }
+
   @Override
   public Iterator<T> iterator() {
     return stream().iterator();
@@ -0,0 +1,58 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.set;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Immutable hash-backed snapshot of a set. It's useful to flatten a composition of lazy sets (e.g. {@link UnionSet},
+ * {@link IntersectionSet} and {@link DiffSet}) once, so that contains and size don't depend on the composition depth.
+ * For ASCII characters see also {@link io.github.raffaeleflorio.surily.characters.AsciiCharacterClass}.
+ *
+ * @param <T> The elements type
+ * @author Raffaele Florio (raffaeleflorio@protonmail.com)
+ * @since 1.0.0
+ */
+public final class MaterializedSet<T> extends AbstractSet<T> {
+  /**
+   * Builds the snapshot
+   *
+   * @param origin The set to materialize
+   * @since 1.0.0
+   */
+  public MaterializedSet(final Set<T> origin) {
+    this.materialized = Set.copyOf(origin);
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return materialized.contains(o);
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return materialized.iterator();
+  }
+
+  @Override
+  public int size() {
+    return materialized.size();
+  }
+
+  private final Set<T> materialized;
+}
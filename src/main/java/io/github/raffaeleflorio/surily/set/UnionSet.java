@@ -18,6 +18,7 @@ package io.github.raffaeleflorio.surily.set;
 import java.util.AbstractSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +41,11 @@ public final class UnionSet<T> extends AbstractSet<T> {
     this.two = two;
   }
 
+  @Override
+  public boolean contains(final Object o) {
+    return one.contains(o) || two.contains(o);
+  }
+
   @Override
   public Iterator<T> iterator() {
     return stream().iterator();
@@ -47,12 +53,16 @@ public final class UnionSet<T> extends AbstractSet<T> {
 
   @Override
   public Stream<T> stream() {
-    return Stream.concat(one.stream(), two.stream()).distinct();
+    return Stream.concat(one.stream(), twoExceptOne());
+  }
+
+  private Stream<T> twoExceptOne() {
+    return two.stream().filter(Predicate.not(one::contains));
   }
 
   @Override
   public int size() {
-    return Long.valueOf(stream().count()).intValue(); // FIXME
+    return one.size() + Long.valueOf(twoExceptOne().count()).intValue();
   }
 
   private final Set<T> one;
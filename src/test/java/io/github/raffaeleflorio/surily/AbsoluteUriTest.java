@@ -15,18 +15,29 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.authority.Authority;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
 import io.github.raffaeleflorio.surily.authority.HostSubcomponent;
+import io.github.raffaeleflorio.surily.authority.Port;
 import io.github.raffaeleflorio.surily.authority.PortSubcomponent;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.authority.UndefinedAuthority;
 import io.github.raffaeleflorio.surily.authority.UserinfoSubComponent;
+import io.github.raffaeleflorio.surily.path.EmptyPath;
 import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.path.PathSegment;
+import io.github.raffaeleflorio.surily.path.RelativePath;
+import io.github.raffaeleflorio.surily.query.PairQuery;
 import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.query.UndefinedQuery;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
 import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 import io.github.raffaeleflorio.surily.scheme.UndefinedScheme;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -207,4 +218,46 @@ class AbsoluteUriTest {
       assertThrows(IllegalStateException.class, executable).getMessage()
     );
   }
+
+  @Test
+  void testEquivalentUris() {
+    var uri = new AbsoluteUri(new Scheme("HTTP"), new Authority(new RegName("EXAMPLE.com"), new Port("080")));
+    var equivalent = new AbsoluteUri(new Scheme("http"), new Authority(new RegName("example.com"), new Port(80)));
+    assertAll(
+      () -> assertEquals(uri, equivalent),
+      () -> assertEquals(uri.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(uri, new AbsoluteUri(new Scheme("http"), new Authority(new RegName("example.com")))),
+      () -> assertNotEquals(uri, new Uri(new Scheme("http"), new Authority(new RegName("example.com"), new Port(80))))
+    );
+  }
+
+  @Test
+  void testUndefinedQueryRendering() {
+    var uri = new AbsoluteUri(
+      new Scheme("s"),
+      new Authority(new RegName("\u00FC")),
+      new EmptyPath(),
+      new UndefinedQuery()
+    );
+    var destination = new StringBuilder("> ");
+    uri.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> s://%C3%BC", destination.toString()),
+      () -> assertEquals(10, uri.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var uri = new AbsoluteUri(
+      new Scheme("s"),
+      new UndefinedAuthority(),
+      new RelativePath(List.of(new PathSegment("\u00E8"))),
+      new PairQuery("k", "\u00E8")
+    );
+    assertAll(
+      () -> assertEquals("s:%E8?k=%E8", uri.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(11, uri.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
 }
@@ -0,0 +1,91 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiCharSequenceTest {
+  @Test
+  void testToString() {
+    assertEquals(
+      "http://example.com",
+      new AsciiCharSequence(ByteBuffer.wrap("http://example.com".getBytes(StandardCharsets.US_ASCII))).toString()
+    );
+  }
+
+  @Test
+  void testRange() {
+    var bytes = ByteBuffer.wrap("<path>".getBytes(StandardCharsets.US_ASCII));
+    assertEquals("path", new AsciiCharSequence(bytes, 1, 5).toString());
+  }
+
+  @Test
+  void testRemainingBytes() {
+    var bytes = ByteBuffer.wrap("<path>".getBytes(StandardCharsets.US_ASCII)).position(1).limit(5);
+    assertEquals("path", new AsciiCharSequence(bytes).toString());
+  }
+
+  @Test
+  void testLength() {
+    assertEquals(4, new AsciiCharSequence(ByteBuffer.wrap(new byte[6]), 1, 5).length());
+  }
+
+  @Test
+  void testCharAt() {
+    var bytes = ByteBuffer.wrap(new byte[]{'a', 'b', (byte) 0xE8});
+    assertAll(
+      () -> assertEquals('b', new AsciiCharSequence(bytes).charAt(1)),
+      () -> assertEquals('è', new AsciiCharSequence(bytes).charAt(2))
+    );
+  }
+
+  @Test
+  void testCharAtOutOfBounds() {
+    var bytes = ByteBuffer.wrap("abc".getBytes(StandardCharsets.US_ASCII));
+    assertAll(
+      () -> assertThrows(IndexOutOfBoundsException.class, () -> new AsciiCharSequence(bytes, 1, 2).charAt(1)),
+      () -> assertThrows(IndexOutOfBoundsException.class, () -> new AsciiCharSequence(bytes, 1, 2).charAt(-1))
+    );
+  }
+
+  @Test
+  void testSubSequence() {
+    var bytes = ByteBuffer.wrap("abcd".getBytes(StandardCharsets.US_ASCII));
+    assertEquals("bc", new AsciiCharSequence(bytes).subSequence(1, 3).toString());
+  }
+
+  @Test
+  void testSubSequenceOutOfBounds() {
+    var bytes = ByteBuffer.wrap("abcd".getBytes(StandardCharsets.US_ASCII));
+    assertAll(
+      () -> assertThrows(IndexOutOfBoundsException.class, () -> new AsciiCharSequence(bytes).subSequence(-1, 2)),
+      () -> assertThrows(IndexOutOfBoundsException.class, () -> new AsciiCharSequence(bytes).subSequence(2, 1)),
+      () -> assertThrows(IndexOutOfBoundsException.class, () -> new AsciiCharSequence(bytes).subSequence(1, 5))
+    );
+  }
+
+  @Test
+  void testPositionUnchanged() {
+    var bytes = ByteBuffer.wrap("abcd".getBytes(StandardCharsets.US_ASCII));
+    new AsciiCharSequence(bytes).toString();
+    assertEquals(0, bytes.position());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PipedWriter;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedAppendableTest {
+  @Test
+  void testWithinLimit() throws IOException {
+    var destination = new StringBuilder();
+    var bounded = new BoundedAppendable(destination, 8);
+    bounded.append("ab").append('c').append("xdefx", 1, 4).append(null, 0, 2);
+    assertAll(
+      () -> assertEquals("abcdefnu", destination.toString()),
+      () -> assertFalse(bounded.ifExceededElse(() -> true, () -> false))
+    );
+  }
+
+  @Test
+  void testNull() throws IOException {
+    var destination = new StringBuilder();
+    new BoundedAppendable(destination, 4).append(null);
+    assertEquals("null", destination.toString());
+  }
+
+  @Test
+  void testExceeded() throws IOException {
+    var destination = new StringBuilder();
+    var bounded = new BoundedAppendable(destination, 3);
+    bounded.append("ab");
+    assertAll(
+      () -> assertEquals(
+        "Length limit of 3 exceeded",
+        assertThrows(IOException.class, () -> bounded.append("cd")).getMessage()
+      ),
+      () -> assertEquals(0, assertThrows(IOException.class, () -> bounded.append('c')).getStackTrace().length),
+      () -> assertEquals("ab", destination.toString()),
+      () -> assertTrue(bounded.ifExceededElse(() -> true, () -> false))
+    );
+  }
+
+  @Test
+  void testFailingDestination() {
+    var bounded = new BoundedAppendable(new PipedWriter(), 3);
+    assertAll(
+      () -> assertThrows(IOException.class, () -> bounded.append('a')),
+      () -> assertFalse(bounded.ifExceededElse(() -> true, () -> false))
+    );
+  }
+}
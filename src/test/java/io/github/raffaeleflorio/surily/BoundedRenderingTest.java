@@ -0,0 +1,179 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedRenderingTest {
+  @Test
+  void testReferenceWithinLimit() {
+    var reference = reference();
+    assertEquals(
+      reference.encoded(StandardCharsets.UTF_8),
+      new BoundedRendering(reference.encodedLength(StandardCharsets.UTF_8))
+        .ifWithinElse(reference, StandardCharsets.UTF_8, x -> x, () -> "exceeded")
+    );
+  }
+
+  @Test
+  void testReferenceExceeded() {
+    var reference = reference();
+    assertEquals(
+      "exceeded",
+      new BoundedRendering(reference.encodedLength(StandardCharsets.UTF_8) - 1)
+        .ifWithinElse(reference, StandardCharsets.UTF_8, x -> x, () -> "exceeded")
+    );
+  }
+
+  private UriReference reference() {
+    return new Uri(
+      new SchemeComponent.Fake("s", "S"),
+      new AuthorityComponent.Fake("a", "A"),
+      new PathComponent.Fake(new UriComponent.Fake("", ""), new UriComponent.Fake("/p", "/P")),
+      new QueryComponent.Fake("q", "Q"),
+      new FragmentComponent.Fake("f", "F")
+    );
+  }
+
+  @Test
+  void testComponent() {
+    var component = new JoinedComponents(
+      List.of(new UriComponent.Fake("a", "A"), new UriComponent.Fake("b", "B"), new UriComponent.Fake("c", "C")),
+      "/"
+    );
+    assertAll(
+      () -> assertEquals(
+        "a/b/c",
+        new BoundedRendering(5).ifWithinElse(component, StandardCharsets.UTF_8, x -> x, () -> "exceeded")
+      ),
+      () -> assertEquals(
+        "exceeded",
+        new BoundedRendering(4).ifWithinElse(component, StandardCharsets.UTF_8, x -> x, () -> "exceeded")
+      )
+    );
+  }
+
+  @Test
+  void testExceededInLimit() {
+    var appends = new AtomicInteger();
+    assertEquals(
+      "exceeded",
+      new BoundedRendering(5).ifWithinElse(
+        component(
+          () -> {
+            throw new AssertionError("Length computed");
+          },
+          destination -> {
+            for (var i = 0; i < 1_000_000; i++) {
+              appends.incrementAndGet();
+              destination.append('a');
+            }
+          }
+        ),
+        StandardCharsets.UTF_8,
+        x -> x,
+        () -> "exceeded"
+      )
+    );
+    assertEquals(6, appends.get());
+  }
+
+  private UriComponent component(final Runnable lengthFn, final AppendFn appendFn) {
+    return new UriComponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        return "encoded";
+      }
+
+      @Override
+      public int encodedLength(final Charset charset) {
+        lengthFn.run();
+        return 7;
+      }
+
+      @Override
+      public void appendTo(final Appendable destination, final Charset charset) {
+        try {
+          appendFn.append(destination);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+      @Override
+      public String asString() {
+        return "unencoded";
+      }
+    };
+  }
+
+  private interface AppendFn {
+    void append(Appendable destination) throws IOException;
+  }
+
+  @Test
+  void testIllegalLimit() {
+    assertAll(
+      () -> assertEquals(
+        "Expected a non-negative limit instead of -1",
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRendering(-1)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a non-negative limit instead of null",
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRendering(null)).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testEmptyLimit() {
+    assertEquals(
+      "",
+      new BoundedRendering(0).ifWithinElse(new UriComponent.Fake("", ""), StandardCharsets.UTF_8, x -> x, () -> "exceeded")
+    );
+  }
+
+  @Test
+  void testFailingRendering() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new BoundedRendering(10).ifWithinElse(
+        component(() -> { }, destination -> {
+          throw new IOException();
+        }),
+        StandardCharsets.UTF_8,
+        x -> x,
+        () -> "exceeded"
+      )
+    );
+  }
+}
@@ -0,0 +1,56 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CharSequenceValueTest {
+  @Test
+  void testCharSequence() {
+    var value = new CharSequenceValue(new StringBuilder("value"));
+    assertAll(
+      () -> assertEquals(5, value.length()),
+      () -> assertEquals('l', value.charAt(2)),
+      () -> assertEquals("al", value.subSequence(1, 3).toString()),
+      () -> assertEquals("value", value.toString())
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var value = new CharSequenceValue("value");
+    assertAll(
+      () -> assertEquals(value, value),
+      () -> assertEquals(new CharSequenceValue("value"), new CharSequenceValue(new StringBuilder("value"))),
+      () -> assertNotEquals(new CharSequenceValue("value"), new CharSequenceValue("other")),
+      () -> assertNotEquals(new CharSequenceValue("value"), "value")
+    );
+  }
+
+  @Test
+  void testHashCode() {
+    var value = new CharSequenceValue(new StringBuilder("value"));
+    assertAll(
+      () -> assertEquals("value".hashCode(), value.hashCode()),
+      () -> assertEquals("value".hashCode(), value.hashCode()),
+      () -> assertEquals(0, new CharSequenceValue("").hashCode())
+    );
+  }
+}
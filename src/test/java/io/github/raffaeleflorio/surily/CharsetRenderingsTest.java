@@ -0,0 +1,55 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CharsetRenderingsTest {
+  @Test
+  void testOncePerCharset() {
+    var renderings = new CharsetRenderings();
+    var calls = new AtomicInteger();
+    Function<Charset, CharSequence> renderFn = charset -> new StringBuilder(charset.name() + calls.incrementAndGet());
+    assertAll(
+      () -> assertEquals("UTF-81", renderings.rendering(StandardCharsets.UTF_8, renderFn)),
+      () -> assertEquals("UTF-81", renderings.rendering(StandardCharsets.UTF_8, renderFn)),
+      () -> assertEquals("US-ASCII2", renderings.rendering(StandardCharsets.US_ASCII, renderFn)),
+      () -> assertEquals("UTF-81", renderings.rendering(StandardCharsets.UTF_8, renderFn)),
+      () -> assertEquals(2, calls.get())
+    );
+  }
+
+  @Test
+  void testConcurrentReads() {
+    var renderings = new CharsetRenderings();
+    assertTrue(
+      IntStream.range(0, 10_000)
+        .parallel()
+        .mapToObj(i -> renderings.rendering(StandardCharsets.UTF_8, charset -> "rendered"))
+        .allMatch("rendered"::equals)
+    );
+  }
+}
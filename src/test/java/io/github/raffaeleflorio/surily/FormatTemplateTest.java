@@ -0,0 +1,111 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FormatTemplateTest {
+  @Test
+  void testFormatted() {
+    assertAll(
+      () -> assertEquals("//host/path", new FormatTemplate("//%s%s").formatted(List.of("host", "/path"))),
+      () -> assertEquals("http:", new FormatTemplate("%s:").formatted(List.of("http"))),
+      () -> assertEquals("100%", new FormatTemplate("%s%%").formatted(List.of("100"))),
+      () -> assertEquals("literal", new FormatTemplate("literal").formatted(List.of())),
+      () -> assertEquals("", new FormatTemplate("").formatted(List.of("ignored")))
+    );
+  }
+
+  @Test
+  void testReuse() {
+    var template = new FormatTemplate("?%s");
+    assertAll(
+      () -> assertEquals("?a=b", template.formatted(List.of("a=b"))),
+      () -> assertEquals("?c", template.formatted(List.of("c")))
+    );
+  }
+
+  @Test
+  void testMissingValues() {
+    assertEquals(
+      "Expected 2 values instead of 1",
+      assertThrows(IllegalArgumentException.class, () -> new FormatTemplate("%s/%s").formatted(List.of("x")))
+        .getMessage()
+    );
+  }
+
+  @Test
+  void testUnsupportedSpecifier() {
+    assertAll(
+      () -> assertEquals(
+        "Unsupported format specifier at 2: <a/%d>",
+        assertThrows(IllegalArgumentException.class, () -> new FormatTemplate("a/%d").formatted(List.of("1")))
+          .getMessage()
+      ),
+      () -> assertEquals(
+        String.format("Unsupported format specifier at 4096: <%s...>", "a".repeat(4096)),
+        assertThrows(
+          IllegalArgumentException.class,
+          () -> new FormatTemplate("a".repeat(4096) + "%").formatted(List.of())
+        ).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("> ");
+    new FormatTemplate("//%s:%s").appendTo(destination, List.of(1, 2), (value, x) -> destination.append(value * 10));
+    assertEquals("> //10:20", destination.toString());
+  }
+
+  @Test
+  void testFailingDestination() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new FormatTemplate("?%s").appendTo(new PipedWriter(), List.of("q"), (value, x) -> { })
+    );
+  }
+
+  @Test
+  void testLength() {
+    assertAll(
+      () -> assertEquals(11, new FormatTemplate("//%s%s").length(List.of("host", "/path"), String::length)),
+      () -> assertEquals(3, new FormatTemplate("%%%s").length(List.of("ab"), String::length)),
+      () -> assertEquals(0, new FormatTemplate("").length(List.of(), String::length))
+    );
+  }
+
+  @Test
+  void testLengthWithMissingValues() {
+    assertThrows(IllegalArgumentException.class, () -> new FormatTemplate("%s%s").length(List.of("a"), String::length));
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new FormatTemplate("%s://%s"), new FormatTemplate("%s://%s")),
+      () -> assertEquals(new FormatTemplate("%s://%s").hashCode(), new FormatTemplate("%s://%s").hashCode()),
+      () -> assertNotEquals(new FormatTemplate("%s://%s"), new FormatTemplate("%S://%s"))
+    );
+  }
+}
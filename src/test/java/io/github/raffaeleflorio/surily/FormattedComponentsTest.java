@@ -15,12 +15,17 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.authority.Port;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.path.PathSegment;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class FormattedComponentsTest {
   @Test
@@ -52,4 +57,42 @@ class FormattedComponentsTest {
       ).asString()
     );
   }
+
+  @Test
+  void testEquality() {
+    var component = new FormattedComponents("%s-%s", List.of(new RegName("A"), new PathSegment("b")));
+    var equivalent = new FormattedComponents("%s-%s", List.of(new RegName("a"), new PathSegment("b")));
+    assertAll(
+      () -> assertEquals(component, equivalent),
+      () -> assertEquals(component.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(
+        component,
+        new FormattedComponents("%s+%s", List.of(new RegName("a"), new PathSegment("b")))
+      ),
+      () -> assertNotEquals(
+        component,
+        new FormattedComponents("%s-%s", List.of(new RegName("a"), new PathSegment("B")))
+      )
+    );
+  }
+
+  @Test
+  void testEscapedPercentRendering() {
+    var component = new FormattedComponents("%%%s%%", List.of(new PathSegment("\u00E8")));
+    var destination = new StringBuilder("> ");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> %%C3%A8%", destination.toString()),
+      () -> assertEquals(8, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var component = new FormattedComponents("%s:%s", List.of(new RegName("\u00FC"), new Port(80)));
+    assertAll(
+      () -> assertEquals("%FC:80", component.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(6, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
 }
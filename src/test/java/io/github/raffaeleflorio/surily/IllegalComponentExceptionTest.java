@@ -0,0 +1,87 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IllegalComponentExceptionTest {
+  @Test
+  void testMessage() {
+    assertEquals(
+      "the message",
+      new IllegalComponentException(ValidationError.ILLEGAL_SCHEME, 0, "the message").getMessage()
+    );
+  }
+
+  @Test
+  void testLazyMessage() {
+    var calls = new AtomicInteger();
+    var exception = new IllegalComponentException(
+      ValidationError.ILLEGAL_PORT,
+      1,
+      () -> "message " + calls.incrementAndGet()
+    );
+    assertAll(
+      () -> assertEquals(0, calls.get()),
+      () -> assertEquals("message 1", exception.getMessage())
+    );
+  }
+
+  @Test
+  void testStackless() {
+    assertEquals(
+      0,
+      new IllegalComponentException(ValidationError.ILLEGAL_PORT, 0, "any").getStackTrace().length
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "ILLEGAL_DELIMITER at 7",
+      new IllegalComponentException(ValidationError.ILLEGAL_DELIMITER, 7, "any")
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testSerialization() throws Exception {
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new ObjectOutputStream(bytes)) {
+      out.writeObject(new IllegalComponentException(ValidationError.ILLEGAL_PORT, 3, () -> "lazy message"));
+    }
+    try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      var deserialized = (IllegalComponentException) in.readObject();
+      assertAll(
+        () -> assertEquals("lazy message", deserialized.getMessage()),
+        () -> assertEquals(
+          "ILLEGAL_PORT at 3",
+          deserialized.validation().ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+        )
+      );
+    }
+  }
+}
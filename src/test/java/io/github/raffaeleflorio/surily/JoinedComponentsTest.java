@@ -15,12 +15,20 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.path.PathSegment;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class JoinedComponentsTest {
   @Test
@@ -50,4 +58,73 @@ class JoinedComponentsTest {
       ).asString()
     );
   }
+
+  @Test
+  void testFailingDestination() {
+    var component = new JoinedComponents(List.of(new UriComponent.Fake("a", "A"), new UriComponent.Fake("b", "B")), "/");
+    var separatorFailing = new Writer() {
+      @Override
+      public void write(final char[] chars, final int offset, final int length) throws IOException {
+        if (new String(chars, offset, length).equals("/")) {
+          throw new IOException("Separator failure");
+        }
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    assertThrows(UncheckedIOException.class, () -> component.appendTo(separatorFailing, StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testEquality() {
+    var component = new JoinedComponents(List.of(new RegName("A"), new PathSegment("b")), "/");
+    var equivalent = new JoinedComponents(List.of(new RegName("a"), new PathSegment("b")), "/");
+    assertAll(
+      () -> assertEquals(component, equivalent),
+      () -> assertEquals(component.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(component, new JoinedComponents(List.of(new RegName("a"), new PathSegment("B")), "/")),
+      () -> assertNotEquals(component, new JoinedComponents(List.of(new RegName("a"), new PathSegment("b")), ",")),
+      () -> assertNotEquals(
+        component,
+        new FormattedComponents("%s/%s", List.of(new RegName("a"), new PathSegment("b")))
+      )
+    );
+  }
+
+  @Test
+  void testEmptyRendering() {
+    var component = new JoinedComponents(List.of(), "/");
+    var destination = new StringBuilder("> ");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> ", destination.toString()),
+      () -> assertEquals(0, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testSingleComponentRendering() {
+    var component = new JoinedComponents(List.of(new PathSegment("\u00E8")), "/");
+    assertAll(
+      () -> assertEquals("%E8", component.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(3, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testNonAsciiRendering() {
+    var component = new JoinedComponents(List.of(new PathSegment("\u00E8"), new RegName("\u00FC")), "/");
+    var destination = new StringBuilder("> ");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> %C3%A8/%C3%BC", destination.toString()),
+      () -> assertEquals(13, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
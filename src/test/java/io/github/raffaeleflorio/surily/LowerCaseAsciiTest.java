@@ -0,0 +1,40 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LowerCaseAsciiTest {
+  @Test
+  void testLowerCase() {
+    assertEquals("http://example.É", new LowerCaseAscii("HTTP://Example.É").toString());
+  }
+
+  @Test
+  void testView() {
+    var view = new LowerCaseAscii(new StringBuilder("@AZ[`az{"));
+    assertAll(
+      () -> assertEquals(8, view.length()),
+      () -> assertEquals('@', view.charAt(0)),
+      () -> assertEquals('a', view.charAt(1)),
+      () -> assertEquals('[', view.charAt(3)),
+      () -> assertEquals("az", view.subSequence(1, 3).toString())
+    );
+  }
+}
@@ -0,0 +1,110 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedUriReferenceSpliteratorTest {
+  @Test
+  void testTryAdvanceWithEmptyFile() {
+    assertFalse(
+      new MappedUriReferenceSpliterator(Path.of("empty"), 0, 1, 1, (line, offset) -> {
+      }).tryAdvance(x -> {
+      })
+    );
+  }
+
+  @Test
+  void testCharacteristics() {
+    assertEquals(
+      Spliterator.ORDERED | Spliterator.NONNULL,
+      new MappedUriReferenceSpliterator(Path.of("empty"), 0, 1, 1, (line, offset) -> {
+      }).characteristics()
+    );
+  }
+
+  @Test
+  void testTrySplitWithSmallRange() {
+    assertNull(
+      new MappedUriReferenceSpliterator(Path.of("file"), 7, 1, 8, (line, offset) -> {
+      }).trySplit()
+    );
+  }
+
+  @Test
+  void testTrySplit(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "/a\n/bbbbbb\n/c\n\n/d", StandardCharsets.US_ASCII);
+    var suffix = new MappedUriReferenceSpliterator(file, Files.size(file), 8, 2, (line, offset) -> {
+    });
+    var prefix = suffix.trySplit();
+    assertAll(
+      () -> assertEquals(List.of("/a", "/bbbbbb"), references(prefix)),
+      () -> assertEquals(List.of("/c", "/d"), references(suffix))
+    );
+  }
+
+  private List<String> references(final Spliterator<UriReference> spliterator) {
+    return StreamSupport.stream(spliterator, false)
+      .map(UriReference::asString)
+      .collect(Collectors.toUnmodifiableList());
+  }
+
+  @Test
+  void testTrySplitOnLineBoundary(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "/a\n/b\n", StandardCharsets.US_ASCII);
+    var suffix = new MappedUriReferenceSpliterator(file, Files.size(file), 4, 2, (line, offset) -> {
+    });
+    var prefix = suffix.trySplit();
+    assertAll(
+      () -> assertEquals(List.of("/a"), references(prefix)),
+      () -> assertEquals(List.of("/b"), references(suffix))
+    );
+  }
+
+  @Test
+  void testTrySplitWithoutNewline(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "/abcd", StandardCharsets.US_ASCII);
+    var suffix = new MappedUriReferenceSpliterator(file, Files.size(file), 8, 2, (line, offset) -> {
+    });
+    var prefix = suffix.trySplit();
+    assertAll(
+      () -> assertEquals(List.of("/abcd"), references(prefix)),
+      () -> assertEquals(List.of(), references(suffix)),
+      () -> assertEquals(0, suffix.estimateSize())
+    );
+  }
+
+  @Test
+  void testEstimateSize() {
+    assertEquals(
+      42,
+      new MappedUriReferenceSpliterator(Path.of("file"), 42, 1, 1, (line, offset) -> {
+      }).estimateSize()
+    );
+  }
+}
@@ -0,0 +1,145 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedUriReferencesTest {
+  @Test
+  void testStream(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "http://a/b\nrel/path?q\r\n\na b\n//host#f", StandardCharsets.US_ASCII);
+    assertEquals(
+      List.of("http://a/b", "rel/path?q", "//host#f"),
+      new MappedUriReferences(file).stream()
+        .map(UriReference::asString)
+        .collect(Collectors.toUnmodifiableList())
+    );
+  }
+
+  @Test
+  void testStreamWithSmallWindows(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "http://a/b\nrel/path?q\r\n\n//host#f\n", StandardCharsets.US_ASCII);
+    assertEquals(
+      List.of("http://a/b", "rel/path?q", "//host#f"),
+      new MappedUriReferences(file, 11).stream()
+        .map(UriReference::asString)
+        .collect(Collectors.toUnmodifiableList())
+    );
+  }
+
+  @Test
+  void testMalformedLines(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "a b\nhttp://ok\n\r\n1:x\r\n", StandardCharsets.US_ASCII);
+    var malformed = new ArrayList<String>();
+    assertAll(
+      () -> assertEquals(
+        List.of("http://ok"),
+        new MappedUriReferences(file)
+          .stream((line, offset) -> malformed.add(String.format("%d:%s", offset, line)))
+          .map(UriReference::asString)
+          .collect(Collectors.toUnmodifiableList())
+      ),
+      () -> assertEquals(List.of("0:a b", "16:1:x"), malformed)
+    );
+  }
+
+  @Test
+  void testLineLongerThanWindow(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "a\n/very/long/path\nb", StandardCharsets.US_ASCII);
+    var malformed = new ArrayList<String>();
+    assertAll(
+      () -> assertEquals(
+        List.of("a", "b"),
+        new MappedUriReferences(file, 4)
+          .stream((line, offset) -> malformed.add(String.format("%d:%s", offset, line)))
+          .map(UriReference::asString)
+          .collect(Collectors.toUnmodifiableList())
+      ),
+      () -> assertEquals(List.of("2:/ver"), malformed)
+    );
+  }
+
+  @Test
+  void testNonAsciiLine(@TempDir final Path dir) throws IOException {
+    var file = Files.write(dir.resolve("uris"), new byte[]{'a', (byte) 0xE8, '\n', 'b'});
+    var malformed = new ArrayList<Long>();
+    assertAll(
+      () -> assertEquals(
+        1,
+        new MappedUriReferences(file).stream((line, offset) -> malformed.add(offset)).count()
+      ),
+      () -> assertEquals(List.of(0L), malformed)
+    );
+  }
+
+  @Test
+  void testMissingFile(@TempDir final Path dir) {
+    assertThrows(UncheckedIOException.class, () -> new MappedUriReferences(dir.resolve("missing")).stream());
+  }
+
+  @Test
+  void testIllegalSizes(@TempDir final Path dir) {
+    var file = dir.resolve("uris");
+    assertAll(
+      () -> assertEquals(
+        "Expected a positive window size instead of 0",
+        assertThrows(IllegalArgumentException.class, () -> new MappedUriReferences(file, 0)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a positive window size instead of -1",
+        assertThrows(IllegalArgumentException.class, () -> new MappedUriReferences(file, -1, 1)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a positive minimum split size instead of 0",
+        assertThrows(IllegalArgumentException.class, () -> new MappedUriReferences(file, 1, 0)).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testDeletedFile(@TempDir final Path dir) throws IOException {
+    var file = Files.writeString(dir.resolve("uris"), "a", StandardCharsets.US_ASCII);
+    var stream = new MappedUriReferences(file).stream();
+    Files.delete(file);
+    assertThrows(UncheckedIOException.class, stream::count);
+  }
+
+  @Test
+  void testParallelStream(@TempDir final Path dir) throws IOException {
+    var expected = IntStream.range(0, 1000).mapToObj(i -> String.format("/path/%d", i)).collect(Collectors.toList());
+    var file = Files.write(dir.resolve("uris"), expected, StandardCharsets.US_ASCII);
+    assertEquals(
+      expected,
+      new MappedUriReferences(file, 64, 16).stream()
+        .parallel()
+        .map(UriReference::asString)
+        .collect(Collectors.toUnmodifiableList())
+    );
+  }
+}
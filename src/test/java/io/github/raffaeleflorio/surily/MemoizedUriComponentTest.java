@@ -0,0 +1,132 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.RegName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemoizedUriComponentTest {
+  @Test
+  void testEncodedOncePerCharset() {
+    var calls = new AtomicInteger();
+    var component = new MemoizedUriComponent(counted(calls));
+    assertAll(
+      () -> assertEquals("UTF-8", component.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("UTF-8", component.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("UTF-16", component.encoded(StandardCharsets.UTF_16)),
+      () -> assertEquals(5, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(2, calls.get())
+    );
+  }
+
+  @Test
+  void testAsStringOnce() {
+    var calls = new AtomicInteger();
+    var component = new MemoizedUriComponent(counted(calls));
+    assertAll(
+      () -> assertEquals("unencoded", component.asString()),
+      () -> assertEquals("unencoded", component.asString()),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  @Test
+  void testValidationOnce() {
+    var calls = new AtomicInteger();
+    var component = new MemoizedUriComponent(counted(calls));
+    assertAll(
+      () -> assertEquals("valid", component.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid")),
+      () -> assertEquals("valid", component.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid")),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  private UriComponent counted(final AtomicInteger calls) {
+    return new UriComponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        calls.incrementAndGet();
+        return charset.name();
+      }
+
+      @Override
+      public String asString() {
+        calls.incrementAndGet();
+        return "unencoded";
+      }
+
+      @Override
+      public Validation validation() {
+        calls.incrementAndGet();
+        return new Valid();
+      }
+    };
+  }
+
+  @Test
+  void testFailuresNotCached() {
+    var calls = new AtomicInteger();
+    var component = new MemoizedUriComponent(
+      new UriComponent() {
+        @Override
+        public CharSequence encoded(final Charset charset) {
+          calls.incrementAndGet();
+          throw new IllegalComponentException(ValidationError.ILLEGAL_PERCENT_ENCODING, 0, "Illegal");
+        }
+
+        @Override
+        public String asString() {
+          return "";
+        }
+      }
+    );
+    assertAll(
+      () -> assertThrows(IllegalComponentException.class, () -> component.encoded(StandardCharsets.UTF_8)),
+      () -> assertThrows(IllegalComponentException.class, () -> component.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(2, calls.get())
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var component = new MemoizedUriComponent(new UriComponent.Fake("encoded", "unencoded"));
+    var encoded = new StringBuilder("> ");
+    var unencoded = new StringBuilder("> ");
+    component.appendTo(encoded, StandardCharsets.UTF_8);
+    component.appendTo(unencoded);
+    assertEquals("> encoded > unencoded", encoded + " " + unencoded);
+  }
+
+  @Test
+  void testEquality() {
+    var component = new MemoizedUriComponent(new RegName("EXAMPLE.com"));
+    assertAll(
+      () -> assertEquals(component, new MemoizedUriComponent(new RegName("example.com"))),
+      () -> assertEquals(component.hashCode(), new MemoizedUriComponent(new RegName("example.com")).hashCode()),
+      () -> assertNotEquals(component, new MemoizedUriComponent(new RegName("example.org"))),
+      () -> assertNotEquals(component, new RegName("EXAMPLE.com"))
+    );
+  }
+}
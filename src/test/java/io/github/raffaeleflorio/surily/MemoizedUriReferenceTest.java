@@ -0,0 +1,214 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.Authority;
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.path.EmptyPath;
+import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedUriReferenceTest {
+  @Test
+  void testEncodedOncePerCharset() {
+    var calls = new AtomicInteger();
+    var reference = new MemoizedUriReference(counted(calls));
+    assertAll(
+      () -> assertEquals("UTF-8", reference.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("UTF-8", reference.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("ISO-8859-1", reference.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(5, reference.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(2, calls.get())
+    );
+  }
+
+  @Test
+  void testAsStringOnce() {
+    var calls = new AtomicInteger();
+    var reference = new MemoizedUriReference(counted(calls));
+    var unencoded = new StringBuilder("> ");
+    reference.appendTo(unencoded);
+    assertAll(
+      () -> assertEquals("unencoded", reference.asString()),
+      () -> assertEquals("> unencoded", unencoded.toString()),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  @Test
+  void testValidationOnce() {
+    var calls = new AtomicInteger();
+    var reference = new MemoizedUriReference(counted(calls));
+    assertAll(
+      () -> assertEquals("valid", reference.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid")),
+      () -> assertEquals("valid", reference.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid")),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  @Test
+  void testComponentsOnce() {
+    var calls = new AtomicInteger();
+    var reference = new MemoizedUriReference(counted(calls));
+    assertAll(
+      () -> assertSame(reference.scheme(), reference.scheme()),
+      () -> assertSame(reference.authority(), reference.authority()),
+      () -> assertSame(reference.path(), reference.path()),
+      () -> assertSame(reference.query(), reference.query()),
+      () -> assertSame(reference.fragment(), reference.fragment()),
+      () -> assertEquals(5, calls.get())
+    );
+  }
+
+  @Test
+  void testDefinedness() {
+    var origin = new Uri(
+      new SchemeComponent.Fake("s", "S"),
+      new AuthorityComponent.Fake("a", "A"),
+      new PathComponent.Fake(new UriComponent.Fake("", ""), new UriComponent.Fake("/p", "/P")),
+      new QueryComponent.Fake("q", "Q"),
+      new FragmentComponent.Fake("f", "F")
+    );
+    var reference = new MemoizedUriReference(origin);
+    assertAll(
+      () -> assertEquals(origin.encoded(StandardCharsets.UTF_8), reference.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("S", reference.scheme().ifDefinedElse(SchemeComponent::asString, () -> "undefined"))
+    );
+  }
+
+  @Test
+  void testComponentsRenderedOnce() {
+    var calls = new AtomicInteger();
+    var query = new QueryComponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        calls.incrementAndGet();
+        return "q";
+      }
+
+      @Override
+      public String asString() {
+        return "q";
+      }
+
+      @Override
+      public <T> T ifDefinedElse(final Function<QueryComponent, T> fn, final Supplier<T> undefinedFn) {
+        calls.incrementAndGet();
+        return fn.apply(this);
+      }
+    };
+    var reference = new MemoizedUriReference(
+      new Uri(new Scheme("s"), new Authority(new RegName("a")), new EmptyPath(), query)
+    );
+    assertAll(
+      () -> assertEquals("q", reference.query().encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("q", reference.query().encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("q", reference.query().ifDefinedElse(x -> x.encoded(StandardCharsets.UTF_8), () -> "")),
+      () -> assertEquals("q", reference.query().ifDefinedElse(x -> x.encoded(StandardCharsets.UTF_8), () -> "")),
+      () -> assertEquals(2, calls.get()),
+      () -> assertSame(
+        reference.authority().encoded(StandardCharsets.UTF_8),
+        reference.authority().encoded(StandardCharsets.UTF_8)
+      ),
+      () -> assertSame(
+        reference.scheme().encoded(StandardCharsets.UTF_8),
+        reference.scheme().encoded(StandardCharsets.UTF_8)
+      )
+    );
+  }
+
+  private UriReference counted(final AtomicInteger calls) {
+    return new UriReference() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        calls.incrementAndGet();
+        return charset.name();
+      }
+
+      @Override
+      public String asString() {
+        calls.incrementAndGet();
+        return "unencoded";
+      }
+
+      @Override
+      public Validation validation() {
+        calls.incrementAndGet();
+        return new Valid();
+      }
+
+      @Override
+      public SchemeComponent scheme() {
+        calls.incrementAndGet();
+        return new SchemeComponent.Fake("s", "S");
+      }
+
+      @Override
+      public AuthorityComponent authority() {
+        calls.incrementAndGet();
+        return new AuthorityComponent.Fake("a", "A");
+      }
+
+      @Override
+      public PathComponent path() {
+        calls.incrementAndGet();
+        return new PathComponent.Fake("p", "P");
+      }
+
+      @Override
+      public QueryComponent query() {
+        calls.incrementAndGet();
+        return new QueryComponent.Fake("q", "Q");
+      }
+
+      @Override
+      public FragmentComponent fragment() {
+        calls.incrementAndGet();
+        return new FragmentComponent.Fake("f", "F");
+      }
+    };
+  }
+
+  @Test
+  void testEquality() {
+    var reference = new MemoizedUriReference(new ParsedUriReference("HTTP://EXAMPLE.com/%2f"));
+    assertAll(
+      () -> assertEquals(reference, new MemoizedUriReference(new ParsedUriReference("http://example.com/%2F"))),
+      () -> assertEquals(
+        reference.hashCode(),
+        new MemoizedUriReference(new ParsedUriReference("http://example.com/%2F")).hashCode()
+      ),
+      () -> assertNotEquals(reference, new MemoizedUriReference(new ParsedUriReference("http://example.com/"))),
+      () -> assertNotEquals(reference, new ParsedUriReference("HTTP://EXAMPLE.com/%2f"))
+    );
+  }
+}
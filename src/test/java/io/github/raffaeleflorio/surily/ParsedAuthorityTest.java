@@ -0,0 +1,99 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.Authority;
+import io.github.raffaeleflorio.surily.authority.Port;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.authority.Userinfo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedAuthorityTest {
+  @Test
+  void testEncoded() {
+    var reference = "//us%20er@host:80/path";
+    assertEquals(
+      "us%20er@host:80",
+      new ParsedAuthority(reference, new UriReferenceBoundaries(reference)).encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    var reference = "//us%20er@[::1]:80";
+    assertEquals(
+      "us er@[::1]:80",
+      new ParsedAuthority(reference, new UriReferenceBoundaries(reference)).asString()
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    var reference = "//host";
+    assertTrue(
+      new ParsedAuthority(reference, new UriReferenceBoundaries(reference)).<Boolean>ifDefinedElse(x -> true, () -> false)
+    );
+  }
+
+  @Test
+  void testSubcomponents() {
+    var reference = "//user@127.0.0.1:80";
+    var authority = new ParsedAuthority(reference, new UriReferenceBoundaries(reference));
+    assertAll(
+      () -> assertEquals("user", authority.userinfo().asString()),
+      () -> assertEquals("127.0.0.1", authority.host().asString()),
+      () -> assertEquals("80", authority.port().asString())
+    );
+  }
+
+  @Test
+  void testUndefinedSubcomponents() {
+    var reference = "//host";
+    var authority = new ParsedAuthority(reference, new UriReferenceBoundaries(reference));
+    assertAll(
+      () -> assertFalse(authority.userinfo().<Boolean>ifDefinedElse(x -> true, () -> false)),
+      () -> assertFalse(authority.port().<Boolean>ifDefinedElse(x -> true, () -> false))
+    );
+  }
+
+  @Test
+  void testSubcomponentsOnce() {
+    var reference = "//user@host:80";
+    var authority = new ParsedAuthority(reference, new UriReferenceBoundaries(reference));
+    assertAll(
+      () -> assertSame(authority.userinfo(), authority.userinfo()),
+      () -> assertSame(authority.host(), authority.host()),
+      () -> assertSame(authority.port(), authority.port())
+    );
+  }
+
+  @Test
+  void testEquivalentAuthorities() {
+    var authority = new ParsedUriReference("s://u%2f@EXAMPLE.com:080/p").authority();
+    var equivalent = new ParsedUriReference("s://u%2F@example.com:80/p").authority();
+    assertAll(
+      () -> assertEquals(authority, equivalent),
+      () -> assertEquals(authority.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(authority, new ParsedUriReference("s://U%2F@example.com:80/p").authority()),
+      () -> assertNotEquals(authority, new ParsedUriReference("s://u%2F@example.com:81/p").authority()),
+      () -> assertNotEquals(authority, new Authority(new Userinfo("u/"), new RegName("example.com"), new Port(80)))
+    );
+  }
+}
@@ -0,0 +1,258 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.Authority;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.path.AbsolutePath;
+import io.github.raffaeleflorio.surily.path.PathSegment;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import io.github.raffaeleflorio.surily.scheme.WellKnownScheme;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedUriReferenceTest {
+  @Test
+  void testEncoded() {
+    var reference = "http://user@host:80/a%20b?q#f";
+    assertSame(
+      reference,
+      new ParsedUriReference(reference).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "http://user@host:80/a b?q#f",
+      new ParsedUriReference("http://user@host:80/a%20b?q#f").asString()
+    );
+  }
+
+  @Test
+  void testComponents() {
+    var reference = new ParsedUriReference("http://us%20er@host:80/a%20b?q%20#f%20");
+    assertAll(
+      () -> assertEquals("http", reference.scheme().asString()),
+      () -> assertEquals("us er@host:80", reference.authority().asString()),
+      () -> assertEquals("us%20er", reference.authority().userinfo().encoded(StandardCharsets.UTF_8).toString()),
+      () -> assertEquals("host", reference.authority().host().asString()),
+      () -> assertEquals("80", reference.authority().port().asString()),
+      () -> assertEquals("/a b", reference.path().asString()),
+      () -> assertEquals("q ", reference.query().asString()),
+      () -> assertEquals("f ", reference.fragment().asString())
+    );
+  }
+
+  @Test
+  void testUndefinedComponents() {
+    var reference = new ParsedUriReference("a/b");
+    assertAll(
+      () -> assertFalse(reference.scheme().<Boolean>ifDefinedElse(x -> true, () -> false)),
+      () -> assertFalse(reference.authority().<Boolean>ifDefinedElse(x -> true, () -> false)),
+      () -> assertEquals("a/b", reference.path().asString()),
+      () -> assertFalse(reference.query().<Boolean>ifDefinedElse(x -> true, () -> false)),
+      () -> assertFalse(reference.fragment().<Boolean>ifDefinedElse(x -> true, () -> false))
+    );
+  }
+
+  @Test
+  void testUndefinedSubcomponents() {
+    var authority = new ParsedUriReference("//host").authority();
+    assertAll(
+      () -> assertFalse(authority.userinfo().<Boolean>ifDefinedElse(x -> true, () -> false)),
+      () -> assertFalse(authority.port().<Boolean>ifDefinedElse(x -> true, () -> false))
+    );
+  }
+
+  @Test
+  void testHosts() {
+    assertAll(
+      () -> assertEquals("[::1]", new ParsedUriReference("//[::1]:80").authority().host().asString()),
+      () -> assertEquals("127.0.0.1", new ParsedUriReference("//127.0.0.1").authority().host().asString()),
+      () -> assertEquals("", new ParsedUriReference("file:///etc").authority().host().asString())
+    );
+  }
+
+  @Test
+  void testIllegalReference() {
+    var reference = new ParsedUriReference("http://ho st/");
+    assertAll(
+      () -> assertThrowsWithMessage(
+        "Illegal URI reference at index 9: <http://ho st/>",
+        IllegalStateException.class,
+        reference::asString
+      ),
+      () -> assertThrows(IllegalStateException.class, reference::scheme),
+      () -> assertThrows(IllegalStateException.class, reference::authority),
+      () -> assertThrows(IllegalStateException.class, reference::path),
+      () -> assertThrows(IllegalStateException.class, reference::query),
+      () -> assertThrows(IllegalStateException.class, reference::fragment)
+    );
+  }
+
+  private void assertThrowsWithMessage(
+    final String expectedMessage,
+    final Class<? extends Throwable> expectedException,
+    final Executable executable
+  ) {
+    assertEquals(
+      expectedMessage,
+      assertThrows(expectedException, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testLongIllegalReference() {
+    assertThrowsWithMessage(
+      String.format("Illegal URI reference at index 0: <%s...>", " ".repeat(4096)),
+      IllegalStateException.class,
+      () -> new ParsedUriReference(" ".repeat(4097)).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAsStringWithoutOctets() {
+    var reference = "http://host/path?query#fragment";
+    assertSame(reference, new ParsedUriReference(reference).asString());
+  }
+
+  @Test
+  void testWellKnownScheme() {
+    assertAll(
+      () -> assertSame(WellKnownScheme.HTTPS, new ParsedUriReference("https://host/path").scheme()),
+      () -> assertEquals("HTTP", new ParsedUriReference("HTTP://host/path").scheme().asString()),
+      () -> assertEquals("git", new ParsedUriReference("git://host/path").scheme().asString())
+    );
+  }
+
+  @Test
+  void testComponentsOnce() {
+    var reference = new ParsedUriReference("http://host/path?query#fragment");
+    assertAll(
+      () -> assertSame(reference.asString(), reference.asString()),
+      () -> assertSame(reference.scheme(), reference.scheme()),
+      () -> assertSame(reference.authority(), reference.authority()),
+      () -> assertSame(reference.path(), reference.path()),
+      () -> assertSame(reference.query(), reference.query()),
+      () -> assertSame(reference.fragment(), reference.fragment())
+    );
+  }
+
+  @Test
+  void testBytes() {
+    assertEquals(
+      "http://host/a b",
+      new ParsedUriReference("http://host/a%20b".getBytes(StandardCharsets.US_ASCII)).asString()
+    );
+  }
+
+  @Test
+  void testBytesSlice() {
+    var reference = new ParsedUriReference("GET /path?q HTTP/1.1".getBytes(StandardCharsets.US_ASCII), 4, 7);
+    assertAll(
+      () -> assertEquals("/path", reference.path().asString()),
+      () -> assertEquals("q", reference.query().asString()),
+      () -> assertEquals("/path?q", reference.encoded(StandardCharsets.US_ASCII).toString())
+    );
+  }
+
+  @Test
+  void testByteBuffer() {
+    var bytes = ByteBuffer.wrap("GET //host:80/ HTTP/1.1".getBytes(StandardCharsets.US_ASCII)).position(4).limit(14);
+    var reference = new ParsedUriReference(bytes);
+    assertAll(
+      () -> assertEquals("80", reference.authority().port().asString()),
+      () -> assertEquals(4, bytes.position())
+    );
+  }
+
+  @Test
+  void testNonAsciiBytes() {
+    assertThrows(
+      IllegalStateException.class,
+      () -> new ParsedUriReference("/è".getBytes(StandardCharsets.UTF_8)).asString()
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new ParsedUriReference("http://example.com/")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_URI_REFERENCE at 4",
+        new ParsedUriReference("//ho^st")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testEquivalentReferences() {
+    var reference = new ParsedUriReference("HTTP://User@Example.COM:080/a%2fb?q%3d#f%7e");
+    var equivalent = new ParsedUriReference(new StringBuilder("http://User@example.com:80/a%2Fb?q%3D#f%7E"));
+    assertAll(
+      () -> assertEquals(reference, equivalent),
+      () -> assertEquals(reference.hashCode(), equivalent.hashCode()),
+      () -> assertEquals("value", Map.of(reference, "value").get(equivalent)),
+      () -> assertNotEquals(reference, new ParsedUriReference("http://user@example.com:80/a%2Fb?q%3D#f%7E")),
+      () -> assertNotEquals(reference, new ParsedUriReference("http://User@example.com:80/A%2Fb?q%3D#f%7E")),
+      () -> assertNotEquals(reference, new ParsedUriReference("http://User@example.com:80/a%2Fb?q%3D"))
+    );
+  }
+
+  @Test
+  void testIllegalReferencesEquality() {
+    assertAll(
+      () -> assertEquals(new ParsedUriReference("s://h/%zz"), new ParsedUriReference(new StringBuilder("s://h/%zz"))),
+      () -> assertEquals(
+        new ParsedUriReference("s://h/%zz").hashCode(),
+        new ParsedUriReference(new StringBuilder("s://h/%zz")).hashCode()
+      ),
+      () -> assertNotEquals(new ParsedUriReference("S://h/%zz"), new ParsedUriReference("s://h/%zz")),
+      () -> assertNotEquals(new ParsedUriReference("s://h/%zz"), new ParsedUriReference("s://h/%20")),
+      () -> assertNotEquals(new ParsedUriReference("s://h/%20"), new ParsedUriReference("s://h/%zz"))
+    );
+  }
+
+  @Test
+  void testNotEqualToBuiltReference() {
+    var parsed = new ParsedUriReference("s://h/p");
+    var built = new Uri(
+      new Scheme("s"),
+      new Authority(new RegName("h")),
+      new AbsolutePath(List.of(new PathSegment("p")))
+    );
+    assertAll(
+      () -> assertEquals(parsed.encoded(StandardCharsets.UTF_8), built.encoded(StandardCharsets.UTF_8)),
+      () -> assertNotEquals(parsed, built),
+      () -> assertNotEquals(built, parsed)
+    );
+  }
+}
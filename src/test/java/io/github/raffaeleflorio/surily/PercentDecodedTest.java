@@ -0,0 +1,75 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PercentDecodedTest {
+  @Test
+  void testToString() {
+    assertEquals(
+      "a b/è€",
+      new PercentDecoded("a%20b%2f%C3%A8%E2%82%AC").toString()
+    );
+  }
+
+  @Test
+  void testToStringWithCharset() {
+    assertEquals(
+      "è",
+      new PercentDecoded("%E8", StandardCharsets.ISO_8859_1).toString()
+    );
+  }
+
+  @Test
+  void testToStringWithMalformedOctets() {
+    assertEquals(
+      "%%4%G1%4",
+      new PercentDecoded("%%4%G1%4").toString()
+    );
+  }
+
+  @Test
+  void testLength() {
+    assertEquals(3, new PercentDecoded("a%20b").length());
+  }
+
+  @Test
+  void testCharAt() {
+    assertEquals(' ', new PercentDecoded("a%20b").charAt(1));
+  }
+
+  @Test
+  void testSubSequence() {
+    assertEquals(" b", new PercentDecoded("a%20b").subSequence(1, 3).toString());
+  }
+
+  @Test
+  void testDecodedOnce() {
+    var decoded = new PercentDecoded("a%20b");
+    assertSame(decoded.toString(), decoded.toString());
+  }
+
+  @Test
+  void testToStringWithoutOctets() {
+    var origin = "a/b";
+    assertSame(origin, new PercentDecoded(origin).toString());
+  }
+}
@@ -0,0 +1,141 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.characters.Pchar;
+import io.github.raffaeleflorio.surily.characters.UnreservedCharacters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PercentEncodedComponentTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "a%C3%A8b",
+      new PercentEncodedComponent("a%C3%A8b", new UnreservedCharacters())
+        .encoded(StandardCharsets.UTF_8)
+        .toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "aèb",
+      new PercentEncodedComponent("a%C3%A8b", new UnreservedCharacters()).asString()
+    );
+  }
+
+  @Test
+  void testAsStringWithCharset() {
+    assertEquals(
+      "aèb",
+      new PercentEncodedComponent("a%E8b", new UnreservedCharacters(), StandardCharsets.ISO_8859_1).asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertThrowsWithMessage(
+      "Illegal percent-encoded component: <a/b>",
+      IllegalStateException.class,
+      () -> new PercentEncodedComponent("a/b", new UnreservedCharacters()).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  private void assertThrowsWithMessage(
+    final String expectedMessage,
+    final Class<? extends Throwable> expectedException,
+    final Executable executable
+  ) {
+    assertEquals(
+      expectedMessage,
+      assertThrows(expectedException, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testAsStringWithIllegalOctets() {
+    assertAll(
+      () -> assertThrowsWithMessage(
+        "Illegal percent-encoded component: <a%2>",
+        IllegalStateException.class,
+        () -> new PercentEncodedComponent("a%2", new UnreservedCharacters()).asString()
+      ),
+      () -> assertThrowsWithMessage(
+        "Illegal percent-encoded component: <a%2Gb>",
+        IllegalStateException.class,
+        () -> new PercentEncodedComponent("a%2Gb", new UnreservedCharacters()).asString()
+      ),
+      () -> assertThrowsWithMessage(
+        "Illegal percent-encoded component: <a%G2b>",
+        IllegalStateException.class,
+        () -> new PercentEncodedComponent("a%G2b", new UnreservedCharacters()).asString()
+      )
+    );
+  }
+
+  @Test
+  void testEncodedWithLongIllegalComponent() {
+    assertThrowsWithMessage(
+      String.format("Illegal percent-encoded component: <%s...>", "/".repeat(4096)),
+      IllegalStateException.class,
+      () -> new PercentEncodedComponent("/".repeat(4097), new UnreservedCharacters()).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new PercentEncodedComponent("a%20b", Set.of('a', 'b'))
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 1",
+        new PercentEncodedComponent("a%2", Set.of('a'))
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 4",
+        new PercentEncodedComponent("a%20c", Set.of('a'))
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    var component = new PercentEncodedComponent("a%2f", new Pchar());
+    var equivalent = new PercentEncodedComponent(new StringBuilder("a%2F"), new Pchar());
+    assertAll(
+      () -> assertEquals(component, equivalent),
+      () -> assertEquals(component.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(component, new PercentEncodedComponent("A%2F", new Pchar())),
+      () -> assertNotEquals(component, new PercentEncodedComponent("a%2F", new Pchar(), StandardCharsets.ISO_8859_1)),
+      () -> assertNotEquals(component, new PercentEncodedComponent("a%2F", new UnreservedCharacters()))
+    );
+  }
+}
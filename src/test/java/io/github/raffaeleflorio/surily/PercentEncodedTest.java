@@ -18,13 +18,15 @@ package io.github.raffaeleflorio.surily;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class PercentEncodedTest {
   @Test
@@ -139,4 +141,113 @@ class PercentEncodedTest {
       new PercentEncoded("\b\t\n\f\r ", StandardCharsets.US_ASCII, Set.of(' ', '\b', '\t', '\n', '\f', '\r')).toString()
     );
   }
+
+  @Test
+  void testAppendTo() {
+    assertEquals(
+      "prefix:a%20b%C3%A8",
+      new PercentEncoded("a b\u00e8").appendTo(new StringBuilder("prefix:")).toString()
+    );
+  }
+
+  @Test
+  void testAppendToFailure() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new PercentEncoded("any").appendTo(new FailingAppendable())
+    );
+  }
+
+  private final class FailingAppendable implements Appendable {
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+      throw new IOException();
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+      throw new IOException();
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+      throw new IOException();
+    }
+  }
+
+  @Test
+  void testSameOctetsOfCharsetEncoding() {
+    var origin = "\u007F\u0080\u00FF\u0100\u07FF\u0800\uD7FF\uE000\uFFFF\uD800\uDC00\uDBFF\uDFFF\uDC00x\uD800x\uD800";
+    assertAll(
+      List.of(StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII, StandardCharsets.UTF_16BE)
+        .stream()
+        .map(charset -> () -> assertEquals(
+          charsetEncoded(origin, charset),
+          new PercentEncoded(origin, charset, Set.of('x')).toString()
+        ))
+    );
+  }
+
+  private String charsetEncoded(final String origin, final Charset charset) {
+    return origin.codePoints()
+      .mapToObj(codePoint -> codePoint == 'x' ? "x" : charsetEncoded(new String(Character.toChars(codePoint)).getBytes(charset)))
+      .collect(Collectors.joining());
+  }
+
+  private String charsetEncoded(final byte[] octets) {
+    var sb = new StringBuilder();
+    for (var octet : octets) {
+      sb.append(String.format("%%%02X", octet));
+    }
+    return sb.toString();
+  }
+
+  @Test
+  void testEncodedOnce() {
+    var origin = new StringBuilder("a b");
+    var encoded = new PercentEncoded(origin);
+    var first = encoded.toString();
+    origin.append("c d");
+    assertAll(
+      () -> assertSame(first, encoded.toString()),
+      () -> assertEquals(5, encoded.length()),
+      () -> assertEquals('2', encoded.charAt(2)),
+      () -> assertEquals("%20", encoded.subSequence(1, 4))
+    );
+  }
+
+  @Test
+  void testCountedLength() {
+    var origin = "a \u00E8\u20AC\uD83D\uDE00\uD83D";
+    assertAll(
+      () -> assertEquals(new PercentEncoded(origin).toString().length(), new PercentEncoded(origin).length()),
+      () -> assertEquals(
+        new PercentEncoded(origin, StandardCharsets.US_ASCII).toString().length(),
+        new PercentEncoded(origin, StandardCharsets.US_ASCII).length()
+      ),
+      () -> assertEquals(
+        new PercentEncoded(origin, StandardCharsets.ISO_8859_1).toString().length(),
+        new PercentEncoded(origin, StandardCharsets.ISO_8859_1).length()
+      ),
+      () -> assertEquals(
+        new PercentEncoded(origin, StandardCharsets.UTF_16).toString().length(),
+        new PercentEncoded(origin, StandardCharsets.UTF_16).length()
+      )
+    );
+  }
+
+  @Test
+  void testLengthAfterEncoding() {
+    var encoded = new PercentEncoded("\u00E8");
+    assertEquals(encoded.toString().length(), encoded.length());
+  }
+
+  @Test
+  void testLengthCountedOnce() {
+    var origin = new StringBuilder("a b");
+    var encoded = new PercentEncoded(origin);
+    var first = encoded.length();
+    origin.append("c d");
+    assertEquals(first, encoded.length());
+  }
 }
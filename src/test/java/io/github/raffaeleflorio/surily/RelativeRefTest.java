@@ -15,13 +15,26 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.authority.Authority;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.fragment.Fragment;
 import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.fragment.UndefinedFragment;
+import io.github.raffaeleflorio.surily.path.AbsolutePath;
+import io.github.raffaeleflorio.surily.path.EmptyPath;
+import io.github.raffaeleflorio.surily.path.EncodedPathSegment;
 import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.path.PathSegment;
+import io.github.raffaeleflorio.surily.path.RelativePath;
+import io.github.raffaeleflorio.surily.query.EncodedQuery;
+import io.github.raffaeleflorio.surily.query.PairQuery;
 import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.query.UndefinedQuery;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -224,4 +237,72 @@ class RelativeRefTest {
       )
     );
   }
+
+  @Test
+  void testEquivalentReferences() {
+    var reference = new RelativeRef(
+      new Authority(new RegName("EXAMPLE.com")),
+      new AbsolutePath(List.of(new EncodedPathSegment("%2f"))),
+      new EncodedQuery("q%3d"),
+      new Fragment("f")
+    );
+    var equivalent = new RelativeRef(
+      new Authority(new RegName("example.com")),
+      new AbsolutePath(List.of(new EncodedPathSegment("%2F"))),
+      new EncodedQuery("q%3D"),
+      new Fragment("f")
+    );
+    assertAll(
+      () -> assertEquals(reference, equivalent),
+      () -> assertEquals(reference.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(reference, new ParsedUriReference("//example.com/%2F?q%3D#f")),
+      () -> assertNotEquals(
+        reference,
+        new RelativeRef(
+          new Authority(new RegName("example.com")),
+          new AbsolutePath(List.of(new EncodedPathSegment("%2F"))),
+          new EncodedQuery("q%3D"),
+          new Fragment("F")
+        )
+      )
+    );
+  }
+
+  @Test
+  void testUndefinedQueryAndFragmentRendering() {
+    var reference = new RelativeRef(
+      new RelativePath(List.of(new PathSegment("\u00E8"))),
+      new UndefinedQuery(),
+      new UndefinedFragment()
+    );
+    var destination = new StringBuilder("> ");
+    reference.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> %C3%A8", destination.toString()),
+      () -> assertEquals(6, reference.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testFragmentOnlyRendering() {
+    var reference = new RelativeRef(new EmptyPath(), new UndefinedQuery(), new Fragment("\u00E4"));
+    assertAll(
+      () -> assertEquals("#%E4", reference.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(4, reference.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testSurrogatesRendering() {
+    var reference = new RelativeRef(
+      new Authority(new RegName("\u00FC")),
+      new EmptyPath(),
+      new PairQuery("k", "\uD83D\uDE00"),
+      new UndefinedFragment()
+    );
+    assertAll(
+      () -> assertEquals("//%C3%BC?k=%F0%9F%98%80", reference.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(23, reference.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
@@ -0,0 +1,149 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import io.github.raffaeleflorio.surily.authority.Authority;
+import io.github.raffaeleflorio.surily.authority.IPv6Address;
+import io.github.raffaeleflorio.surily.authority.Port;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.authority.UndefinedAuthority;
+import io.github.raffaeleflorio.surily.authority.Userinfo;
+import io.github.raffaeleflorio.surily.fragment.Fragment;
+import io.github.raffaeleflorio.surily.fragment.UndefinedFragment;
+import io.github.raffaeleflorio.surily.path.AbsolutePath;
+import io.github.raffaeleflorio.surily.path.EmptyPath;
+import io.github.raffaeleflorio.surily.path.MergedPath;
+import io.github.raffaeleflorio.surily.path.PathSegment;
+import io.github.raffaeleflorio.surily.path.PathSegmentSubcomponent;
+import io.github.raffaeleflorio.surily.path.RelativePath;
+import io.github.raffaeleflorio.surily.query.ArrayQuery;
+import io.github.raffaeleflorio.surily.query.ConcatenatedQueries;
+import io.github.raffaeleflorio.surily.query.PairQuery;
+import io.github.raffaeleflorio.surily.query.UndefinedQuery;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderingContractTest {
+  @TestFactory
+  Stream<DynamicTest> testRenderingContract() {
+    return cases().entrySet().stream().flatMap(
+      entry -> Stream.of(
+        StandardCharsets.UTF_8,
+        StandardCharsets.UTF_16,
+        StandardCharsets.ISO_8859_1,
+        StandardCharsets.US_ASCII
+      ).map(
+        charset -> DynamicTest.dynamicTest(
+          entry.getKey() + " " + charset,
+          () -> assertContract(entry.getValue(), charset)
+        )
+      )
+    );
+  }
+
+  private Map<String, UriComponent> cases() {
+    var segments = List.<PathSegmentSubcomponent>of(new PathSegment("s\u00E8g"), new PathSegment("\uD83D\uDE00 x"));
+    var authority = new Authority(new Userinfo("\u00FCser"), new RegName("h\u00F6st"), new Port(8080));
+    return Map.ofEntries(
+      Map.entry("RegName", new RegName("h\u00F6st\uD83D\uDE00\uD83D")),
+      Map.entry("Userinfo", new Userinfo("\u00FCser:p@ss")),
+      Map.entry("Port", new Port(8080)),
+      Map.entry("Scheme", new Scheme("HTTP")),
+      Map.entry("Fragment", new Fragment("fr\u00E4g#\u20AC")),
+      Map.entry("PathSegment", new PathSegment("s\u00E8g/m\u20ACnt")),
+      Map.entry("PairQuery", new PairQuery("k\u00E9y", "v\u00E4lue=")),
+      Map.entry("ArrayQuery", new ArrayQuery("k\u00E9y[]", List.of("1", "\u00E8 2"))),
+      Map.entry(
+        "ConcatenatedQueries",
+        new ConcatenatedQueries(List.of(new PairQuery("a", "\u00E8"), new PairQuery("b", "c")))
+      ),
+      Map.entry("Authority", authority),
+      Map.entry("IPv6Authority", new Authority(new IPv6Address("2001:db8::1"))),
+      Map.entry("EmptyPath", new EmptyPath()),
+      Map.entry("AbsolutePath", new AbsolutePath(segments)),
+      Map.entry("RelativePath", new RelativePath(segments)),
+      Map.entry("MergedPath", new MergedPath(new Uri(new Scheme("s"), authority), new RelativePath(segments))),
+      Map.entry("FormattedComponents", new FormattedComponents("%%%s:%s", List.of(authority, new Port(1)))),
+      Map.entry("JoinedComponents", new JoinedComponents(List.of(authority, new PathSegment("\u00E8")), "/")),
+      Map.entry(
+        "Uri",
+        component(new Uri(new Scheme("s"), authority, new AbsolutePath(segments), new PairQuery("k", "\u00E8")))
+      ),
+      Map.entry(
+        "AbsoluteUri",
+        component(new AbsoluteUri(new Scheme("s"), new UndefinedAuthority(), new RelativePath(segments)))
+      ),
+      Map.entry(
+        "RelativeRef",
+        component(new RelativeRef(authority, new AbsolutePath(segments), new UndefinedQuery(), new Fragment("\u00E8")))
+      ),
+      Map.entry("SameDocumentReference", component(new SameDocumentReference(new Fragment("fr\u00E4g")))),
+      Map.entry("UndefinedFragment", component(new SameDocumentReference(new UndefinedFragment())))
+    );
+  }
+
+  private UriComponent component(final UriReference reference) {
+    return new UriComponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        return reference.encoded(charset);
+      }
+
+      @Override
+      public int encodedLength(final Charset charset) {
+        return reference.encodedLength(charset);
+      }
+
+      @Override
+      public void appendTo(final Appendable destination, final Charset charset) {
+        reference.appendTo(destination, charset);
+      }
+
+      @Override
+      public String asString() {
+        return reference.asString();
+      }
+
+      @Override
+      public void appendTo(final Appendable destination) {
+        reference.appendTo(destination);
+      }
+    };
+  }
+
+  private void assertContract(final UriComponent component, final Charset charset) {
+    var encoded = component.encoded(charset).toString();
+    var appended = new StringBuilder("prefix");
+    var unencoded = new StringBuilder("prefix");
+    component.appendTo(appended, charset);
+    component.appendTo(unencoded);
+    assertAll(
+      () -> assertEquals(encoded.length(), component.encodedLength(charset)),
+      () -> assertEquals("prefix" + encoded, appended.toString()),
+      () -> assertEquals("prefix" + component.asString(), unencoded.toString())
+    );
+  }
+}
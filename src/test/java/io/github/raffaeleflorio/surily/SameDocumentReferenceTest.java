@@ -15,7 +15,10 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.fragment.EncodedFragment;
+import io.github.raffaeleflorio.surily.fragment.Fragment;
 import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.fragment.UndefinedFragment;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -91,4 +94,46 @@ class SameDocumentReferenceTest {
       new SameDocumentReference(new FragmentComponent.Fake("", "as string representation")).asString()
     );
   }
+
+  @Test
+  void testEquality() {
+    var reference = new SameDocumentReference(new EncodedFragment("f%7e"));
+    assertAll(
+      () -> assertEquals(reference, new SameDocumentReference(new EncodedFragment("f%7E"))),
+      () -> assertEquals(reference.hashCode(), new SameDocumentReference(new EncodedFragment("f%7E")).hashCode()),
+      () -> assertNotEquals(reference, new SameDocumentReference(new EncodedFragment("F%7E"))),
+      () -> assertNotEquals(reference, new ParsedUriReference("#f%7E"))
+    );
+  }
+
+  @Test
+  void testSurrogatesRendering() {
+    var reference = new SameDocumentReference(new Fragment("\uD83D\uDE00"));
+    var destination = new StringBuilder("> ");
+    reference.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> #%F0%9F%98%80", destination.toString()),
+      () -> assertEquals(13, reference.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var reference = new SameDocumentReference(new Fragment("\u00E4"));
+    assertAll(
+      () -> assertEquals("#%E4", reference.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(4, reference.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testUndefinedFragmentRendering() {
+    var reference = new SameDocumentReference(new UndefinedFragment());
+    var destination = new StringBuilder("> ");
+    reference.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> ", destination.toString()),
+      () -> assertEquals(0, reference.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
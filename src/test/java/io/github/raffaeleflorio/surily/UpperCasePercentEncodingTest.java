@@ -0,0 +1,50 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UpperCasePercentEncodingTest {
+  @Test
+  void testUpperCaseOctets() {
+    assertEquals("a%2Fb%C3%A8c", new UpperCasePercentEncoding("a%2fb%c3%a8c").toString());
+  }
+
+  @Test
+  void testOtherCharactersUnchanged() {
+    assertAll(
+      () -> assertEquals("abcdef", new UpperCasePercentEncoding("abcdef").toString()),
+      () -> assertEquals("%a", new UpperCasePercentEncoding("%a").toString()),
+      () -> assertEquals("%ag%", new UpperCasePercentEncoding("%ag%").toString()),
+      () -> assertEquals("%%a", new UpperCasePercentEncoding("%%a").toString()),
+      () -> assertEquals("%FF%AF", new UpperCasePercentEncoding("%ff%af").toString()),
+      () -> assertEquals("%zf", new UpperCasePercentEncoding("%zf").toString())
+    );
+  }
+
+  @Test
+  void testView() {
+    var view = new UpperCasePercentEncoding(new StringBuilder("x%2fy"));
+    assertAll(
+      () -> assertEquals(5, view.length()),
+      () -> assertEquals('F', view.charAt(3)),
+      () -> assertEquals("%2F", view.subSequence(1, 4))
+    );
+  }
+}
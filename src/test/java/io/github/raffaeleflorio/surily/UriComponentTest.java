@@ -18,9 +18,14 @@ package io.github.raffaeleflorio.surily;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UriComponentTest {
   @Nested
@@ -42,5 +47,33 @@ class UriComponentTest {
         new UriComponent.Fake("any", expected).asString()
       );
     }
+
+    @Test
+    void testValidation() {
+      assertTrue(new UriComponent.Fake("any", "any").validation().ifValidElse(() -> true, (error, offset) -> false));
+    }
+
+    @Test
+    void testEncodedLength() {
+      assertEquals(7, new UriComponent.Fake("encoded", "any").encodedLength(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testAppendTo() {
+      var encoded = new StringBuilder("> ");
+      var unencoded = new StringBuilder("> ");
+      new UriComponent.Fake("encoded", "unencoded").appendTo(encoded, StandardCharsets.UTF_8);
+      new UriComponent.Fake("encoded", "unencoded").appendTo(unencoded);
+      assertEquals("> encoded > unencoded", encoded + " " + unencoded);
+    }
+
+    @Test
+    void testFailingDestination() {
+      var fake = new UriComponent.Fake("encoded", "unencoded");
+      assertAll(
+        () -> assertThrows(UncheckedIOException.class, () -> fake.appendTo(new PipedWriter(), StandardCharsets.UTF_8)),
+        () -> assertThrows(UncheckedIOException.class, () -> fake.appendTo(new PipedWriter()))
+      );
+    }
   }
 }
@@ -0,0 +1,70 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UriReferenceAutomatonTest {
+  @Test
+  void testKinds() {
+    var automaton = new UriReferenceAutomaton();
+    assertAll(
+      () -> assertEquals(UriReferenceKind.URI, kind(automaton, "http://example.com/path#fragment")),
+      () -> assertEquals(UriReferenceKind.ABSOLUTE_URI, kind(automaton, "urn:isbn:0451450523?q")),
+      () -> assertEquals(UriReferenceKind.NETWORK_PATH_REFERENCE, kind(automaton, "//example.com")),
+      () -> assertEquals(UriReferenceKind.ABSOLUTE_PATH_REFERENCE, kind(automaton, "/path?query")),
+      () -> assertEquals(UriReferenceKind.RELATIVE_PATH_REFERENCE, kind(automaton, "path/to")),
+      () -> assertEquals(UriReferenceKind.RELATIVE_PATH_REFERENCE, kind(automaton, "#fragment")),
+      () -> assertEquals(UriReferenceKind.RELATIVE_PATH_REFERENCE, kind(automaton, ""))
+    );
+  }
+
+  private UriReferenceKind kind(final UriReferenceAutomaton automaton, final CharSequence reference) {
+    return automaton.ifValidElse(reference, x -> x, error -> null);
+  }
+
+  @Test
+  void testInvalid() {
+    assertEquals(
+      4,
+      new UriReferenceAutomaton().<Integer>ifValidElse("http^://", x -> -1, error -> error)
+    );
+  }
+
+  @Test
+  void testBoundaries() {
+    var boundaries = new int[12];
+    new UriReferenceAutomaton().ifValidElse("s://u@[::1]:8/p?q#f", boundaries, x -> x, error -> null);
+    assertArrayEquals(
+      new int[]{1, 4, 5, 6, 11, 12, 13, 15, 16, 17, 18, 2},
+      boundaries
+    );
+  }
+
+  @Test
+  void testReuse() {
+    var automaton = new UriReferenceAutomaton();
+    var boundaries = new int[12];
+    automaton.ifValidElse("s://u@h:8/p?q#f", boundaries, x -> x, error -> null);
+    automaton.ifValidElse("p", boundaries, x -> x, error -> null);
+    assertArrayEquals(
+      new int[]{-1, -1, -1, -1, -1, -1, 0, 1, -1, -1, -1, 0},
+      boundaries
+    );
+  }
+}
@@ -0,0 +1,145 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UriReferenceBoundariesTest {
+  @Test
+  void testUriBoundaries() {
+    var boundaries = new UriReferenceBoundaries("http://user@host:80/a/b?q#f");
+    assertAll(
+      () -> assertTrue(boundaries.valid()),
+      () -> assertEquals(-1, boundaries.errorIndex()),
+      () -> assertEquals(4, boundaries.schemeEnd()),
+      () -> assertEquals(7, boundaries.authorityStart()),
+      () -> assertEquals(11, boundaries.userinfoEnd()),
+      () -> assertEquals(12, boundaries.hostStart()),
+      () -> assertEquals(16, boundaries.hostEnd()),
+      () -> assertFalse(boundaries.ipv4Host()),
+      () -> assertFalse(boundaries.ipLiteralHost()),
+      () -> assertEquals(17, boundaries.portStart()),
+      () -> assertEquals(19, boundaries.pathStart()),
+      () -> assertEquals(23, boundaries.pathEnd()),
+      () -> assertEquals(24, boundaries.queryStart()),
+      () -> assertEquals(25, boundaries.queryEnd()),
+      () -> assertEquals(26, boundaries.fragmentStart())
+    );
+  }
+
+  @Test
+  void testRelativeRefBoundaries() {
+    var boundaries = new UriReferenceBoundaries("a/b");
+    assertAll(
+      () -> assertTrue(boundaries.valid()),
+      () -> assertEquals(-1, boundaries.schemeEnd()),
+      () -> assertEquals(-1, boundaries.authorityStart()),
+      () -> assertEquals(-1, boundaries.userinfoEnd()),
+      () -> assertEquals(-1, boundaries.portStart()),
+      () -> assertEquals(0, boundaries.pathStart()),
+      () -> assertEquals(3, boundaries.pathEnd()),
+      () -> assertEquals(-1, boundaries.queryStart()),
+      () -> assertEquals(-1, boundaries.queryEnd()),
+      () -> assertEquals(-1, boundaries.fragmentStart())
+    );
+  }
+
+  @Test
+  void testHosts() {
+    assertAll(
+      () -> assertTrue(new UriReferenceBoundaries("//127.0.0.1").ipv4Host()),
+      () -> assertTrue(new UriReferenceBoundaries("//255.249.199.10").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//256.0.0.1").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//01.0.0.1").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//1.0.0").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//1.0.0.").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//1.0.0.1.").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//1.0.0-1").ipv4Host()),
+      () -> assertFalse(new UriReferenceBoundaries("//1000.0.0.1").ipv4Host()),
+      () -> assertTrue(new UriReferenceBoundaries("//[::]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[::1]:80").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[1::]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[1:2:3:4:5:6:7:8]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[1:2:3:4:5:6:1.2.3.4]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[::ffff:1.2.3.4]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[1:2::7:8]").ipLiteralHost()),
+      () -> assertTrue(new UriReferenceBoundaries("//[1:2:3:4:5:6:7::]").ipLiteralHost()),
+      () -> assertFalse(new UriReferenceBoundaries("//[1::2:3:4:5:6:7:8]").ipLiteralHost()),
+      () -> assertFalse(new UriReferenceBoundaries("//[:]").ipLiteralHost())
+    );
+  }
+
+  @Test
+  void testIllegalIPLiterals() {
+    assertAll(
+      () -> assertEquals(3, new UriReferenceBoundaries("//[::1").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[:1::]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:::]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1::2::3]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:2:3:4:5:6:7]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:2:3:4:5:6:7:8:9]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[12345::]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1-2::]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:2:3:4:5:6:7:1.2.3.4]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[1:2:3:4:5:6::1.2.3.4]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[::1.2.3]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//[v1.a]").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//u^@[v1.a]").errorIndex())
+    );
+  }
+
+  @Test
+  void testIllegalReferences() {
+    assertAll(
+      () -> assertEquals(2, new UriReferenceBoundaries("1a:b").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("a/b c").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("a/b%2").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("a?b[").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("a#b#").errorIndex()),
+      () -> assertEquals(1, new UriReferenceBoundaries("aè").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//u[@host").errorIndex()),
+      () -> assertEquals(4, new UriReferenceBoundaries("//ho^st").errorIndex()),
+      () -> assertEquals(6, new UriReferenceBoundaries("//[::]x").errorIndex()),
+      () -> assertEquals(8, new UriReferenceBoundaries("//host:8a/").errorIndex()),
+      () -> assertEquals(3, new UriReferenceBoundaries("//u^@host:80").errorIndex()),
+      () -> assertEquals(1, new UriReferenceBoundaries("a%2G").errorIndex()),
+      () -> assertEquals(1, new UriReferenceBoundaries("a%G2").errorIndex())
+    );
+  }
+
+  @Test
+  void testLegalReferences() {
+    assertAll(
+      () -> assertTrue(new UriReferenceBoundaries("").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("a:b").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("a+b-c.d:e:f").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("file:///etc/hosts").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("//host:").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("./a:b").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("?a/?:@%20#b/?").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("//u:p%40@h.com?q").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("a").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("/").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("/A_~-.:/").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("a1://!$&'()*+,;=@!$&'()*+,;=/!$&'()*+,;=").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("//h#f").valid()),
+      () -> assertTrue(new UriReferenceBoundaries("/").valid())
+    );
+  }
+}
@@ -23,9 +23,14 @@ import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UriReferenceTest {
   @Nested
@@ -48,6 +53,16 @@ class UriReferenceTest {
       );
     }
 
+    @Test
+    void testValidation() {
+      assertTrue(new UriReference.Fake("any", "any").validation().ifValidElse(() -> true, (error, offset) -> false));
+    }
+
+    @Test
+    void testEncodedLength() {
+      assertEquals(7, new UriReference.Fake("encoded", "any").encodedLength(StandardCharsets.UTF_8));
+    }
+
     @Test
     void testScheme() {
       var expected = new SchemeComponent.Fake("the", "scheme");
@@ -92,5 +107,23 @@ class UriReferenceTest {
         new UriReference.Fake(expected).fragment()
       );
     }
+
+    @Test
+    void testAppendTo() {
+      var encoded = new StringBuilder("> ");
+      var unencoded = new StringBuilder("> ");
+      new UriReference.Fake("encoded", "unencoded").appendTo(encoded, StandardCharsets.UTF_8);
+      new UriReference.Fake("encoded", "unencoded").appendTo(unencoded);
+      assertEquals("> encoded > unencoded", encoded + " " + unencoded);
+    }
+
+    @Test
+    void testFailingDestination() {
+      var fake = new UriReference.Fake("encoded", "unencoded");
+      assertAll(
+        () -> assertThrows(UncheckedIOException.class, () -> fake.appendTo(new PipedWriter(), StandardCharsets.UTF_8)),
+        () -> assertThrows(UncheckedIOException.class, () -> fake.appendTo(new PipedWriter()))
+      );
+    }
   }
 }
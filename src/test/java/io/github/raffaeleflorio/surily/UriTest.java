@@ -15,16 +15,34 @@
  */
 package io.github.raffaeleflorio.surily;
 
+import io.github.raffaeleflorio.surily.authority.Authority;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.Port;
+import io.github.raffaeleflorio.surily.authority.RegName;
+import io.github.raffaeleflorio.surily.authority.UndefinedAuthority;
+import io.github.raffaeleflorio.surily.fragment.Fragment;
 import io.github.raffaeleflorio.surily.fragment.FragmentComponent;
+import io.github.raffaeleflorio.surily.fragment.UndefinedFragment;
+import io.github.raffaeleflorio.surily.path.AbsolutePath;
+import io.github.raffaeleflorio.surily.path.NormalizedSegments;
 import io.github.raffaeleflorio.surily.path.PathComponent;
+import io.github.raffaeleflorio.surily.path.PathSegment;
+import io.github.raffaeleflorio.surily.path.RelativePath;
+import io.github.raffaeleflorio.surily.query.PairQuery;
 import io.github.raffaeleflorio.surily.query.QueryComponent;
+import io.github.raffaeleflorio.surily.query.UndefinedQuery;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
 import io.github.raffaeleflorio.surily.scheme.SchemeComponent;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class UriTest {
@@ -87,6 +105,29 @@ class UriTest {
     );
   }
 
+  @Test
+  void testRenderPlanOnce() {
+    var plans = new AtomicInteger();
+    var uri = new Uri(
+      new SchemeComponent.Fake("scheme", "scheme"),
+      new UndefinedAuthority(),
+      new PathComponent.Fake(new UriComponent.Fake("", ""), new UriComponent.Fake("path", "path")),
+      new QueryComponent.Fake("query", "query"),
+      new UndefinedFragment(),
+      FormattedComponents::new,
+      (components, separator) -> {
+        plans.incrementAndGet();
+        return new JoinedComponents(components, separator);
+      },
+      NormalizedSegments::new
+    );
+    assertAll(
+      () -> assertEquals("scheme:path?query", uri.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("scheme:path?query", uri.asString()),
+      () -> assertEquals(1, plans.get())
+    );
+  }
+
   @Test
   void testEncodedWithSchemeAndQuery() {
     assertEquals(
@@ -297,4 +338,82 @@ class UriTest {
       new Uri(new SchemeComponent.Fake("any", "value"), expected).fragment()
     );
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "ILLEGAL_SCHEME at 0",
+      new Uri(new Scheme("1x"))
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquivalentUris() {
+    var uri = new Uri(
+      new Scheme("HTTP"),
+      new Authority(new RegName("Example.com"), new Port("080")),
+      new AbsolutePath(List.of(new PathSegment("p"))),
+      new PairQuery("k", "v"),
+      new Fragment("f")
+    );
+    var equivalent = new Uri(
+      new Scheme("http"),
+      new Authority(new RegName(new StringBuilder("example.com")), new Port(80)),
+      new AbsolutePath(List.of(new PathSegment(new StringBuilder("p")))),
+      new PairQuery("k", "v"),
+      new Fragment("f")
+    );
+    assertAll(
+      () -> assertEquals(uri, equivalent),
+      () -> assertEquals(uri.hashCode(), equivalent.hashCode()),
+      () -> assertEquals("value", Map.of(uri, "value").get(equivalent)),
+      () -> assertNotEquals(uri, new ParsedUriReference("http://example.com:80/p?k=v#f")),
+      () -> assertNotEquals(
+        uri,
+        new Uri(
+          new Scheme("http"),
+          new Authority(new RegName("example.com"), new Port(80)),
+          new AbsolutePath(List.of(new PathSegment("P"))),
+          new PairQuery("k", "v"),
+          new Fragment("f")
+        )
+      )
+    );
+  }
+
+  @Test
+  void testUndefinedQueryAndFragmentRendering() {
+    var uri = new Uri(
+      new Scheme("s"),
+      new Authority(new RegName("h\u00F6st")),
+      new AbsolutePath(List.of(new PathSegment("\u00E8"))),
+      new UndefinedQuery(),
+      new UndefinedFragment()
+    );
+    var destination = new StringBuilder("> ");
+    uri.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("> s://h%C3%B6st/%C3%A8", destination.toString()),
+      () -> assertEquals(20, uri.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var uri = new Uri(
+      new Scheme("s"),
+      new UndefinedAuthority(),
+      new RelativePath(List.of(new PathSegment("\u00E8"))),
+      new PairQuery("k", "\u00E8"),
+      new Fragment("\uD83D\uDE00")
+    );
+    var destination = new StringBuilder("> ");
+    uri.appendTo(destination, StandardCharsets.ISO_8859_1);
+    assertAll(
+      () -> assertEquals("> s:%E8?k=%E8#%3F", destination.toString()),
+      () -> assertEquals(15, uri.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
 }
@@ -0,0 +1,171 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.ParsedUriReference;
+import io.github.raffaeleflorio.surily.Uri;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorityShardsTest {
+  @Test
+  void testEffectivePort() {
+    var shards = new AuthorityShards(8, scheme -> 80);
+    assertAll(
+      () -> assertEquals(hash(shards, "http://example.com/a"), hash(shards, "http://EXAMPLE.com:80/b")),
+      () -> assertEquals(hash(shards, "http://example.com"), hash(shards, "http://example.com:/")),
+      () -> assertEquals(hash(shards, "http://example.com:0080"), hash(shards, "http://example.com:80")),
+      () -> assertNotEquals(hash(shards, "http://example.com"), hash(shards, "http://example.com:8080")),
+      () -> assertNotEquals(hash(shards, "http://example.com"), hash(shards, "http://example.org"))
+    );
+  }
+
+  @Test
+  void testSchemeDefaultPorts() {
+    var shards = new AuthorityShards(8);
+    assertAll(
+      () -> assertEquals(hash(shards, "http://example.com"), hash(shards, "http://example.com:80")),
+      () -> assertEquals(hash(shards, "HTTPS://example.com"), hash(shards, "https://example.com:443")),
+      () -> assertNotEquals(hash(shards, "http://example.com"), hash(shards, "https://example.com")),
+      () -> assertEquals(hash(shards, "x-scheme://example.com"), hash(shards, "x-other://example.com"))
+    );
+  }
+
+  @Test
+  void testWithoutDefaultPorts() {
+    var shards = new AuthorityShards(8, scheme -> -1);
+    assertAll(
+      () -> assertEquals(hash(shards, "http://example.com"), hash(shards, "https://Example.com")),
+      () -> assertNotEquals(hash(shards, "http://example.com"), hash(shards, "http://example.com:80"))
+    );
+  }
+
+  @Test
+  void testIpAddresses() {
+    var shards = new AuthorityShards(8);
+    assertAll(
+      () -> assertEquals(hash(shards, "http://[2001:DB8::1]"), hash(shards, "http://[2001:db8:0:0::1]")),
+      () -> assertEquals(hash(shards, "http://192.0.2.1"), hash(shards, "http://[::ffff:192.0.2.1]")),
+      () -> assertNotEquals(hash(shards, "http://192.0.2.1"), hash(shards, "http://192.0.2.2"))
+    );
+  }
+
+  @Test
+  void testUndefinedAuthority() {
+    var shards = new AuthorityShards(8);
+    assertEquals(hash(shards, "/a"), hash(shards, "b?c"));
+  }
+
+  private long hash(final AuthorityShards shards, final String reference) {
+    return shards.hash(new ParsedUriReference(reference));
+  }
+
+  @Test
+  void testShard() {
+    assertAll(
+      () -> assertEquals(0, new AuthorityShards(1).shard(new ParsedUriReference("http://example.com"))),
+      () -> assertEquals(
+        new AuthorityShards(7).shard(new ParsedUriReference("http://example.com")),
+        new AuthorityShards(7).shard(new ParsedUriReference("http://EXAMPLE.COM/"))
+      )
+    );
+  }
+
+  @Test
+  void testRebalancing() {
+    var before = new AuthorityShards(10);
+    var after = new AuthorityShards(11);
+    var moved = 0;
+    for (var i = 0; i < 10000; i++) {
+      var reference = new ParsedUriReference("http://host" + i + ".example");
+      var shard = before.shard(reference);
+      assertTrue(shard >= 0 && shard < 10);
+      if (shard != after.shard(reference)) {
+        assertEquals(10, after.shard(reference));
+        moved++;
+      }
+    }
+    assertTrue(moved > 700 && moved < 1100, "Moved: " + moved);
+  }
+
+  @Test
+  void testBuiltRegName() {
+    var shards = new AuthorityShards(8);
+    assertAll(
+      () -> assertEquals(
+        hash(shards, "http://a%20b.example"),
+        shards.hash(new Uri(new Scheme("http"), new Authority(new RegName("A b.example"))))
+      ),
+      () -> assertEquals(
+        hash(shards, "http://example.com:8080"),
+        shards.hash(new Uri(new Scheme("http"), new Authority(new EncodedRegName("example.com"), new Port(8080))))
+      )
+    );
+  }
+
+  @Test
+  void testRegNameNotRendered() {
+    var host = new HostSubcomponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        throw new AssertionError("Rendered");
+      }
+
+      @Override
+      public String asString() {
+        throw new AssertionError("Rendered");
+      }
+
+      @Override
+      public <T> T ifDefinedElse(final Function<HostSubcomponent, T> fn, final Supplier<T> undefinedFn) {
+        return fn.apply(this);
+      }
+
+      @Override
+      public void appendTo(final Appendable destination, final Charset charset) {
+        try {
+          destination.append("Example.").append("com", 0, 3);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    };
+    var shards = new AuthorityShards(8);
+    assertEquals(hash(shards, "http://example.com"), shards.hash(new Uri(new Scheme("http"), new Authority(host))));
+  }
+
+  @Test
+  void testIllegalShards() {
+    assertAll(
+      () -> assertEquals(
+        "Expected a positive number of shards instead of 0",
+        assertThrows(IllegalArgumentException.class, () -> new AuthorityShards(0)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a positive number of shards instead of -1",
+        assertThrows(IllegalArgumentException.class, () -> new AuthorityShards(-1, scheme -> 80)).getMessage()
+      )
+    );
+  }
+}
@@ -89,7 +89,6 @@ class AuthorityTest {
     );
   }
 
-
   @Test
   void testAsStringWithoutUserInfo() {
     assertEquals(
@@ -167,4 +166,49 @@ class AuthorityTest {
       )
     );
   }
+
+  @Test
+  void testEquivalentAuthorities() {
+    var authority = new Authority(new Userinfo("u"), new RegName("EXAMPLE.com"), new Port("080"));
+    var equivalent = new Authority(new Userinfo("u"), new RegName("example.com"), new Port(80));
+    assertAll(
+      () -> assertEquals(authority, equivalent),
+      () -> assertEquals(authority.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(authority, new Authority(new Userinfo("U"), new RegName("example.com"), new Port(80))),
+      () -> assertNotEquals(authority, new Authority(new RegName("example.com"), new Port(80)))
+    );
+  }
+
+  @Test
+  void testUndefinedSubcomponentsRendering() {
+    var component = new Authority(new RegName("h\u00F6st"));
+    var destination = new StringBuilder("//");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("//h%C3%B6st", destination.toString()),
+      () -> assertEquals(9, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var component = new Authority(new Userinfo("\u00FC"), new RegName("h\u00F6st"), new Port(8080));
+    var destination = new StringBuilder("//");
+    component.appendTo(destination, StandardCharsets.ISO_8859_1);
+    assertAll(
+      () -> assertEquals("//%FC@h%F6st:8080", destination.toString()),
+      () -> assertEquals(15, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testEmptyPortRendering() {
+    var component = new Authority(new RegName("host"), new Port(""));
+    var destination = new StringBuilder("//");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("//host:", destination.toString()),
+      () -> assertEquals(5, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
@@ -0,0 +1,90 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CanonicalIPv6AddressTest {
+  @Test
+  void testEncoded() {
+    assertAll(
+      () -> assertEquals("[::1]", new CanonicalIPv6Address("0:0:0:0:0:0:0:1").encoded(StandardCharsets.US_ASCII)),
+      () -> assertEquals("[::1]", new CanonicalIPv6Address("0::1").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("[::1]", new CanonicalIPv6Address("::0001").encoded(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "[2001:db8::ff00:42:8329]",
+      new CanonicalIPv6Address("2001:0DB8:0000:0000:0000:FF00:0042:8329").asString()
+    );
+  }
+
+  @Test
+  void testMapped() {
+    assertEquals("[::ffff:127.0.0.1]", new CanonicalIPv6Address("::FFFF:7f00:1").asString());
+  }
+
+  @Test
+  void testOnce() {
+    var address = new CanonicalIPv6Address(new IPv6Address(0L, 1L));
+    assertSame(address.asString(), address.encoded(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testIllegal() {
+    assertEquals(
+      "Illegal IPv6 address: <::g>",
+      assertThrows(IllegalStateException.class, () -> new CanonicalIPv6Address("::g").asString()).getMessage()
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "ILLEGAL_IPV6_ADDRESS at 2",
+      new CanonicalIPv6Address("::g")
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new CanonicalIPv6Address("::").ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testIfIpAddressElse() {
+    assertEquals("ipv6", new CanonicalIPv6Address("::").ifIpAddressElse(x -> "ipv4", y -> "ipv6", z -> "other"));
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new CanonicalIPv6Address("::1"), new CanonicalIPv6Address("0::0:1")),
+      () -> assertEquals(new CanonicalIPv6Address("::1").hashCode(), new CanonicalIPv6Address("0::0:1").hashCode()),
+      () -> assertNotEquals(new CanonicalIPv6Address("::1"), new CanonicalIPv6Address("::2")),
+      () -> assertNotEquals(new CanonicalIPv6Address("::1"), new IPv6Address("::1"))
+    );
+  }
+}
@@ -0,0 +1,60 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CaseInsensitiveHashTest {
+  @Test
+  void testCaseInsensitive() {
+    assertEquals(hash("example.com"), hash("EXAMPLE.Com"));
+  }
+
+  @Test
+  void testFnv() {
+    assertAll(
+      () -> assertEquals(0xCBF29CE484222325L, new CaseInsensitiveHash().value()),
+      () -> assertEquals(0xAF63DC4C8601EC8CL, hash("a"))
+    );
+  }
+
+  @Test
+  void testRanges() {
+    var hash = new CaseInsensitiveHash();
+    hash.append("xaby", 1, 3);
+    assertAll(
+      () -> assertEquals(hash("ab"), hash.value()),
+      () -> assertNotEquals(hash("ab"), hash("ba"))
+    );
+  }
+
+  @Test
+  void testNull() {
+    var hash = new CaseInsensitiveHash();
+    hash.append(null).append(null, 0, 2);
+    assertEquals(hash("nullnu"), hash.value());
+  }
+
+  private long hash(final String chars) {
+    var hash = new CaseInsensitiveHash();
+    hash.append(chars);
+    return hash.value();
+  }
+}
@@ -0,0 +1,111 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CidrRangeTest {
+  @Test
+  void testIPv4() {
+    assertAll(
+      () -> assertArrayEquals(new long[]{0L, 0xFFFF0A000000L}, new CidrRange("10.0.0.0/8").words()),
+      () -> assertEquals(104, new CidrRange("10.0.0.0/8").prefixLength()),
+      () -> assertEquals(128, new CidrRange(new IPv4Address(127, 0, 0, 1), 32).prefixLength()),
+      () -> assertEquals(96, new CidrRange(new IPv4Address(0), 0).prefixLength())
+    );
+  }
+
+  @Test
+  void testIPv6() {
+    assertAll(
+      () -> assertArrayEquals(new long[]{0xFD00000000000000L, 0L}, new CidrRange("fd00::/8").words()),
+      () -> assertEquals(8, new CidrRange("fd00::/8").prefixLength()),
+      () -> assertEquals(128, new CidrRange(new IPv6Address("::1"), 128).prefixLength())
+    );
+  }
+
+  @Test
+  void testIllegalPrefixLength() {
+    assertAll(
+      () -> assertIllegalLength(() -> new CidrRange("10.0.0.0").prefixLength(), ""),
+      () -> assertIllegalLength(() -> new CidrRange("10.0.0.0/33").prefixLength(), "33"),
+      () -> assertIllegalLength(() -> new CidrRange("::/129").prefixLength(), "129"),
+      () -> assertIllegalLength(() -> new CidrRange("::/1000").prefixLength(), "1000"),
+      () -> assertIllegalLength(() -> new CidrRange("::/-1").prefixLength(), "-1"),
+      () -> assertIllegalLength(() -> new CidrRange("::/" + "1".repeat(4097)).prefixLength(), "1".repeat(4096) + "...")
+    );
+  }
+
+  private void assertIllegalLength(final Executable executable, final String length) {
+    assertEquals(
+      String.format("Illegal CIDR prefix length: <%s>", length),
+      assertThrows(IllegalStateException.class, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testIllegalAddress() {
+    assertAll(
+      () -> assertEquals(
+        "Illegal IPv4 address: <10.0.0>",
+        assertThrows(IllegalStateException.class, () -> new CidrRange("10.0.0/8").words()).getMessage()
+      ),
+      () -> assertEquals(
+        "Illegal IPv6 address: <fd00:>",
+        assertThrows(IllegalStateException.class, () -> new CidrRange("fd00:/8").words()).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testWithoutIPAddress() {
+    assertAll(
+      () -> assertWithoutIPAddress(() -> new CidrRange(new RegName("localhost"), "8").words()),
+      () -> assertWithoutIPAddress(() -> new CidrRange(new RegName("localhost"), "8").prefixLength())
+    );
+  }
+
+  private void assertWithoutIPAddress(final Executable executable) {
+    assertEquals(
+      "Unable to build a CIDR range without an IP address",
+      assertThrows(IllegalStateException.class, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new CidrRange("10.0.0.0/8"), new CidrRange(new IPv4Address(10, 1, 2, 3), 8)),
+      () -> assertEquals(new CidrRange("10.0.0.0/8").hashCode(), new CidrRange("10.1.2.3/8").hashCode()),
+      () -> assertEquals(new CidrRange("fd00::/8"), new CidrRange("FDFF::1/08")),
+      () -> assertEquals(new CidrRange("::/0"), new CidrRange("1::/0")),
+      () -> assertEquals(new CidrRange("::1/128"), new CidrRange(new IPv6Address("::1"), 128)),
+      () -> assertEquals(new CidrRange("10.0.0.0/40"), new CidrRange("10.0.0.0/40")),
+      () -> assertEquals(new CidrRange("10.0.0.0/40").hashCode(), new CidrRange("10.0.0.0/40").hashCode()),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/8"), new CidrRange("10.0.0.0/16")),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/8"), new CidrRange("11.0.0.0/8")),
+      () -> assertNotEquals(new CidrRange("0.0.0.0/0"), new CidrRange("::/0")),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/40"), new CidrRange("10.0.0.0/8")),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/8"), new CidrRange("10.0.0/8")),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/40"), new CidrRange("10.0.0.1/40")),
+      () -> assertNotEquals(new CidrRange(new RegName("localhost"), "8"), new CidrRange(new RegName("localhost"), "9")),
+      () -> assertNotEquals(new CidrRange("10.0.0.0/8"), new IPv4Address(10, 0, 0, 0))
+    );
+  }
+}
@@ -0,0 +1,112 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CidrRangesTest {
+  @Test
+  void testMostSpecific() {
+    var ranges = new CidrRanges<>(
+      Map.of(
+        new CidrRange("10.0.0.0/8"), "private",
+        new CidrRange("10.1.0.0/16"), "tenant",
+        new CidrRange("127.0.0.0/8"), "loopback",
+        new CidrRange("::1/128"), "loopback6",
+        new CidrRange("fe80::/10"), "link-local"
+      )
+    );
+    assertAll(
+      () -> assertEquals("private", ranges.ifMatchElse(new IPv4Address("10.2.3.4"), x -> x, () -> "none")),
+      () -> assertEquals("tenant", ranges.ifMatchElse(new IPv4Address("10.1.255.255"), x -> x, () -> "none")),
+      () -> assertEquals("loopback", ranges.ifMatchElse(new IPv4Address(127, 0, 0, 1), x -> x, () -> "none")),
+      () -> assertEquals("none", ranges.ifMatchElse(new IPv4Address("11.0.0.1"), x -> x, () -> "none")),
+      () -> assertEquals("loopback6", ranges.ifMatchElse(new IPv6Address("::1"), x -> x, () -> "none")),
+      () -> assertEquals("none", ranges.ifMatchElse(new IPv6Address("::2"), x -> x, () -> "none")),
+      () -> assertEquals("link-local", ranges.ifMatchElse(new IPv6Address("febf::1"), x -> x, () -> "none")),
+      () -> assertEquals("none", ranges.ifMatchElse(new IPv6Address("fec0::1"), x -> x, () -> "none"))
+    );
+  }
+
+  @Test
+  void testIPv4Mapped() {
+    assertEquals(
+      "loopback",
+      new CidrRanges<>(Map.of(new CidrRange("127.0.0.0/8"), "loopback"))
+        .ifMatchElse(new IPv6Address("::ffff:127.0.0.2"), x -> x, () -> "none")
+    );
+  }
+
+  @Test
+  void testHostSubcomponent() {
+    var ranges = new CidrRanges<>(
+      Map.of(new CidrRange("192.168.0.0/16"), "v4", new CidrRange("fd00::/8"), "v6")
+    );
+    assertAll(
+      () -> assertEquals("v4", ranges.ifMatchElse((HostSubcomponent) new IPv4Address("192.168.1.1"), x -> x, () -> "none")),
+      () -> assertEquals("v6", ranges.ifMatchElse((HostSubcomponent) new IPv6Address("fd12::1"), x -> x, () -> "none")),
+      () -> assertEquals("none", ranges.ifMatchElse(new RegName("localhost"), x -> x, () -> "none"))
+    );
+  }
+
+  @Test
+  void testDefaultRoute() {
+    var ranges = new CidrRanges<>(Map.of(new CidrRange("::/0"), "any", new CidrRange("0.0.0.0/0"), "ipv4"));
+    assertAll(
+      () -> assertEquals("any", ranges.ifMatchElse(new IPv6Address("2001:db8::1"), x -> x, () -> "none")),
+      () -> assertEquals("ipv4", ranges.ifMatchElse(new IPv4Address("8.8.8.8"), x -> x, () -> "none"))
+    );
+  }
+
+  @Test
+  void testManyRanges() {
+    var map = new HashMap<CidrRange, Integer>();
+    for (var i = 0; i < 4096; i++) {
+      map.put(new CidrRange(new IPv4Address(i << 12), 20), i);
+      map.put(new CidrRange(new IPv6Address((long) i << 40, 0L), 24), -i);
+    }
+    var ranges = new CidrRanges<>(map);
+    assertAll(
+      () -> assertEquals(0xABC, ranges.ifMatchElse(new IPv4Address(0xABC123), x -> x, () -> 0)),
+      () -> assertEquals(-0xABC, ranges.ifMatchElse(new IPv6Address(0xABC0000000001L, 1L), x -> x, () -> 0)),
+      () -> assertEquals(0, ranges.ifMatchElse(new IPv4Address(0x1000000), x -> x, () -> 0))
+    );
+  }
+
+  @Test
+  void testIllegalRange() {
+    assertThrows(
+      IllegalStateException.class,
+      () -> new CidrRanges<>(Map.of(new CidrRange("10.0.0.0/40"), "x"))
+        .ifMatchElse(new IPv4Address("10.0.0.1"), x -> x, () -> "none")
+    );
+  }
+
+  @Test
+  void testCopiedRanges() {
+    var map = new HashMap<CidrRange, String>();
+    map.put(new CidrRange("10.0.0.0/8"), "private");
+    var ranges = new CidrRanges<>(map);
+    map.put(new CidrRange("10.1.0.0/16"), "tenant");
+    map.remove(new CidrRange("10.0.0.0/8"));
+    assertEquals("private", ranges.ifMatchElse(new IPv4Address("10.1.0.1"), x -> x, () -> "none"));
+  }
+}
@@ -0,0 +1,40 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CidrTrieTest {
+  @Test
+  void testMatched() {
+    // root -> 1 (bit 0) -> 2 (bit 1, value "01")
+    var trie = new CidrTrie<>(new int[]{1, 0, 0, 2, 0, 0}, Arrays.asList(null, null, "01"));
+    assertAll(
+      () -> assertEquals("01", trie.matched(0x4000000000000000L, 0L)),
+      () -> assertNull(trie.matched(0x8000000000000000L, 0L)),
+      () -> assertNull(trie.matched(0L, 0L))
+    );
+  }
+
+  @Test
+  void testRoot() {
+    assertEquals("all", new CidrTrie<>(new int[2], Arrays.asList("all")).matched(-1L, -1L));
+  }
+}
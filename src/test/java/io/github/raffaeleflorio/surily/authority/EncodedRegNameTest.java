@@ -0,0 +1,80 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedRegNameTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "www.example%2Ecom",
+      new EncodedRegName("www.example%2Ecom").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "www.example.com",
+      new EncodedRegName("www.example%2Ecom").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertEquals(
+      "Illegal percent-encoded component: <www.example:com>",
+      assertThrows(IllegalStateException.class, () -> new EncodedRegName("www.example:com").encoded(StandardCharsets.UTF_8)).getMessage()
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new EncodedRegName("www.example%2Ecom").<Boolean>ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedRegName("example.com")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 3",
+        new EncodedRegName("exa@mple")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testCaseInsensitiveEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedRegName("EXAMPLE%2f"), new EncodedRegName(new StringBuilder("example%2F"))),
+      () -> assertEquals(new EncodedRegName("EXAMPLE%2f").hashCode(), new EncodedRegName("example%2F").hashCode()),
+      () -> assertNotEquals(new EncodedRegName("example%2F"), new EncodedRegName("example/"))
+    );
+  }
+}
@@ -0,0 +1,81 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedUserinfoTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "user:pass%40",
+      new EncodedUserinfo("user:pass%40").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "user:pass@",
+      new EncodedUserinfo("user:pass%40").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertEquals(
+      "Illegal percent-encoded component: <user@>",
+      assertThrows(IllegalStateException.class, () -> new EncodedUserinfo("user@").encoded(StandardCharsets.UTF_8)).getMessage()
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new EncodedUserinfo("user:pass%40").<Boolean>ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedUserinfo("user:pass")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 2",
+        new EncodedUserinfo("us@er")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedUserinfo("user%3a%c3%a8"), new EncodedUserinfo(new StringBuilder("user%3A%C3%A8"))),
+      () -> assertEquals(new EncodedUserinfo("user%3a").hashCode(), new EncodedUserinfo("user%3A").hashCode()),
+      () -> assertNotEquals(new EncodedUserinfo("user%3A"), new EncodedUserinfo("User%3A")),
+      () -> assertNotEquals(new EncodedUserinfo("user%3A"), new EncodedUserinfo("user:"))
+    );
+  }
+}
@@ -50,5 +50,13 @@ class HostSubcomponentTest {
         new HostSubcomponent.Fake("0", "1").ifDefinedElse(x -> "ok", () -> "nok")
       );
     }
+
+    @Test
+    void testIfIpAddressElse() {
+      assertEquals(
+        "other",
+        new HostSubcomponent.Fake("0", "1").ifIpAddressElse(x -> "ipv4", y -> "ipv6", z -> "other")
+      );
+    }
   }
 }
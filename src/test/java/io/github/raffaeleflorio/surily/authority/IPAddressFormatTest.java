@@ -0,0 +1,61 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IPAddressFormatTest {
+  @Test
+  void testIPv4() {
+    assertAll(
+      () -> assertEquals("0.0.0.0", new IPAddressFormat().ipv4(0)),
+      () -> assertEquals("255.255.255.255", new IPAddressFormat().ipv4(-1)),
+      () -> assertEquals("10.99.100.9", new IPAddressFormat().ipv4(0x0A636409))
+    );
+  }
+
+  @Test
+  void testIPv6() {
+    assertAll(
+      () -> assertEquals("::", new IPAddressFormat().ipv6(0L, 0L)),
+      () -> assertEquals("::1", new IPAddressFormat().ipv6(0L, 1L)),
+      () -> assertEquals("1::", new IPAddressFormat().ipv6(0x0001000000000000L, 0L)),
+      () -> assertEquals("2001:db8::1", new IPAddressFormat().ipv6(0x20010DB800000000L, 1L)),
+      () -> assertEquals("2001:db8:0:1:1:1:1:1", new IPAddressFormat().ipv6(0x20010DB800000001L, 0x0001000100010001L)),
+      () -> assertEquals("2001:0:0:1::1", new IPAddressFormat().ipv6(0x2001000000000001L, 1L)),
+      () -> assertEquals("2001:db8::1:0:0:1", new IPAddressFormat().ipv6(0x20010DB800000000L, 0x0001000000000001L)),
+      () -> assertEquals("1:0:2:0:3:0:4:0", new IPAddressFormat().ipv6(0x0001000000020000L, 0x0003000000040000L)),
+      () -> assertEquals(
+        "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff",
+        new IPAddressFormat().ipv6(-1L, -1L)
+      ),
+      () -> assertEquals("::ffff:192.0.2.1", new IPAddressFormat().ipv6(0L, 0xFFFFC0000201L)),
+      () -> assertEquals("::fffe:c000:201", new IPAddressFormat().ipv6(0L, 0xFFFEC0000201L)),
+      () -> assertEquals("1::ffff:c000:201", new IPAddressFormat().ipv6(0x0001000000000000L, 0xFFFFC0000201L))
+    );
+  }
+
+  @Test
+  void testBuffer() {
+    var buffer = "xxxxxxx".toCharArray();
+    assertAll(
+      () -> assertEquals(6, new IPAddressFormat().ipv6(0L, 0xABCL, buffer, 1)),
+      () -> assertEquals("x::abcx", new String(buffer))
+    );
+  }
+}
@@ -0,0 +1,45 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IPv4AddressParserTest {
+  @Test
+  void testParsed() {
+    assertAll(
+      () -> assertEquals(0L, new IPv4AddressParser().parsed("0.0.0.0", 0)),
+      () -> assertEquals(0xFFFFFFFFL, new IPv4AddressParser().parsed("255.255.255.255", 0)),
+      () -> assertEquals(0x7F000001L, new IPv4AddressParser().parsed("::127.0.0.1", 2))
+    );
+  }
+
+  @Test
+  void testIllegal() {
+    assertAll(
+      () -> assertEquals(-1L, new IPv4AddressParser().parsed("", 0)),
+      () -> assertEquals(-3L, new IPv4AddressParser().parsed("1.256.0.0", 0)),
+      () -> assertEquals(-5L, new IPv4AddressParser().parsed("1.2.03.4", 0)),
+      () -> assertEquals(-4L, new IPv4AddressParser().parsed("1.2", 0)),
+      () -> assertEquals(-4L, new IPv4AddressParser().parsed("1.2:3.4", 0)),
+      () -> assertEquals(-8L, new IPv4AddressParser().parsed("1.2.3.4 ", 0)),
+      () -> assertEquals(-4L, new IPv4AddressParser().parsed("1234.1.1.1", 0))
+    );
+  }
+}
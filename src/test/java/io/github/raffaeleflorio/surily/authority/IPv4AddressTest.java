@@ -125,4 +125,107 @@ class IPv4AddressTest {
   void testIfDefinedElse() {
     assertTrue(new IPv4Address("31.32.33.255").ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new IPv4Address("192.168.0.1")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 0",
+        new IPv4Address("")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 4",
+        new IPv4Address("127.256.0.1")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 2",
+        new IPv4Address("1.01.1.1")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 3",
+        new IPv4Address("1.2")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 3",
+        new IPv4Address("1234.1.1.1")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV4_ADDRESS at 7",
+        new IPv4Address("1.2.3.4 ")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testBinary() {
+    assertAll(
+      () -> assertEquals("192.168.0.1", new IPv4Address(0xC0A80001).asString()),
+      () -> assertEquals("255.255.255.255", new IPv4Address(-1).encoded(StandardCharsets.US_ASCII)),
+      () -> assertEquals("0.0.0.0", new IPv4Address(0).asString()),
+      () -> assertEquals("10.20.100.9", new IPv4Address(10, 20, 100, 9).asString())
+    );
+  }
+
+  @Test
+  void testBits() {
+    assertAll(
+      () -> assertEquals(0x7F000001, new IPv4Address("127.0.0.1").bits()),
+      () -> assertEquals(0xFFFFFF00, new IPv4Address(255, 255, 255, 0).bits())
+    );
+  }
+
+  @Test
+  void testCompareTo() {
+    assertAll(
+      () -> assertEquals(0, new IPv4Address("10.0.0.1").compareTo(new IPv4Address(10, 0, 0, 1))),
+      () -> assertTrue(new IPv4Address("10.0.0.1").compareTo(new IPv4Address("10.0.0.2")) < 0),
+      () -> assertTrue(new IPv4Address("128.0.0.0").compareTo(new IPv4Address("127.255.255.255")) > 0)
+    );
+  }
+
+  @Test
+  void testCompareToIllegal() {
+    assertIllegalIPv4Address(
+      () -> new IPv4Address(0, 0, 0, 0).compareTo(new IPv4Address("1.2.3.256")),
+      "1.2.3.256"
+    );
+  }
+
+  @Test
+  void testIfIpAddressElse() {
+    assertEquals("ipv4", new IPv4Address("1.2.3.4").ifIpAddressElse(x -> "ipv4", y -> "ipv6", z -> "other"));
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new IPv4Address("10.0.0.1"), new IPv4Address(new StringBuilder("10.0.0.1"))),
+      () -> assertEquals(new IPv4Address("10.0.0.1").hashCode(), new IPv4Address("10.0.0.1").hashCode()),
+      () -> assertNotEquals(new IPv4Address("10.0.0.1"), new IPv4Address("10.0.0.2")),
+      () -> assertNotEquals(new IPv4Address("10.0.0.1"), new RegName("10.0.0.1")),
+      () -> assertEquals(new IPv4Address("illegal"), new IPv4Address("illegal")),
+      () -> assertEquals(new IPv4Address("illegal").hashCode(), new IPv4Address("illegal").hashCode()),
+      () -> assertNotEquals(new IPv4Address("illegal"), new IPv4Address("ILLEGAL")),
+      () -> assertNotEquals(new IPv4Address("illegal"), new IPv4Address("10.0.0.1")),
+      () -> assertNotEquals(new IPv4Address("10.0.0.1"), new IPv4Address("illegal"))
+    );
+  }
 }
@@ -0,0 +1,83 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IPv6AddressParserTest {
+  @Test
+  void testParsed() {
+    assertAll(
+      () -> assertParsed("::", 0L, 0L),
+      () -> assertParsed("::1", 0L, 1L),
+      () -> assertParsed("1::", 0x0001000000000000L, 0L),
+      () -> assertParsed("1:2:3:4::", 0x0001000200030004L, 0L),
+      () -> assertParsed("1:2:3:4:5::", 0x0001000200030004L, 0x0005000000000000L),
+      () -> assertParsed("1:2::7:8", 0x0001000200000000L, 0x0000000000070008L),
+      () -> assertParsed("::3:4:5:6:7:8", 0x0000000000030004L, 0x0005000600070008L),
+      () -> assertParsed("1:2:3:4:5:6:7:8", 0x0001000200030004L, 0x0005000600070008L),
+      () -> assertParsed("1:2:3:4:5:6:7::", 0x0001000200030004L, 0x0005000600070000L),
+      () -> assertParsed("FFFF:ffff:Ffff:fFFF:0:0:0:0", -1L, 0L),
+      () -> assertParsed("::ffff:192.168.0.1", 0L, 0x0000FFFFC0A80001L),
+      () -> assertParsed("1:2:3:4:5:6:255.255.255.255", 0x0001000200030004L, 0x00050006FFFFFFFFL),
+      () -> assertParsed("1::5:6:0.0.0.1", 0x0001000000000000L, 0x0005000600000001L)
+    );
+  }
+
+  private void assertParsed(final String address, final long high, final long low) {
+    var words = new long[2];
+    assertAll(
+      () -> assertEquals(-1, new IPv6AddressParser().parsed(address, words)),
+      () -> assertArrayEquals(new long[]{high, low}, words)
+    );
+  }
+
+  @Test
+  void testIllegal() {
+    assertAll(
+      () -> assertIllegal("", 0),
+      () -> assertIllegal(":", 0),
+      () -> assertIllegal(":1", 0),
+      () -> assertIllegal(":::", 2),
+      () -> assertIllegal("1", 1),
+      () -> assertIllegal("1:", 2),
+      () -> assertIllegal("::1:", 4),
+      () -> assertIllegal("1::2::3", 5),
+      () -> assertIllegal("12345::", 4),
+      () -> assertIllegal("1:2:3:4:5:6:7", 13),
+      () -> assertIllegal("1:2:3:4:5:6:7:8:9", 16),
+      () -> assertIllegal("1::3:4:5:6:7:8:9", 15),
+      () -> assertIllegal("1:2:3:4:5:6:7:8::", 16),
+      () -> assertIllegal("1:g::", 2),
+      () -> assertIllegal("1:2 ", 3),
+      () -> assertIllegal("[::1]", 0),
+      () -> assertIllegal("1.2.3.4", 7),
+      () -> assertIllegal("::1.2.3", 7),
+      () -> assertIllegal("::1.2.3.256", 8),
+      () -> assertIllegal("::1.2.3.4:5", 9),
+      () -> assertIllegal("::01.2.3.4", 2),
+      () -> assertIllegal("::a.2.3.4", 2),
+      () -> assertIllegal("1:2:3:4:5:6:7:1.2.3.4", 14),
+      () -> assertIllegal("::1:2:3:4:5:6:1.2.3.4", 14)
+    );
+  }
+
+  private void assertIllegal(final String address, final int offset) {
+    assertEquals(offset, new IPv6AddressParser().parsed(address, new long[2]));
+  }
+}
@@ -152,4 +152,69 @@ class IPv6AddressTest {
   void testIfDefinedElse() {
     assertTrue(new IPv6Address("::1").ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new IPv6Address("::1")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_IPV6_ADDRESS at 2",
+        new IPv6Address(":::")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testBinary() {
+    assertEquals(
+      "[2001:db8::ff00:42:8329]",
+      new IPv6Address(0x20010DB800000000L, 0x0000FF0000428329L).asString()
+    );
+  }
+
+  @Test
+  void testCompareTo() {
+    assertAll(
+      () -> assertEquals(0, new IPv6Address("::1").compareTo(new IPv6Address("0:0:0:0:0:0:0:1"))),
+      () -> assertEquals(0, new IPv6Address("::ffff:1.2.3.4").compareTo(new IPv6Address(0L, 0xFFFF01020304L))),
+      () -> assertTrue(new IPv6Address("::1").compareTo(new IPv6Address("::2")) < 0),
+      () -> assertTrue(new IPv6Address("8000::").compareTo(new IPv6Address("7fff::")) > 0),
+      () -> assertTrue(new IPv6Address("::ffff:ffff:ffff:ffff").compareTo(new IPv6Address("1::")) < 0),
+      () -> assertTrue(new IPv6Address(-1L, -1L).compareTo(new IPv6Address(-1L, 0L)) > 0)
+    );
+  }
+
+  @Test
+  void testCompareToIllegal() {
+    assertIllegalAddress(
+      () -> new IPv6Address("::1").compareTo(new IPv6Address("::g")),
+      "::g"
+    );
+  }
+
+  @Test
+  void testIfIpAddressElse() {
+    assertEquals("ipv6", new IPv6Address("::1").ifIpAddressElse(x -> "ipv4", y -> "ipv6", z -> "other"));
+  }
+
+  @Test
+  void testNumericEquality() {
+    assertAll(
+      () -> assertEquals(new IPv6Address("::1"), new IPv6Address("0:0:0:0:0:0:0:0001")),
+      () -> assertEquals(new IPv6Address("::1").hashCode(), new IPv6Address("0:0:0:0:0:0:0:0001").hashCode()),
+      () -> assertEquals(new IPv6Address("::A"), new IPv6Address(new StringBuilder("::a"))),
+      () -> assertNotEquals(new IPv6Address("::1"), new IPv6Address("::2")),
+      () -> assertEquals(new IPv6Address("illegal"), new IPv6Address("illegal")),
+      () -> assertEquals(new IPv6Address("illegal").hashCode(), new IPv6Address("illegal").hashCode()),
+      () -> assertNotEquals(new IPv6Address("illegal"), new IPv6Address("::1")),
+      () -> assertNotEquals(new IPv6Address("::1"), new IPv6Address("illegal"))
+    );
+  }
 }
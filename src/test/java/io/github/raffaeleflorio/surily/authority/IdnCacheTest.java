@@ -0,0 +1,64 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdnCacheTest {
+  @Test
+  void testAscii() {
+    assertEquals("xn--bcher-kva.example", new IdnCache().ascii("Bücher.EXAMPLE"));
+  }
+
+  @Test
+  void testUnicode() {
+    assertEquals("bücher.example", new IdnCache().unicode("xn--bcher-kva.example"));
+  }
+
+  @Test
+  void testCached() {
+    var calls = new AtomicInteger();
+    var cache = new IdnCache(
+      new StripedLruCache<>(1, 1),
+      new StripedLruCache<>(1, 1),
+      x -> x + calls.incrementAndGet(),
+      x -> x + calls.incrementAndGet()
+    );
+    assertAll(
+      () -> assertEquals("a1", cache.ascii("a")),
+      () -> assertEquals("a1", cache.ascii("a")),
+      () -> assertEquals("a2", cache.unicode("a")),
+      () -> assertEquals("a2", cache.unicode("a"))
+    );
+  }
+
+  @Test
+  void testIllegal() {
+    assertThrows(IllegalArgumentException.class, () -> new IdnCache().ascii("a".repeat(64) + "ü"));
+  }
+
+  @Test
+  void testIllegalSizes() {
+    assertAll(
+      () -> assertThrows(IllegalArgumentException.class, () -> new IdnCache(0, 1024)),
+      () -> assertThrows(IllegalArgumentException.class, () -> new IdnCache(16, -1))
+    );
+  }
+}
@@ -0,0 +1,124 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdnRegNameTest {
+  @Test
+  void testEncoded() {
+    assertAll(
+      () -> assertEquals("xn--bcher-kva.example", new IdnRegName("bücher.example").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("xn--bcher-kva.example", new IdnRegName("XN--BCHER-KVA.example").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("www.example.com", new IdnRegName("WWW.Example.com").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("www.xn-example.com", new IdnRegName("www.xn-example.com").encoded(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testAsciiFastPath() {
+    var host = "www.example.com";
+    var cache = new IdnCache(
+      new StripedLruCache<>(1, 1),
+      new StripedLruCache<>(1, 1),
+      x -> {
+        throw new AssertionError("Converted");
+      },
+      x -> {
+        throw new AssertionError("Converted");
+      }
+    );
+    assertSame(host, new IdnRegName(host, cache).encoded(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testAsString() {
+    assertAll(
+      () -> assertEquals("bücher.example", new IdnRegName("xn--bcher-kva.example").asString()),
+      () -> assertEquals("bücher.example", new IdnRegName("bücher.example").asString()),
+      () -> assertEquals("example.com", new IdnRegName("Example.COM").asString())
+    );
+  }
+
+  @Test
+  void testSharedCache() {
+    var cache = new IdnCache();
+    assertSame(
+      new IdnRegName("bücher.example", cache).encoded(StandardCharsets.UTF_8),
+      new IdnRegName("bücher.example", cache).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testIllegal() {
+    assertAll(
+      () -> assertIllegal(() -> new IdnRegName("exa mple").encoded(StandardCharsets.UTF_8), "exa mple"),
+      () -> assertIllegal(() -> new IdnRegName("ü" + "a".repeat(64)).encoded(StandardCharsets.UTF_8), "ü" + "a".repeat(64)),
+      () -> assertIllegal(() -> new IdnRegName("a".repeat(4096) + " ").encoded(StandardCharsets.UTF_8), "a".repeat(4096) + "...")
+    );
+  }
+
+  private void assertIllegal(final Executable executable, final String host) {
+    assertEquals(
+      String.format("Illegal internationalized domain name: <%s>", host),
+      assertThrows(IllegalStateException.class, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals("valid", validation(new IdnRegName("bücher.example"))),
+      () -> assertEquals("ILLEGAL_IDN at 3", validation(new IdnRegName("exa mple"))),
+      () -> assertEquals("ILLEGAL_IDN at 0", validation(new IdnRegName("ü" + "a".repeat(64))))
+    );
+  }
+
+  private String validation(final HostSubcomponent host) {
+    return host.validation().ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset);
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new IdnRegName("example.com").ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testALabelsEquality() {
+    assertAll(
+      () -> assertEquals(new IdnRegName("b\u00FCcher.example"), new IdnRegName("XN--BCHER-KVA.Example")),
+      () -> assertEquals(
+        new IdnRegName("b\u00FCcher.example").hashCode(),
+        new IdnRegName("XN--BCHER-KVA.Example").hashCode()
+      ),
+      () -> assertNotEquals(new IdnRegName("b\u00FCcher.example"), new RegName("b\u00FCcher.example"))
+    );
+  }
+
+  @Test
+  void testUnconvertibleHostsEquality() {
+    var tooLong = "\u00FC".concat("a".repeat(64));
+    assertAll(
+      () -> assertEquals(new IdnRegName(tooLong), new IdnRegName("\u00FC".concat("A".repeat(64)))),
+      () -> assertNotEquals(new IdnRegName(tooLong), new IdnRegName("\u00DC".concat("a".repeat(64))))
+    );
+  }
+}
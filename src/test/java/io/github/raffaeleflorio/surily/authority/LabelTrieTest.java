@@ -0,0 +1,49 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LabelTrieTest {
+  @Test
+  void testSuffix() {
+    // root (wildcard) -> "com" (rule) -> "a~" (wildcard) and "b_" (exception), "a~" and "b_" share the same hash
+    var trie = new LabelTrie(
+      new int[]{0, 0, 1, 1},
+      new String[]{"", "com", "a~", "b_"},
+      new byte[]{2, 1, 2, 4}
+    );
+    assertAll(
+      () -> assertEquals(4, trie.suffix("www.COM")),
+      () -> assertEquals(4, trie.suffix("www.org")),
+      () -> assertEquals(0, trie.suffix("org")),
+      () -> assertEquals(0, trie.suffix("x.A~.com")),
+      () -> assertEquals(2, trie.suffix("y.x.a~.com")),
+      () -> assertEquals(3, trie.suffix("b_.com")),
+      () -> assertEquals(5, trie.suffix("x.B_.com")),
+      () -> assertEquals(-1, trie.suffix("")),
+      () -> assertEquals(-1, trie.suffix("com.")),
+      () -> assertEquals(-1, trie.suffix("x..com"))
+    );
+  }
+
+  @Test
+  void testRootOnly() {
+    assertEquals(4, new LabelTrie(new int[]{0}, new String[]{""}, new byte[]{2}).suffix("www.example"));
+  }
+}
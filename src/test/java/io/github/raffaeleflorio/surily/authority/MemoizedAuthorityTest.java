@@ -0,0 +1,69 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedAuthorityTest {
+  @Test
+  void testRepresentations() {
+    var authority = new MemoizedAuthority(new Authority(new Userinfo("u v"), new RegName("h"), new Port(80)));
+    assertAll(
+      () -> assertEquals("u%20v@h:80", authority.encoded(StandardCharsets.UTF_8)),
+      () -> assertSame(authority.encoded(StandardCharsets.UTF_8), authority.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("u v@h:80", authority.asString()),
+      () -> assertEquals("valid", authority.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid"))
+    );
+  }
+
+  @Test
+  void testDelegation() {
+    var host = new MemoizedHost(new RegName("h"));
+    var port = new Port(80);
+    var userinfo = new Userinfo("u");
+    var authority = new MemoizedAuthority(new Authority(userinfo, host, port));
+    assertAll(
+      () -> assertSame(authority, authority.ifDefinedElse(x -> x, () -> null)),
+      () -> assertSame(host, authority.host()),
+      () -> assertSame(port, authority.port()),
+      () -> assertSame(userinfo, authority.userinfo()),
+      () -> assertEquals(
+        "undefined",
+        new MemoizedAuthority(new UndefinedAuthority()).ifDefinedElse(x -> "defined", () -> "undefined")
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var authority = new MemoizedAuthority(new Authority(new RegName("EXAMPLE.com")));
+    assertAll(
+      () -> assertEquals(authority, new MemoizedAuthority(new Authority(new RegName("example.com")))),
+      () -> assertEquals(
+        authority.hashCode(),
+        new MemoizedAuthority(new Authority(new RegName("example.com"))).hashCode()
+      ),
+      () -> assertNotEquals(authority, new Authority(new RegName("EXAMPLE.com")))
+    );
+  }
+}
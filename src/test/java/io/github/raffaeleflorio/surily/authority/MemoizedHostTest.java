@@ -0,0 +1,65 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedHostTest {
+  @Test
+  void testRepresentations() {
+    var host = new MemoizedHost(new IdnRegName("Bücher.example"));
+    assertAll(
+      () -> assertEquals("xn--bcher-kva.example", host.encoded(StandardCharsets.UTF_8)),
+      () -> assertSame(host.encoded(StandardCharsets.UTF_8), host.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("Bücher.example", host.asString()),
+      () -> assertEquals("valid", host.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid"))
+    );
+  }
+
+  @Test
+  void testDelegation() {
+    var host = new MemoizedHost(new RegName("example.com"));
+    assertAll(
+      () -> assertSame(host, host.ifDefinedElse(x -> x, () -> null)),
+      () -> assertSame(host, host.ifIpAddressElse(x -> null, x -> null, x -> x)),
+      () -> assertEquals(
+        "ipv4",
+        new MemoizedHost(new IPv4Address("10.0.0.1")).ifIpAddressElse(x -> "ipv4", x -> "ipv6", x -> "other")
+      ),
+      () -> assertEquals(
+        "undefined",
+        new MemoizedHost(new UndefinedHost()).ifDefinedElse(x -> "defined", () -> "undefined")
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var host = new MemoizedHost(new RegName("EXAMPLE.com"));
+    assertAll(
+      () -> assertEquals(host, new MemoizedHost(new RegName("example.com"))),
+      () -> assertEquals(host.hashCode(), new MemoizedHost(new RegName("example.com")).hashCode()),
+      () -> assertNotEquals(host, new RegName("EXAMPLE.com"))
+    );
+  }
+}
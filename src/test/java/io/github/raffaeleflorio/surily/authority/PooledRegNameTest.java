@@ -0,0 +1,56 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledRegNameTest {
+  @Test
+  void testEncoded() {
+    assertEquals("%C3%A0.example", new PooledRegName("%C3%A0.example", "any").encoded(StandardCharsets.UTF_16));
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals("à.example", new PooledRegName("any", "à.example").asString());
+  }
+
+  @Test
+  void testValidation() {
+    assertTrue(new PooledRegName("a", "a").validation().ifValidElse(() -> true, (error, offset) -> false));
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new PooledRegName("a", "a").ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testCaseInsensitiveEquality() {
+    assertAll(
+      () -> assertEquals(new PooledRegName("Example%2f", "Example/"), new PooledRegName("example%2F", "example/")),
+      () -> assertEquals(
+        new PooledRegName("Example%2f", "Example/").hashCode(),
+        new PooledRegName("example%2F", "example/").hashCode()
+      ),
+      () -> assertNotEquals(new PooledRegName("example", "example"), new RegName("example"))
+    );
+  }
+}
@@ -15,9 +15,12 @@
  */
 package io.github.raffaeleflorio.surily.authority;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,4 +88,84 @@ class PortTest {
       new Port().ifDefinedElse(x -> "it's defined", () -> "undefined")
     );
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new Port()
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "valid",
+        new Port("65535")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PORT at 3",
+        new Port("443 ")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PORT at 0",
+        new Port("65536")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PORT at 0",
+        new Port("9999999999999999")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PORT at 0",
+        new Port("+80")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder(":");
+    new Port(8080).appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals(":8080", destination.toString());
+  }
+
+  @Test
+  void testAppendToIllegalPort() {
+    assertThrows(
+      IllegalComponentException.class,
+      () -> new Port("65536").appendTo(new StringBuilder(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAppendToFailingDestination() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new Port(80).appendTo(new PipedWriter(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testNumericEquality() {
+    assertAll(
+      () -> assertEquals(new Port("080"), new Port(80)),
+      () -> assertEquals(new Port("080").hashCode(), new Port(80).hashCode()),
+      () -> assertNotEquals(new Port(""), new Port("0")),
+      () -> assertEquals(new Port(""), new Port(new StringBuilder())),
+      () -> assertEquals(new Port("8a"), new Port(new StringBuilder("8a"))),
+      () -> assertEquals(new Port("8a").hashCode(), new Port("8a").hashCode()),
+      () -> assertNotEquals(new Port("8a"), new Port("8A")),
+      () -> assertNotEquals(new Port("65536"), new Port(0)),
+      () -> assertNotEquals(new Port(0), new Port("65536"))
+    );
+  }
 }
@@ -0,0 +1,136 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import io.github.raffaeleflorio.surily.ParsedUriReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicSuffixesTest {
+  private final PublicSuffixes suffixes = new PublicSuffixes(
+    List.of(
+      "// ===BEGIN ICANN DOMAINS===",
+      "",
+      "com",
+      "uk",
+      "co.uk",
+      "  org  // trailing text",
+      "*.ck",
+      "!www.ck",
+      "jp",
+      "*.kobe.jp",
+      "!city.kobe.jp",
+      "cn",
+      "公司.cn",
+      "!",
+      "!single",
+      "ü".repeat(64)
+    )
+  );
+
+  @Test
+  void testRegistrable() {
+    assertAll(
+      () -> assertEquals("com example.com", registrable(new RegName("example.com"))),
+      () -> assertEquals("COM Example.COM", registrable(new RegName("www.Example.COM"))),
+      () -> assertEquals("org example.org", registrable(new RegName("example.org"))),
+      () -> assertEquals("co.uk b.co.uk", registrable(new RegName("a.b.co.uk"))),
+      () -> assertEquals("bar.ck foo.bar.ck", registrable(new RegName("foo.bar.ck"))),
+      () -> assertEquals("ck www.ck", registrable(new RegName("www.ck"))),
+      () -> assertEquals("kobe.jp city.kobe.jp", registrable(new RegName("www.city.kobe.jp"))),
+      () -> assertEquals("test.kobe.jp x.test.kobe.jp", registrable(new RegName("x.test.kobe.jp"))),
+      () -> assertEquals("unknown example.unknown", registrable(new RegName("example.unknown"))),
+      () -> assertEquals("single www.single", registrable(new RegName("www.single"))),
+      () -> assertEquals(
+        "%E5%85%AC%E5%8F%B8.cn %E9%A3%9F%E7%8B%AE.%E5%85%AC%E5%8F%B8.cn",
+        registrable(new RegName("食狮.公司.cn"))
+      ),
+      () -> assertEquals(
+        "%e5%85%ac%e5%8f%b8.cn x.%e5%85%ac%e5%8f%b8.cn",
+        registrable(new EncodedRegName("x.%e5%85%ac%e5%8f%b8.cn"))
+      ),
+      () -> assertEquals(
+        "xn--55qx5d.cn xn--85x722f.xn--55qx5d.cn",
+        registrable(new IdnRegName("www.xn--85x722f.xn--55qx5d.cn"))
+      ),
+      () -> assertEquals(
+        "%C3%BC".repeat(64) + " x." + "%C3%BC".repeat(64),
+        registrable(new RegName("x." + "ü".repeat(64)))
+      )
+    );
+  }
+
+  private String registrable(final HostSubcomponent host) {
+    return suffixes.ifRegistrableElse(host, (suffix, domain) -> suffix + " " + domain, () -> "none");
+  }
+
+  @Test
+  void testViews() {
+    var host = new ParsedUriReference("http://www.Example.com/").authority().host();
+    assertAll(
+      () -> assertEquals(
+        "com",
+        suffixes.ifRegistrableElse(host, (suffix, domain) -> suffix.toString(), () -> "none")
+      ),
+      () -> assertEquals(
+        "Example.com",
+        suffixes.ifRegistrableElse(host, (suffix, domain) -> domain.toString(), () -> "none")
+      ),
+      () -> assertFalse(suffixes.ifRegistrableElse(host, (suffix, domain) -> domain instanceof String, () -> true))
+    );
+  }
+
+  @Test
+  void testNotRegistrable() {
+    assertAll(
+      () -> assertEquals("none", registrable(new RegName("com"))),
+      () -> assertEquals("none", registrable(new RegName("co.uk"))),
+      () -> assertEquals("none", registrable(new RegName("bar.ck"))),
+      () -> assertEquals("none", registrable(new RegName("ck"))),
+      () -> assertEquals("none", registrable(new RegName(""))),
+      () -> assertEquals("none", registrable(new RegName(".com"))),
+      () -> assertEquals("none", registrable(new RegName("a..com"))),
+      () -> assertEquals("none", registrable(new RegName("example.com."))),
+      () -> assertEquals("none", registrable(new IPv4Address("192.0.2.1"))),
+      () -> assertEquals("none", registrable(new IPv6Address("2001:db8::1"))),
+      () -> assertEquals("none", registrable(new UndefinedHost()))
+    );
+  }
+
+  @Test
+  void testFile(@TempDir final Path dir) throws Exception {
+    var file = Files.writeString(dir.resolve("public_suffix_list.dat"), "com\n*.ck\n", StandardCharsets.UTF_8);
+    assertEquals(
+      "b.ck a.b.ck",
+      new PublicSuffixes(file).ifRegistrableElse(new RegName("a.b.ck"), (x, y) -> x + " " + y, () -> "none")
+    );
+  }
+
+  @Test
+  void testMissingFile(@TempDir final Path dir) {
+    var suffixes = new PublicSuffixes(dir.resolve("missing.dat"));
+    var host = new RegName("example.com");
+    assertThrows(UncheckedIOException.class, () -> suffixes.ifRegistrableElse(host, (x, y) -> x, () -> "none"));
+  }
+}
@@ -0,0 +1,102 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegNamePoolTest {
+  @Test
+  void testShared() {
+    var pool = new RegNamePool();
+    var interned = pool.interned(new RegName("Example.COM"));
+    assertAll(
+      () -> assertSame(interned, pool.interned(new RegName("example.com"))),
+      () -> assertSame(interned, pool.interned(new EncodedRegName("EXAMPLE.com"))),
+      () -> assertNotSame(interned, pool.interned(new RegName("example.org")))
+    );
+  }
+
+  @Test
+  void testCaseFolding() {
+    var pool = new RegNamePool();
+    var interned = pool.interned(new EncodedRegName("%c3%a0.EXAMPLE"));
+    assertAll(
+      () -> assertEquals("%C3%A0.example", interned.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("à.example", interned.asString()),
+      () -> assertSame(interned, pool.interned(new RegName("à.Example")))
+    );
+  }
+
+  @Test
+  void testTrailingPercent() {
+    assertEquals("a%25", new RegNamePool().interned(new RegName("A%")).encoded(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testNotRegName() {
+    var pool = new RegNamePool();
+    var ipv4 = new IPv4Address("127.0.0.1");
+    var ipv6 = new IPv6Address("::1");
+    var undefined = new UndefinedHost();
+    assertAll(
+      () -> assertSame(ipv4, pool.interned(ipv4)),
+      () -> assertSame(ipv6, pool.interned(ipv6)),
+      () -> assertSame(undefined, pool.interned(undefined))
+    );
+  }
+
+  @Test
+  void testFull() {
+    var pool = new RegNamePool(1, 0);
+    var interned = pool.interned(new RegName("example.com"));
+    assertAll(
+      () -> assertNotSame(interned, pool.interned(new RegName("example.com"))),
+      () -> assertEquals("example.com", interned.encoded(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testIllegal() {
+    assertThrows(IllegalStateException.class, () -> new RegNamePool().interned(new EncodedRegName("exa mple")));
+  }
+
+  @Test
+  void testIllegalSizes() {
+    assertAll(
+      () -> assertEquals(
+        "Expected a positive number of stripes instead of 0",
+        assertThrows(IllegalArgumentException.class, () -> new RegNamePool(0, 1)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a non-negative capacity instead of -1",
+        assertThrows(IllegalArgumentException.class, () -> new RegNamePool(1, -1)).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testNonPowerOfTwoStripes() {
+    var pool = new RegNamePool(3, 1);
+    assertAll(
+      () -> assertSame(pool.interned(new RegName("a.example")), pool.interned(new RegName("A.example"))),
+      () -> assertSame(pool.interned(new RegName("b.example")), pool.interned(new RegName("B.example")))
+    );
+  }
+}
@@ -59,4 +59,80 @@ class RegNameTest {
   void testIfDefinedElse() {
     assertTrue(new RegName("localhost").ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testEncodedLength() {
+    var component = new RegName("h\u00F6st\uD83D\uDE00");
+    assertAll(
+      () -> assertEquals(21, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(33, component.encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals(9, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("//");
+    new RegName("\u259F#?").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("//%E2%96%9F%23%3F", destination.toString());
+  }
+
+  @Test
+  void testAppendToWithoutStringConversion() {
+    var regname = new CharSequence() {
+      @Override
+      public int length() {
+        return 3;
+      }
+
+      @Override
+      public char charAt(final int i) {
+        return "a b".charAt(i);
+      }
+
+      @Override
+      public CharSequence subSequence(final int i, final int i1) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public String toString() {
+        throw new UnsupportedOperationException();
+      }
+    };
+    var destination = new StringBuilder();
+    new RegName(regname).appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("a%20b", destination.toString());
+  }
+
+  @Test
+  void testCaseInsensitiveEquality() {
+    assertAll(
+      () -> assertEquals(new RegName("Example.COM"), new RegName(new StringBuilder("example.com"))),
+      () -> assertEquals(new RegName("Example.COM").hashCode(), new RegName("example.com").hashCode()),
+      () -> assertNotEquals(new RegName("\u00C9.example"), new RegName("\u00E9.example")),
+      () -> assertNotEquals(new RegName("example.com"), new EncodedRegName("example.com"))
+    );
+  }
+
+  @Test
+  void testSurrogates() {
+    assertAll(
+      () -> assertEquals("h%C3%B6st%F0%9F%98%80", new RegName("h\u00F6st\uD83D\uDE00").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(
+        "h%FE%FF%00%F6st%FE%FF%D8%3D%DE%00",
+        new RegName("h\u00F6st\uD83D\uDE00").encoded(StandardCharsets.UTF_16)
+      ),
+      () -> assertEquals("a%3F", new RegName("a\uD83D").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(4, new RegName("a\uD83D").encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Charsets() {
+    assertAll(
+      () -> assertEquals("h%F6st", new RegName("h\u00F6st").encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals("h%3Fst", new RegName("h\u00F6st").encoded(StandardCharsets.US_ASCII))
+    );
+  }
 }
@@ -0,0 +1,75 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.authority;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedLruCacheTest {
+  @Test
+  void testComputedOnce() {
+    var calls = new AtomicInteger();
+    var cache = new StripedLruCache<String, Integer>(4, 8);
+    assertAll(
+      () -> assertEquals(3, cache.value("abc", x -> x.length() + calls.getAndIncrement())),
+      () -> assertEquals(3, cache.value("abc", x -> x.length() + calls.getAndIncrement())),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  @Test
+  void testLeastRecentlyUsedEviction() {
+    var calls = new AtomicInteger();
+    var cache = new StripedLruCache<Integer, Integer>(1, 2);
+    cache.value(1, x -> calls.incrementAndGet());
+    cache.value(2, x -> calls.incrementAndGet());
+    cache.value(1, x -> calls.incrementAndGet());
+    cache.value(3, x -> calls.incrementAndGet());
+    assertAll(
+      () -> assertEquals(1, cache.value(1, x -> -1)),
+      () -> assertEquals(-2, cache.value(2, x -> -2)),
+      () -> assertEquals(3, calls.get())
+    );
+  }
+
+  @Test
+  void testIllegalSizes() {
+    assertAll(
+      () -> assertEquals(
+        "Expected a positive number of stripes instead of 0",
+        assertThrows(IllegalArgumentException.class, () -> new StripedLruCache<>(0, 1)).getMessage()
+      ),
+      () -> assertEquals(
+        "Expected a non-negative capacity instead of -1",
+        assertThrows(IllegalArgumentException.class, () -> new StripedLruCache<>(1, -1)).getMessage()
+      )
+    );
+  }
+
+  @Test
+  void testZeroCapacity() {
+    var calls = new AtomicInteger();
+    var cache = new StripedLruCache<String, Integer>(1, 0);
+    cache.value("a", x -> calls.incrementAndGet());
+    cache.value("a", x -> calls.incrementAndGet());
+    assertEquals(2, calls.get());
+  }
+}
@@ -66,4 +66,23 @@ class UndefinedAuthorityTest {
       new UndefinedAuthority().port().ifDefinedElse(x -> "42", () -> "port is undefined")
     );
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedAuthority()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedAuthority(), new UndefinedAuthority()),
+      () -> assertEquals(new UndefinedAuthority().hashCode(), new UndefinedAuthority().hashCode()),
+      () -> assertNotEquals(new UndefinedAuthority(), new Authority(new RegName("")))
+    );
+  }
 }
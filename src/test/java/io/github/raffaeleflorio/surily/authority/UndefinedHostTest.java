@@ -42,4 +42,23 @@ class UndefinedHostTest {
   void testIfDefinedElse() {
     assertFalse(new UndefinedHost().ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedHost()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedHost(), new UndefinedHost()),
+      () -> assertEquals(new UndefinedHost().hashCode(), new UndefinedHost().hashCode()),
+      () -> assertNotEquals(new UndefinedHost(), new RegName(""))
+    );
+  }
 }
@@ -42,4 +42,23 @@ class UndefinedPortTest {
       assertThrows(IllegalStateException.class, executable).getMessage()
     );
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedPort()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedPort(), new UndefinedPort()),
+      () -> assertEquals(new UndefinedPort().hashCode(), new UndefinedPort().hashCode()),
+      () -> assertNotEquals(new UndefinedPort(), new Port(""))
+    );
+  }
 }
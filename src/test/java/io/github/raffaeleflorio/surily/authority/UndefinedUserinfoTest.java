@@ -42,4 +42,23 @@ class UndefinedUserinfoTest {
   void testIfDefinedElse() {
     assertFalse(new UndefinedUserinfo().ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedUserinfo()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedUserinfo(), new UndefinedUserinfo()),
+      () -> assertEquals(new UndefinedUserinfo().hashCode(), new UndefinedUserinfo().hashCode()),
+      () -> assertNotEquals(new UndefinedUserinfo(), new Userinfo(""))
+    );
+  }
 }
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class UserinfoTest {
   @Test
@@ -63,4 +64,43 @@ class UserinfoTest {
       new Userinfo().ifDefinedElse(x -> "defined", () -> "undefined")
     );
   }
+
+  @Test
+  void testEncodedLength() {
+    var component = new Userinfo("\u00FCser@info");
+    assertAll(
+      () -> assertEquals(16, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(31, component.encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals(13, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("//");
+    new Userinfo("user:p@ss").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("//user:p%40ss", destination.toString());
+  }
+
+  @Test
+  void testCaseSensitiveEquality() {
+    assertAll(
+      () -> assertEquals(new Userinfo("user:pass"), new Userinfo(new StringBuilder("user:pass"))),
+      () -> assertEquals(new Userinfo("user:pass").hashCode(), new Userinfo("user:pass").hashCode()),
+      () -> assertNotEquals(new Userinfo("user:pass"), new Userinfo("User:pass")),
+      () -> assertNotEquals(new Userinfo("user:pass"), new EncodedUserinfo("user:pass"))
+    );
+  }
+
+  @Test
+  void testNonUtf8Charsets() {
+    assertAll(
+      () -> assertEquals("%FCser%40info", new Userinfo("\u00FCser@info").encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(
+        "%FE%FF%00%FCser%FE%FF%00%40info",
+        new Userinfo("\u00FCser@info").encoded(StandardCharsets.UTF_16)
+      ),
+      () -> assertEquals("%3Fser", new Userinfo("\u00FCser").encoded(StandardCharsets.US_ASCII))
+    );
+  }
 }
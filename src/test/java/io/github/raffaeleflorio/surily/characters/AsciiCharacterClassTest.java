@@ -0,0 +1,109 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.characters;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsciiCharacterClassTest {
+  @Test
+  void testIterator() {
+    assertSetEquals(
+      Set.of('\u0000', 'a', 'Z', '~', '\u007F'),
+      new AsciiCharacterClass("\u007Fa~Z\u0000")
+    );
+  }
+
+  private void assertSetEquals(final Set<Character> expected, final Set<Character> actual) {
+    assertAll(
+      () -> assertEquals(expected.size(), actual.size()),
+      () -> assertTrue(expected.containsAll(actual))
+    );
+  }
+
+  @Test
+  void testSize() {
+    assertEquals(
+      3,
+      new AsciiCharacterClass("aabbcc").size()
+    );
+  }
+
+  @Test
+  void testNonAsciiCharactersIgnored() {
+    assertSetEquals(
+      Set.of('a'),
+      new AsciiCharacterClass(Set.of('a', '\u0080', 'è', '\uFFFF'))
+    );
+  }
+
+  @Test
+  void testUnion() {
+    assertSetEquals(
+      Set.of('0', '1', '2', 'x', 'y'),
+      new AsciiCharacterClass(List.of(Set.of('0', '1'), Set.of('1', '2'), new AsciiCharacterClass("xy")))
+    );
+  }
+
+  @Test
+  void testIntersection() {
+    assertSetEquals(
+      Set.of('b', '@'),
+      new AsciiCharacterClass("ab@~").intersection(new AsciiCharacterClass("bc@\u007F"))
+    );
+  }
+
+  @Test
+  void testDifference() {
+    assertSetEquals(
+      Set.of('a', '~'),
+      new AsciiCharacterClass("ab@~").difference(new AsciiCharacterClass("bc@\u007F"))
+    );
+  }
+
+  @Test
+  void testWords() {
+    assertSetEquals(
+      Set.of('\u0000', '?', '@', '\u007F'),
+      new AsciiCharacterClass(0x8000000000000001L, 0x8000000000000001L)
+    );
+  }
+
+  @Test
+  void testContainsCodePoint() {
+    assertAll(
+      () -> assertTrue(new AsciiCharacterClass("?@").contains(0x3F)),
+      () -> assertTrue(new AsciiCharacterClass("?@").contains(0x40)),
+      () -> assertFalse(new AsciiCharacterClass("?@").contains(0x7F)),
+      () -> assertFalse(new AsciiCharacterClass("\u0000@").contains(0x80)),
+      () -> assertFalse(new AsciiCharacterClass("\u0000@").contains(0x10040)),
+      () -> assertFalse(new AsciiCharacterClass("\u0000@").contains(-1))
+    );
+  }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new AsciiCharacterClass("abc").contains(Character.valueOf('b'))),
+      () -> assertFalse(new AsciiCharacterClass("abc").contains(Character.valueOf('d'))),
+      () -> assertFalse(new AsciiCharacterClass("abc").contains("b"))
+    );
+  }
+}
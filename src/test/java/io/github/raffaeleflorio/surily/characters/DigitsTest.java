@@ -44,4 +44,12 @@ class DigitsTest {
       new Digits().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new Digits().contains('7')),
+      () -> assertFalse(new Digits().contains('a'))
+    );
+  }
 }
@@ -65,4 +65,12 @@ class EnglishLowerCaseAlphabetTest {
       );
     }
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new EnglishLowerCaseAlphabet().contains('q')),
+      () -> assertFalse(new EnglishLowerCaseAlphabet().contains('Q'))
+    );
+  }
 }
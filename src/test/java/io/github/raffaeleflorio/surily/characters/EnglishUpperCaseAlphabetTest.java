@@ -64,4 +64,12 @@ class EnglishUpperCaseAlphabetTest {
       );
     }
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new EnglishUpperCaseAlphabet().contains('Q')),
+      () -> assertFalse(new EnglishUpperCaseAlphabet().contains('q'))
+    );
+  }
 }
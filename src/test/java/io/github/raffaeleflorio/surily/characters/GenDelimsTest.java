@@ -44,4 +44,12 @@ class GenDelimsTest {
       new GenDelims().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new GenDelims().contains('#')),
+      () -> assertFalse(new GenDelims().contains('!'))
+    );
+  }
 }
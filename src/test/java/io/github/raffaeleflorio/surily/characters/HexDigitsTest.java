@@ -0,0 +1,58 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.characters;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HexDigitsTest {
+  @Test
+  void testIterator() {
+    assertSetEquals(
+      Set.of(
+        '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+        'A', 'B', 'C', 'D', 'E', 'F', 'a', 'b', 'c', 'd', 'e', 'f'
+      ),
+      new HexDigits()
+    );
+  }
+
+  private void assertSetEquals(final Set<Character> expected, final Set<Character> actual) {
+    assertAll(
+      () -> assertEquals(expected.size(), actual.size()),
+      () -> assertTrue(expected.containsAll(actual))
+    );
+  }
+
+  @Test
+  void testSize() {
+    assertEquals(
+      22,
+      new HexDigits().size()
+    );
+  }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new HexDigits().contains('e')),
+      () -> assertFalse(new HexDigits().contains('g'))
+    );
+  }
+}
@@ -50,4 +50,12 @@ class PcharTest {
       new Pchar().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new Pchar().contains('%')),
+      () -> assertFalse(new Pchar().contains('/'))
+    );
+  }
 }
@@ -47,4 +47,12 @@ class ReservedCharactersTest {
       new ReservedCharacters().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new ReservedCharacters().contains('[')),
+      () -> assertFalse(new ReservedCharacters().contains('~'))
+    );
+  }
 }
@@ -44,4 +44,12 @@ class SubDelimsTest {
       new SubDelims().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new SubDelims().contains('!')),
+      () -> assertFalse(new SubDelims().contains('#'))
+    );
+  }
 }
@@ -49,4 +49,12 @@ class UnreservedCharactersTest {
       new UnreservedCharacters().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new UnreservedCharacters().contains('~')),
+      () -> assertFalse(new UnreservedCharacters().contains('['))
+    );
+  }
 }
@@ -0,0 +1,81 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.fragment;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedFragmentTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "a/b?c%C3%A8",
+      new EncodedFragment("a/b?c%C3%A8").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "a/b?cè",
+      new EncodedFragment("a/b?c%C3%A8").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertEquals(
+      "Illegal percent-encoded component: <a#b>",
+      assertThrows(IllegalStateException.class, () -> new EncodedFragment("a#b").encoded(StandardCharsets.UTF_8)).getMessage()
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new EncodedFragment("a/b?c%C3%A8").<Boolean>ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedFragment("a/b?c")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 1",
+        new EncodedFragment("a#b")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedFragment("f%7e"), new EncodedFragment(new StringBuilder("f%7E"))),
+      () -> assertEquals(new EncodedFragment("f%7e").hashCode(), new EncodedFragment("f%7E").hashCode()),
+      () -> assertNotEquals(new EncodedFragment("f%7E"), new EncodedFragment("F%7E")),
+      () -> assertNotEquals(new EncodedFragment("f%7E"), new EncodedFragment("f~"))
+    );
+  }
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FragmentTest {
@@ -58,4 +60,41 @@ class FragmentTest {
   void testIfDefinedElse() {
     assertTrue(new Fragment().ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testEncodedLength() {
+    var component = new Fragment("fr\u00E4gment#");
+    assertAll(
+      () -> assertEquals(16, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(31, component.encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals(13, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("#");
+    new Fragment("a/b?c#d").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("#a/b?c%23d", destination.toString());
+  }
+
+  @Test
+  void testLiteralEquality() {
+    assertAll(
+      () -> assertEquals(new Fragment("f"), new Fragment(new StringBuilder("f"))),
+      () -> assertEquals(new Fragment("f").hashCode(), new Fragment(new StringBuilder("f")).hashCode()),
+      () -> assertNotEquals(new Fragment("f"), new Fragment("F")),
+      () -> assertNotEquals(new Fragment("f"), new EncodedFragment("f"))
+    );
+  }
+
+  @Test
+  void testSurrogates() {
+    assertAll(
+      () -> assertEquals("%F0%9F%98%80", new Fragment("\uD83D\uDE00").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(12, new Fragment("\uD83D\uDE00").encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals("%3F", new Fragment("\uDE00").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(3, new Fragment("\uDE00").encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
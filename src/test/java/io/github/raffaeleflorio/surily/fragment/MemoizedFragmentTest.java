@@ -0,0 +1,60 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.fragment;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedFragmentTest {
+  @Test
+  void testRepresentations() {
+    var fragment = new MemoizedFragment(new Fragment("a b"));
+    assertAll(
+      () -> assertEquals("a%20b", fragment.encoded(StandardCharsets.UTF_8)),
+      () -> assertSame(fragment.encoded(StandardCharsets.UTF_8), fragment.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("a b", fragment.asString()),
+      () -> assertEquals("valid", fragment.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid"))
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    var fragment = new MemoizedFragment(new Fragment("f"));
+    assertAll(
+      () -> assertSame(fragment, fragment.ifDefinedElse(x -> x, () -> null)),
+      () -> assertEquals(
+        "undefined",
+        new MemoizedFragment(new UndefinedFragment()).ifDefinedElse(x -> "defined", () -> "undefined")
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var fragment = new MemoizedFragment(new EncodedFragment("f%7e"));
+    assertAll(
+      () -> assertEquals(fragment, new MemoizedFragment(new EncodedFragment("f%7E"))),
+      () -> assertEquals(fragment.hashCode(), new MemoizedFragment(new EncodedFragment("f%7E")).hashCode()),
+      () -> assertNotEquals(fragment, new EncodedFragment("f%7e"))
+    );
+  }
+}
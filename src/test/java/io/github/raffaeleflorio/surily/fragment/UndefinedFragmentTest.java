@@ -44,4 +44,23 @@ class UndefinedFragmentTest {
   void testIfDefinedElse() {
     assertTrue(new UndefinedFragment().ifDefinedElse(x -> false, () -> true));
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedFragment()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedFragment(), new UndefinedFragment()),
+      () -> assertEquals(new UndefinedFragment().hashCode(), new UndefinedFragment().hashCode()),
+      () -> assertNotEquals(new UndefinedFragment(), new Fragment(""))
+    );
+  }
 }
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -223,4 +224,46 @@ class AbsolutePathTest {
   void testIfAbsoluteElse() {
     assertTrue(new AbsolutePath().<Boolean>ifAbsoluteElse(x -> true, x -> false));
   }
+
+  @Test
+  void testEquality() {
+    var path = new AbsolutePath(List.of(new PathSegment("a"), new EncodedPathSegment("b%2f")));
+    var equivalent = new AbsolutePath(new ArrayList<>(List.of(new PathSegment("a"), new EncodedPathSegment("b%2F"))));
+    assertAll(
+      () -> assertEquals(path, equivalent),
+      () -> assertEquals(path.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(path, new AbsolutePath(List.of(new PathSegment("a"), new PathSegment("b/")))),
+      () -> assertNotEquals(path, new RelativePath(List.of(new PathSegment("a"), new EncodedPathSegment("b%2f"))))
+    );
+  }
+
+  @Test
+  void testRendering() {
+    var component = new AbsolutePath(List.of(new PathSegment("\u00E8"), new PathSegment("\uD83D\uDE00")));
+    var destination = new StringBuilder("//host");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("//host/%C3%A8/%F0%9F%98%80", destination.toString()),
+      () -> assertEquals(20, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var component = new AbsolutePath(List.of(new PathSegment("\u00E8"), new PathSegment("a b")));
+    assertAll(
+      () -> assertEquals("/%E8/a%20b", component.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(10, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testRootRendering() {
+    var destination = new StringBuilder("s:");
+    new AbsolutePath(List.of()).appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("s:/", destination.toString()),
+      () -> assertEquals(1, new AbsolutePath(List.of()).encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
@@ -20,7 +20,9 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DotSegmentTest {
@@ -38,4 +40,14 @@ class DotSegmentTest {
   void testIfDotElse() {
     assertTrue(new DotSegment().<Boolean>ifDotElse(x -> true, y -> false, z -> false));
   }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new DotSegment(), new DotSegment()),
+      () -> assertEquals(new DotSegment().hashCode(), new DotSegment().hashCode()),
+      () -> assertNotEquals(new DotSegment(), new PathSegment(".")),
+      () -> assertNotEquals(new DotSegment(), new DoubleDotSegment())
+    );
+  }
 }
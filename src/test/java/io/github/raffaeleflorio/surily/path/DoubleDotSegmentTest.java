@@ -20,7 +20,9 @@ import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DoubleDotSegmentTest {
@@ -38,4 +40,13 @@ class DoubleDotSegmentTest {
   void testIfDotElse() {
     assertTrue(new DoubleDotSegment().<Boolean>ifDotElse(x -> false, y -> true, z -> false));
   }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new DoubleDotSegment(), new DoubleDotSegment()),
+      () -> assertEquals(new DoubleDotSegment().hashCode(), new DoubleDotSegment().hashCode()),
+      () -> assertNotEquals(new DoubleDotSegment(), new PathSegment(".."))
+    );
+  }
 }
@@ -99,4 +99,26 @@ class EmptyPathTest {
   void testIfAbsoluteElse() {
     assertFalse(new EmptyPath().<Boolean>ifAbsoluteElse(x -> true, x -> false));
   }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new EmptyPath(), new EmptyPath()),
+      () -> assertEquals(new EmptyPath().hashCode(), new EmptyPath().hashCode()),
+      () -> assertNotEquals(new EmptyPath(), new RelativePath())
+    );
+  }
+
+  @Test
+  void testRendering() {
+    var encoded = new StringBuilder("s:");
+    var unencoded = new StringBuilder("s:");
+    new EmptyPath().appendTo(encoded, StandardCharsets.UTF_16);
+    new EmptyPath().appendTo(unencoded);
+    assertAll(
+      () -> assertEquals(0, new EmptyPath().encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals("s:", encoded.toString()),
+      () -> assertEquals("s:", unencoded.toString())
+    );
+  }
 }
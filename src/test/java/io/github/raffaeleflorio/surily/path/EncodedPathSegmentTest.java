@@ -0,0 +1,86 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedPathSegmentTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "a:b@c%2F",
+      new EncodedPathSegment("a:b@c%2F").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "a:b@c/",
+      new EncodedPathSegment("a:b@c%2F").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertEquals(
+      "Illegal percent-encoded component: <a/b>",
+      assertThrows(IllegalStateException.class, () -> new EncodedPathSegment("a/b").encoded(StandardCharsets.UTF_8))
+        .getMessage()
+    );
+  }
+
+  @Test
+  void testIfDotElse() {
+    assertAll(
+      () -> assertEquals(1, new EncodedPathSegment(".").<Integer>ifDotElse(x -> 1, x -> 2, x -> 3)),
+      () -> assertEquals(2, new EncodedPathSegment("..").<Integer>ifDotElse(x -> 1, x -> 2, x -> 3)),
+      () -> assertEquals(3, new EncodedPathSegment("%2E").<Integer>ifDotElse(x -> 1, x -> 2, x -> 3))
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedPathSegment("seg%20ment")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 3",
+        new EncodedPathSegment("seg/ment")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedPathSegment("a%2fb"), new EncodedPathSegment(new StringBuilder("a%2Fb"))),
+      () -> assertEquals(new EncodedPathSegment("a%2fb").hashCode(), new EncodedPathSegment("a%2Fb").hashCode()),
+      () -> assertNotEquals(new EncodedPathSegment("a%2Fb"), new EncodedPathSegment("A%2Fb")),
+      () -> assertNotEquals(new EncodedPathSegment("%41"), new EncodedPathSegment("A"))
+    );
+  }
+}
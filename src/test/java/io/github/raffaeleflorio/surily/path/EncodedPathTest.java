@@ -0,0 +1,195 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedPathTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "/a%20b/c:d@",
+      new EncodedPath("/a%20b/c:d@").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "/a b/c%2F",
+      new EncodedPath("/a%20b/c%252F").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertThrowsWithMessage(
+      "Illegal percent-encoded component: <a?b>",
+      IllegalStateException.class,
+      () -> new EncodedPath("a?b").encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  private void assertThrowsWithMessage(
+    final String expectedMessage,
+    final Class<? extends Throwable> expectedException,
+    final Executable executable
+  ) {
+    assertEquals(
+      expectedMessage,
+      assertThrows(expectedException, executable).getMessage()
+    );
+  }
+
+  @Test
+  void testIterator() {
+    assertAll(
+      () -> assertEquals(List.of(), segments("")),
+      () -> assertEquals(List.of(), segments("/")),
+      () -> assertEquals(List.of("a", "b c"), segments("/a/b%20c")),
+      () -> assertEquals(List.of("a", ""), segments("a/")),
+      () -> assertEquals(List.of("", "a"), segments("//a"))
+    );
+  }
+
+  private List<String> segments(final CharSequence path) {
+    return StreamSupport.stream(new EncodedPath(path).spliterator(), false)
+      .map(PathSegmentSubcomponent::asString)
+      .collect(Collectors.toUnmodifiableList());
+  }
+
+  @Test
+  void testRelativePartWithoutAuthority() {
+    assertAll(
+      () -> assertEquals("a/b:c", new EncodedPath("a/b:c").relativePart().asString()),
+      () -> assertEquals("/a:b", new EncodedPath("/a:b").relativePart().asString())
+    );
+  }
+
+  @Test
+  void testRelativePartWithColonInFirstSegment() {
+    assertThrowsWithMessage(
+      "Unable to build a relative-part with a colon in the first segment",
+      IllegalStateException.class,
+      () -> new EncodedPath("a:b/c").relativePart()
+    );
+  }
+
+  @Test
+  void testRelativePartWithAuthority() {
+    assertAll(
+      () -> assertEquals(
+        "//authority/a",
+        new EncodedPath("/a").relativePart(new AuthorityComponent.Fake("authority", "")).encoded(StandardCharsets.UTF_8)
+      ),
+      () -> assertEquals(
+        "//authority",
+        new EncodedPath("").relativePart(new AuthorityComponent.Fake("", "authority")).asString()
+      )
+    );
+  }
+
+  @Test
+  void testHierPartWithoutAuthority() {
+    assertEquals("a:b", new EncodedPath("a:b").hierPart().asString());
+  }
+
+  @Test
+  void testHierPartWithDoubleSlash() {
+    assertThrowsWithMessage(
+      "Unable to build a part without authority and a path starting with //",
+      IllegalStateException.class,
+      () -> new EncodedPath("//a").hierPart()
+    );
+  }
+
+  @Test
+  void testHierPartWithAuthorityAndRelativePath() {
+    assertThrowsWithMessage(
+      "Unable to build a part with an authority and a full relative-path",
+      IllegalStateException.class,
+      () -> new EncodedPath("a").hierPart(new AuthorityComponent.Fake("", ""))
+    );
+  }
+
+  @Test
+  void testSegments() {
+    assertAll(
+      () -> assertEquals(
+        "/x",
+        new EncodedPath("/a").segments(List.of(new PathSegment("x"))).asString()
+      ),
+      () -> assertEquals(
+        "x",
+        new EncodedPath("a").segments(List.of(new PathSegment("x"))).asString()
+      )
+    );
+  }
+
+  @Test
+  void testIfEmptyElse() {
+    assertAll(
+      () -> assertTrue(new EncodedPath("").<Boolean>ifEmptyElse(x -> true, x -> false)),
+      () -> assertFalse(new EncodedPath("/").<Boolean>ifEmptyElse(x -> true, x -> false))
+    );
+  }
+
+  @Test
+  void testIfAbsoluteElse() {
+    assertAll(
+      () -> assertTrue(new EncodedPath("/a").<Boolean>ifAbsoluteElse(x -> true, x -> false)),
+      () -> assertFalse(new EncodedPath("a").<Boolean>ifAbsoluteElse(x -> true, x -> false)),
+      () -> assertFalse(new EncodedPath("").<Boolean>ifAbsoluteElse(x -> true, x -> false))
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedPath("/a/b")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 2",
+        new EncodedPath("/a?b")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedPath("/a%2fb/%c3%a8"), new EncodedPath(new StringBuilder("/a%2Fb/%C3%A8"))),
+      () -> assertEquals(new EncodedPath("/a%2fb").hashCode(), new EncodedPath("/a%2Fb").hashCode()),
+      () -> assertNotEquals(new EncodedPath("/a"), new EncodedPath("/A")),
+      () -> assertNotEquals(new EncodedPath("/a/./b"), new EncodedPath("/a/b"))
+    );
+  }
+}
@@ -0,0 +1,111 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.path;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedPathSegmentTest {
+  @Test
+  void testRepresentations() {
+    var segment = new MemoizedPathSegment(new PathSegment("a/b"));
+    assertAll(
+      () -> assertEquals("a%2Fb", segment.encoded(StandardCharsets.UTF_8)),
+      () -> assertSame(segment.encoded(StandardCharsets.UTF_8), segment.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("a/b", segment.asString()),
+      () -> assertEquals("valid", segment.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid"))
+    );
+  }
+
+  @Test
+  void testIfDotElse() {
+    var segment = new MemoizedPathSegment(new PathSegment("a"));
+    assertAll(
+      () -> assertSame(segment, segment.ifDotElse(x -> null, x -> null, x -> x)),
+      () -> assertEquals(
+        "single",
+        new MemoizedPathSegment(new DotSegment()).ifDotElse(x -> "single", x -> "double", x -> "normal")
+      ),
+      () -> assertEquals(
+        "double",
+        new MemoizedPathSegment(new DoubleDotSegment()).ifDotElse(x -> "single", x -> "double", x -> "normal")
+      )
+    );
+  }
+
+  @Test
+  void testWithinPath() {
+    assertEquals(
+      "/a/b%20c",
+      new AbsolutePath(
+        List.of(new MemoizedPathSegment(new PathSegment("a")), new MemoizedPathSegment(new PathSegment("b c")))
+      ).encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var segment = new MemoizedPathSegment(new EncodedPathSegment("%2f"));
+    assertAll(
+      () -> assertEquals(segment, new MemoizedPathSegment(new EncodedPathSegment("%2F"))),
+      () -> assertEquals(segment.hashCode(), new MemoizedPathSegment(new EncodedPathSegment("%2F")).hashCode()),
+      () -> assertNotEquals(segment, new EncodedPathSegment("%2f"))
+    );
+  }
+
+  @Test
+  void testDotsOnce() {
+    var calls = new AtomicInteger();
+    var segment = new MemoizedPathSegment(
+      new PathSegmentSubcomponent() {
+        @Override
+        public CharSequence encoded(final Charset charset) {
+          return "..";
+        }
+
+        @Override
+        public String asString() {
+          return "..";
+        }
+
+        @Override
+        public <T> T ifDotElse(
+          final Function<PathSegmentSubcomponent, T> singleFn,
+          final Function<PathSegmentSubcomponent, T> doubleFn,
+          final Function<PathSegmentSubcomponent, T> normalSegmentFn
+        ) {
+          calls.incrementAndGet();
+          return doubleFn.apply(this);
+        }
+      }
+    );
+    assertAll(
+      () -> assertSame(segment, segment.ifDotElse(x -> null, x -> x, x -> null)),
+      () -> assertSame(segment, segment.ifDotElse(x -> null, x -> x, x -> null)),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+}
@@ -15,9 +15,15 @@
  */
 package io.github.raffaeleflorio.surily.path;
 
+import io.github.raffaeleflorio.surily.ParsedUriReference;
+import io.github.raffaeleflorio.surily.RelativeRef;
+import io.github.raffaeleflorio.surily.Uri;
 import io.github.raffaeleflorio.surily.UriReference;
+import io.github.raffaeleflorio.surily.authority.Authority;
 import io.github.raffaeleflorio.surily.authority.AuthorityComponent;
+import io.github.raffaeleflorio.surily.authority.RegName;
 import io.github.raffaeleflorio.surily.authority.UndefinedAuthority;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -249,4 +255,54 @@ class MergedPathTest {
       ).<Boolean>ifAbsoluteElse(x -> true, x -> false)
     );
   }
+
+  @Test
+  void testEquality() {
+    var path = new MergedPath(
+      new RelativeRef(new Authority(new RegName("EXAMPLE.com"))),
+      new RelativePath(List.of(new PathSegment("a")))
+    );
+    var equivalent = new MergedPath(
+      new RelativeRef(new Authority(new RegName("example.com"))),
+      new RelativePath(List.of(new PathSegment("a")))
+    );
+    assertAll(
+      () -> assertEquals(path, equivalent),
+      () -> assertEquals(path.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(
+        path,
+        new MergedPath(new RelativeRef(new Authority(new RegName("example.com"))), new RelativePath(List.of(new PathSegment("b"))))
+      ),
+      () -> assertNotEquals(
+        path,
+        new MergedPath(new ParsedUriReference("//example.com"), new RelativePath(List.of(new PathSegment("a"))))
+      )
+    );
+  }
+
+  @Test
+  void testRendering() {
+    var component = new MergedPath(
+      new Uri(new Scheme("s"), new Authority(new RegName("a"))),
+      new RelativePath(List.of(new PathSegment("\u00E8")))
+    );
+    var destination = new StringBuilder("//a");
+    component.appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("//a/%C3%A8", destination.toString()),
+      () -> assertEquals(7, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var component = new MergedPath(
+      new RelativeRef(new RelativePath(List.of(new PathSegment("b"), new PathSegment("c")))),
+      new RelativePath(List.of(new PathSegment("\u00E8")))
+    );
+    assertAll(
+      () -> assertEquals("b/%E8", component.encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(5, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
 }
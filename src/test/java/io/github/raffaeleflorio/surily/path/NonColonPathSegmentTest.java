@@ -91,4 +91,38 @@ class NonColonPathSegmentTest {
       () -> new NonColonPathSegment(":".repeat(4097)).asString()
     );
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new NonColonPathSegment("segment")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "COLON_IN_SEGMENT at 3",
+        new NonColonPathSegment("key:value")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 0",
+        new NonColonPathSegment(new EncodedPathSegment("%"))
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new NonColonPathSegment("a"), new NonColonPathSegment(new PathSegment("a"))),
+      () -> assertEquals(new NonColonPathSegment("a").hashCode(), new NonColonPathSegment(new PathSegment("a")).hashCode()),
+      () -> assertNotEquals(new NonColonPathSegment("a"), new NonColonPathSegment(new EncodedPathSegment("a"))),
+      () -> assertNotEquals(new NonColonPathSegment("a"), new PathSegment("a"))
+    );
+  }
 }
@@ -62,4 +62,38 @@ class NonZeroPathSegmentTest {
   void testIfDotElseNonZeroConstraintPreserved() {
     assertIllegalNonZeroSegment(() -> new NonZeroPathSegment("").ifDotElse(x -> "", x -> "", UriComponent::asString));
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new NonZeroPathSegment("segment")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ZERO_LENGTH_SEGMENT at 0",
+        new NonZeroPathSegment("")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 1",
+        new NonZeroPathSegment(new EncodedPathSegment("a%zz"))
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new NonZeroPathSegment("a"), new NonZeroPathSegment(new PathSegment("a"))),
+      () -> assertEquals(new NonZeroPathSegment("a").hashCode(), new NonZeroPathSegment(new PathSegment("a")).hashCode()),
+      () -> assertNotEquals(new NonZeroPathSegment("a"), new NonColonPathSegment("a")),
+      () -> assertNotEquals(new NonZeroPathSegment("a"), new PathSegment("a"))
+    );
+  }
 }
@@ -21,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 class PathSegmentTest {
   @Test
@@ -86,4 +87,42 @@ class PathSegmentTest {
       )
     );
   }
+
+  @Test
+  void testEncodedLength() {
+    var component = new PathSegment("s\u00E8gm\u20ACnt?");
+    assertAll(
+      () -> assertEquals(23, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(41, component.encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals(14, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("/");
+    new PathSegment("a/b c").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("/a%2Fb%20c", destination.toString());
+  }
+
+  @Test
+  void testLiteralEquality() {
+    assertAll(
+      () -> assertEquals(new PathSegment("p"), new PathSegment(new StringBuilder("p"))),
+      () -> assertEquals(new PathSegment("p").hashCode(), new PathSegment(new StringBuilder("p")).hashCode()),
+      () -> assertNotEquals(new PathSegment("%2f"), new PathSegment("%2F")),
+      () -> assertNotEquals(new PathSegment("p"), new EncodedPathSegment("p"))
+    );
+  }
+
+  @Test
+  void testUnmappableCharacters() {
+    assertAll(
+      () -> assertEquals("s%E8gm%3Fnt%3F", new PathSegment("s\u00E8gm\u20ACnt?").encoded(StandardCharsets.ISO_8859_1)),
+      () -> assertEquals(
+        "s%FE%FF%00%E8gm%FE%FF%20%ACnt%FE%FF%00%3F",
+        new PathSegment("s\u00E8gm\u20ACnt?").encoded(StandardCharsets.UTF_16)
+      )
+    );
+  }
 }
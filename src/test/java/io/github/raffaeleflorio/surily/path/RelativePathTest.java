@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -277,4 +278,36 @@ class RelativePathTest {
   void testIfAbsoluteElse() {
     assertFalse(new RelativePath().<Boolean>ifAbsoluteElse(x -> true, y -> false));
   }
+
+  @Test
+  void testEquality() {
+    var path = new RelativePath(List.of(new PathSegment("a"), new EncodedPathSegment("b%2f")));
+    var equivalent = new RelativePath(new ArrayList<>(List.of(new PathSegment("a"), new EncodedPathSegment("b%2F"))));
+    assertAll(
+      () -> assertEquals(path, equivalent),
+      () -> assertEquals(path.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(path, new RelativePath(List.of(new PathSegment("a"))))
+    );
+  }
+
+  @Test
+  void testRendering() {
+    var component = new RelativePath(List.of(new PathSegment("\u00E8"), new PathSegment("\uD83D\uDE00")));
+    var destination = new StringBuilder("s:");
+    component.appendTo(destination, StandardCharsets.UTF_16);
+    assertAll(
+      () -> assertEquals("s:%FE%FF%00%E8/%FE%FF%D8%3D%DE%00", destination.toString()),
+      () -> assertEquals(31, component.encodedLength(StandardCharsets.UTF_16))
+    );
+  }
+
+  @Test
+  void testEmptyRendering() {
+    var destination = new StringBuilder("s:");
+    new RelativePath().appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("s:", destination.toString()),
+      () -> assertEquals(0, new RelativePath().encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
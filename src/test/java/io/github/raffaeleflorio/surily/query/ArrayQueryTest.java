@@ -20,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ArrayQueryTest {
@@ -68,4 +70,46 @@ class ArrayQueryTest {
   void testIfDefinedElse() {
     assertTrue(new ArrayQuery("k", List.of()).ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testEquality() {
+    var query = new ArrayQuery("k[]", List.of("1", "2"));
+    assertAll(
+      () -> assertEquals(query, new ArrayQuery(new StringBuilder("k[]"), List.of(new StringBuilder("1"), "2"))),
+      () -> assertEquals(query.hashCode(), new ArrayQuery("k[]", List.of("1", "2")).hashCode()),
+      () -> assertNotEquals(query, new ArrayQuery("k[]", List.of("1", "2"), ':')),
+      () -> assertNotEquals(query, new ArrayQuery("k[]", List.of("1", "2"), '=', ';')),
+      () -> assertNotEquals(query, new ConcatenatedQueries(List.of(new PairQuery("k[]", "1"), new PairQuery("k[]", "2"))))
+    );
+  }
+
+  @Test
+  void testNonUtf8Rendering() {
+    var component = new ArrayQuery("k\u00E9y[]", List.of("1", "\u00E8 2"));
+    var destination = new StringBuilder("?");
+    component.appendTo(destination, StandardCharsets.ISO_8859_1);
+    assertAll(
+      () -> assertEquals("?k%E9y%5B%5D=1&k%E9y%5B%5D=%E8%202", destination.toString()),
+      () -> assertEquals(33, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testSurrogatesRendering() {
+    var component = new ArrayQuery("key[]", List.of("\uD83D\uDE00"));
+    assertAll(
+      () -> assertEquals("key%5B%5D=%F0%9F%98%80", component.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(22, component.encodedLength(StandardCharsets.UTF_8))
+    );
+  }
+
+  @Test
+  void testEmptyRendering() {
+    var destination = new StringBuilder("?");
+    new ArrayQuery("key[]", List.of()).appendTo(destination, StandardCharsets.UTF_8);
+    assertAll(
+      () -> assertEquals("?", destination.toString()),
+      () -> assertEquals(0, new ArrayQuery("key[]", List.of()).encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
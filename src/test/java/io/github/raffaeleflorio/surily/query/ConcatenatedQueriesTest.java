@@ -15,9 +15,12 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -108,4 +111,46 @@ class ConcatenatedQueriesTest {
   void testIfDefinedElse() {
     assertTrue(new ConcatenatedQueries(List.of()).ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("?");
+    new ConcatenatedQueries(
+      List.of(
+        new QueryComponent.Fake("first%20query;", "first query;"),
+        new QueryComponent.Fake("second%20query", "second query")
+      ),
+      ';'
+    ).appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("?first%20query%3B;second%20query", destination.toString());
+  }
+
+  @Test
+  void testAppendToWithIllegalDelimiter() {
+    assertThrows(
+      IllegalComponentException.class,
+      () -> new ConcatenatedQueries(List.of(), '%').appendTo(new StringBuilder(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAppendToFailingDestination() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new ConcatenatedQueries(List.of(new QueryComponent.Fake("a", "a")))
+        .appendTo(new PipedWriter(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var queries = new ConcatenatedQueries(List.of(new PairQuery("a", "1"), new EncodedQuery("b=%2f")));
+    var equivalent = new ConcatenatedQueries(List.of(new PairQuery("a", "1"), new EncodedQuery("b=%2F")), '&');
+    assertAll(
+      () -> assertEquals(queries, equivalent),
+      () -> assertEquals(queries.hashCode(), equivalent.hashCode()),
+      () -> assertNotEquals(queries, new ConcatenatedQueries(List.of(new PairQuery("a", "1"), new EncodedQuery("b=%2F")), ';')),
+      () -> assertNotEquals(queries, new ConcatenatedQueries(List.of(new PairQuery("a", "1"))))
+    );
+  }
 }
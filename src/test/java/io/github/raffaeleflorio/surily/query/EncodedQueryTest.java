@@ -0,0 +1,81 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.query;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EncodedQueryTest {
+  @Test
+  void testEncoded() {
+    assertEquals(
+      "a=b%20c&d=/?:@",
+      new EncodedQuery("a=b%20c&d=/?:@").encoded(StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Test
+  void testAsString() {
+    assertEquals(
+      "a=b c&d=/?:@",
+      new EncodedQuery("a=b%20c&d=/?:@").asString()
+    );
+  }
+
+  @Test
+  void testEncodedWithIllegalCharacter() {
+    assertEquals(
+      "Illegal percent-encoded component: <a#b>",
+      assertThrows(IllegalStateException.class, () -> new EncodedQuery("a#b").encoded(StandardCharsets.UTF_8)).getMessage()
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(new EncodedQuery("a=b%20c&d=/?:@").<Boolean>ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new EncodedQuery("a=b&c")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_PERCENT_ENCODING at 1",
+        new EncodedQuery("a#b")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testPercentEncodingEquality() {
+    assertAll(
+      () -> assertEquals(new EncodedQuery("k=v%3d"), new EncodedQuery(new StringBuilder("k=v%3D"))),
+      () -> assertEquals(new EncodedQuery("k=v%3d").hashCode(), new EncodedQuery("k=v%3D").hashCode()),
+      () -> assertNotEquals(new EncodedQuery("k=v"), new EncodedQuery("K=v")),
+      () -> assertNotEquals(new EncodedQuery("k=v"), new PairQuery("k", "v"))
+    );
+  }
+}
@@ -0,0 +1,125 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.query;
+
+import io.github.raffaeleflorio.surily.Uri;
+import io.github.raffaeleflorio.surily.scheme.Scheme;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedQueryTest {
+  @Test
+  void testRenderedOnceWithinUri() {
+    var calls = new AtomicInteger();
+    var uri = new Uri(new Scheme("s"), new MemoizedQuery(counted(calls)));
+    assertAll(
+      () -> assertEquals("s:?k=v", uri.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("s:?k=v", uri.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+
+  private QueryComponent counted(final AtomicInteger calls) {
+    return new QueryComponent() {
+      @Override
+      public CharSequence encoded(final Charset charset) {
+        calls.incrementAndGet();
+        return "k=v";
+      }
+
+      @Override
+      public String asString() {
+        return "k=v";
+      }
+
+      @Override
+      public <T> T ifDefinedElse(final Function<QueryComponent, T> fn, final Supplier<T> undefinedFn) {
+        return fn.apply(this);
+      }
+    };
+  }
+
+  @Test
+  void testRepresentations() {
+    var query = new MemoizedQuery(new PairQuery("k", "v v"));
+    assertAll(
+      () -> assertEquals("k=v%20v", query.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("k=v v", query.asString()),
+      () -> assertEquals("valid", query.validation().ifValidElse(() -> "valid", (error, offset) -> "invalid"))
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    var query = new MemoizedQuery(new PairQuery("k", "v"));
+    assertAll(
+      () -> assertSame(query, query.ifDefinedElse(x -> x, () -> null)),
+      () -> assertEquals(
+        "undefined",
+        new MemoizedQuery(new UndefinedQuery()).ifDefinedElse(x -> "defined", () -> "undefined")
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var query = new MemoizedQuery(new EncodedQuery("k=%2f"));
+    assertAll(
+      () -> assertEquals(query, new MemoizedQuery(new EncodedQuery("k=%2F"))),
+      () -> assertEquals(query.hashCode(), new MemoizedQuery(new EncodedQuery("k=%2F")).hashCode()),
+      () -> assertNotEquals(query, new EncodedQuery("k=%2f"))
+    );
+  }
+
+  @Test
+  void testDefinednessOnce() {
+    var calls = new AtomicInteger();
+    var query = new MemoizedQuery(
+      new QueryComponent() {
+        @Override
+        public CharSequence encoded(final Charset charset) {
+          return "";
+        }
+
+        @Override
+        public String asString() {
+          return "";
+        }
+
+        @Override
+        public <T> T ifDefinedElse(final Function<QueryComponent, T> fn, final Supplier<T> undefinedFn) {
+          calls.incrementAndGet();
+          return undefinedFn.get();
+        }
+      }
+    );
+    assertAll(
+      () -> assertEquals("undefined", query.ifDefinedElse(x -> "defined", () -> "undefined")),
+      () -> assertEquals("undefined", query.ifDefinedElse(x -> "defined", () -> "undefined")),
+      () -> assertEquals(1, calls.get())
+    );
+  }
+}
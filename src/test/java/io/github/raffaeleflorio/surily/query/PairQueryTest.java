@@ -15,9 +15,12 @@
  */
 package io.github.raffaeleflorio.surily.query;
 
+import io.github.raffaeleflorio.surily.BoundedAppendable;
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -125,4 +128,86 @@ class PairQueryTest {
   void testIfDefinedElse() {
     assertTrue(new PairQuery("k", "v").ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new PairQuery("key", "value")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_DELIMITER at 0",
+        new PairQuery("key", "value", '#')
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testEncodedLength() {
+    var component = new PairQuery("k\u00E9y", "v\u00E4lue=");
+    assertAll(
+      () -> assertEquals(20, component.encodedLength(StandardCharsets.UTF_8)),
+      () -> assertEquals(32, component.encodedLength(StandardCharsets.UTF_16)),
+      () -> assertEquals(14, component.encodedLength(StandardCharsets.ISO_8859_1))
+    );
+  }
+
+  @Test
+  void testDisallowedDelimiterLength() {
+    assertThrowsWithMessage(
+      IllegalStateException.class,
+      () -> new PairQuery("key", "value", '#').encodedLength(StandardCharsets.UTF_8),
+      illegalDelimiter('#')
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder("?");
+    new PairQuery("k=ey", "va=lue").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("?k%3Dey=va=lue", destination.toString());
+  }
+
+  @Test
+  void testAppendToWithIllegalDelimiter() {
+    assertThrows(
+      IllegalComponentException.class,
+      () -> new PairQuery("key", "value", '%').appendTo(new StringBuilder(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAppendToFailingDestination() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new PairQuery("key", "value").appendTo(new BoundedAppendable(new StringBuilder(), 3), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testLiteralEquality() {
+    assertAll(
+      () -> assertEquals(new PairQuery("k", "v"), new PairQuery(new StringBuilder("k"), new StringBuilder("v"))),
+      () -> assertEquals(new PairQuery("k", "v").hashCode(), new PairQuery(new StringBuilder("k"), "v").hashCode()),
+      () -> assertNotEquals(new PairQuery("k", "v"), new PairQuery("K", "v")),
+      () -> assertNotEquals(new PairQuery("k", "v"), new PairQuery("k", "v", ':'))
+    );
+  }
+
+  @Test
+  void testNonAsciiValues() {
+    assertAll(
+      () -> assertEquals(
+        "k%E9y=v%E4lue=",
+        new PairQuery("k\u00E9y", "v\u00E4lue=").encoded(StandardCharsets.ISO_8859_1)
+      ),
+      () -> assertEquals("k=%F0%9F%98%80", new PairQuery("k", "\uD83D\uDE00").encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals(14, new PairQuery("k", "\uD83D\uDE00").encodedLength(StandardCharsets.UTF_8))
+    );
+  }
 }
@@ -51,4 +51,12 @@ class QueryCharactersTest {
       new QueryCharacters().size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new QueryCharacters().contains('?')),
+      () -> assertFalse(new QueryCharacters().contains('#'))
+    );
+  }
 }
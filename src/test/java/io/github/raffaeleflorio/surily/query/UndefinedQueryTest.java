@@ -45,4 +45,23 @@ class UndefinedQueryTest {
       assertThrows(IllegalStateException.class, executable).getMessage()
     );
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedQuery()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedQuery(), new UndefinedQuery()),
+      () -> assertEquals(new UndefinedQuery().hashCode(), new UndefinedQuery().hashCode()),
+      () -> assertNotEquals(new UndefinedQuery(), new EncodedQuery(""))
+    );
+  }
 }
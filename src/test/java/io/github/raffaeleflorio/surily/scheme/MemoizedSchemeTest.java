@@ -0,0 +1,64 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MemoizedSchemeTest {
+  @Test
+  void testRepresentations() {
+    var scheme = new MemoizedScheme(new Scheme("HTTP"));
+    assertAll(
+      () -> assertEquals("http", scheme.encoded(StandardCharsets.UTF_8)),
+      () -> assertSame(scheme.encoded(StandardCharsets.UTF_8), scheme.encoded(StandardCharsets.UTF_8)),
+      () -> assertEquals("HTTP", scheme.asString()),
+      () -> assertEquals(
+        "invalid",
+        new MemoizedScheme(new Scheme("1")).validation().ifValidElse(() -> "valid", (error, offset) -> "invalid")
+      )
+    );
+  }
+
+  @Test
+  void testDelegation() {
+    var scheme = new MemoizedScheme(new Scheme("HTTP"));
+    assertAll(
+      () -> assertSame(scheme, scheme.ifDefinedElse(x -> x, () -> null)),
+      () -> assertEquals(80, scheme.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(
+        "undefined",
+        new MemoizedScheme(new UndefinedScheme()).ifDefinedElse(x -> "defined", () -> "undefined")
+      )
+    );
+  }
+
+  @Test
+  void testEquality() {
+    var scheme = new MemoizedScheme(new Scheme("HTTP"));
+    assertAll(
+      () -> assertEquals(scheme, new MemoizedScheme(new Scheme("http"))),
+      () -> assertEquals(scheme.hashCode(), new MemoizedScheme(new Scheme("http")).hashCode()),
+      () -> assertNotEquals(scheme, new Scheme("HTTP"))
+    );
+  }
+}
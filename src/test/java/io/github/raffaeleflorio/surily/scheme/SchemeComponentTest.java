@@ -48,5 +48,10 @@ class SchemeComponentTest {
     void testIfDefinedElse() {
       assertTrue(new SchemeComponent.Fake("x", "y").ifDefinedElse(x -> true, () -> false));
     }
+
+    @Test
+    void testIfDefaultPortElse() {
+      assertEquals(-1, new SchemeComponent.Fake("http", "http").ifDefaultPortElse(x -> x, () -> -1));
+    }
   }
 }
@@ -15,9 +15,12 @@
  */
 package io.github.raffaeleflorio.surily.scheme;
 
+import io.github.raffaeleflorio.surily.IllegalComponentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.PipedWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +34,31 @@ class SchemeTest {
     );
   }
 
+  @Test
+  void testUnknownLowerCaseEncoded() {
+    assertEquals(
+      "svn+ssh",
+      new Scheme("SVN+SSH").encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testWellKnownEncoded() {
+    assertSame(
+      WellKnownScheme.HTTPS.encoded(StandardCharsets.UTF_8),
+      new Scheme("HTTPS").encoded(StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testIfDefaultPortElse() {
+    assertAll(
+      () -> assertEquals(443, new Scheme("Https").ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(-1, new Scheme("mailto").ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(-1, new Scheme("ssh").ifDefaultPortElse(x -> x, () -> -1))
+    );
+  }
+
   @Test
   void testAsString() {
     assertEquals(
@@ -92,4 +120,74 @@ class SchemeTest {
   void testIfDefinedElse() {
     assertTrue(new Scheme("ssh").ifDefinedElse(x -> true, () -> false));
   }
+
+  @Test
+  void testValidation() {
+    assertAll(
+      () -> assertEquals(
+        "valid",
+        new Scheme("svn+ssh")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_SCHEME at 0",
+        new Scheme("")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_SCHEME at 0",
+        new Scheme("1abc")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_SCHEME at 2",
+        new Scheme("ht%ps")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      ),
+      () -> assertEquals(
+        "ILLEGAL_SCHEME at 3",
+        new Scheme("sch\u00DCme")
+          .validation()
+          .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+      )
+    );
+  }
+
+  @Test
+  void testAppendTo() {
+    var destination = new StringBuilder();
+    new Scheme("A+b.C-9").appendTo(destination, StandardCharsets.UTF_8);
+    assertEquals("a+b.c-9", destination.toString());
+  }
+
+  @Test
+  void testAppendToIllegalScheme() {
+    assertThrows(
+      IllegalComponentException.class,
+      () -> new Scheme("1http").appendTo(new StringBuilder(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testAppendToFailingDestination() {
+    assertThrows(
+      UncheckedIOException.class,
+      () -> new Scheme("http").appendTo(new PipedWriter(), StandardCharsets.UTF_8)
+    );
+  }
+
+  @Test
+  void testCaseInsensitiveEquality() {
+    assertAll(
+      () -> assertEquals(new Scheme("HTTP"), new Scheme(new StringBuilder("http"))),
+      () -> assertEquals(new Scheme("HTTP").hashCode(), new Scheme("http").hashCode()),
+      () -> assertNotEquals(new Scheme("http"), new Scheme("https")),
+      () -> assertNotEquals(new Scheme("http"), WellKnownScheme.HTTP),
+      () -> assertNotEquals(WellKnownScheme.HTTP, new Scheme("http"))
+    );
+  }
 }
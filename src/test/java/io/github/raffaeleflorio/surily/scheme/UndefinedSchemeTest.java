@@ -45,4 +45,23 @@ class UndefinedSchemeTest {
       assertThrows(IllegalStateException.class, executable).getMessage()
     );
   }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "UNDEFINED_COMPONENT at 0",
+      new UndefinedScheme()
+        .validation()
+        .ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testEquality() {
+    assertAll(
+      () -> assertEquals(new UndefinedScheme(), new UndefinedScheme()),
+      () -> assertEquals(new UndefinedScheme().hashCode(), new UndefinedScheme().hashCode()),
+      () -> assertNotEquals(new UndefinedScheme(), new Scheme(""))
+    );
+  }
 }
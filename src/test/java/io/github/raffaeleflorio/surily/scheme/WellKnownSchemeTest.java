@@ -0,0 +1,57 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WellKnownSchemeTest {
+  @Test
+  void testRepresentations() {
+    assertAll(
+      () -> assertEquals("https", WellKnownScheme.HTTPS.encoded(StandardCharsets.UTF_16)),
+      () -> assertEquals("mailto", WellKnownScheme.MAILTO.asString())
+    );
+  }
+
+  @Test
+  void testValidation() {
+    assertEquals(
+      "valid",
+      WellKnownScheme.DATA.validation().ifValidElse(() -> "valid", (error, offset) -> error + " at " + offset)
+    );
+  }
+
+  @Test
+  void testIfDefinedElse() {
+    assertTrue(WellKnownScheme.URN.ifDefinedElse(x -> true, () -> false));
+  }
+
+  @Test
+  void testIfDefaultPortElse() {
+    assertAll(
+      () -> assertEquals(80, WellKnownScheme.HTTP.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(443, WellKnownScheme.HTTPS.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(80, WellKnownScheme.WS.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(443, WellKnownScheme.WSS.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(21, WellKnownScheme.FTP.ifDefaultPortElse(x -> x, () -> -1)),
+      () -> assertEquals(-1, WellKnownScheme.FILE.ifDefaultPortElse(x -> x, () -> -1))
+    );
+  }
+}
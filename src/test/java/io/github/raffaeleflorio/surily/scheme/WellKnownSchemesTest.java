@@ -0,0 +1,51 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.scheme;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WellKnownSchemesTest {
+  @Test
+  void testKnown() {
+    for (var scheme : WellKnownScheme.values()) {
+      assertAll(
+        () -> assertSame(scheme, known(scheme.asString())),
+        () -> assertSame(scheme, known(scheme.asString().toUpperCase()))
+      );
+    }
+  }
+
+  @Test
+  void testUnknown() {
+    assertAll(
+      () -> assertNull(known("")),
+      () -> assertNull(known("h")),
+      () -> assertNull(known("xy")),
+      () -> assertNull(known("ssh")),
+      () -> assertNull(known("htt")),
+      () -> assertNull(known("http+")),
+      () -> assertNull(known("gopher")),
+      () -> assertNull(known("svn+ssh")),
+      () -> assertNull(known("htŔp"))
+    );
+  }
+
+  private WellKnownScheme known(final CharSequence scheme) {
+    return new WellKnownSchemes().ifKnownElse(scheme, known -> known, () -> null);
+  }
+}
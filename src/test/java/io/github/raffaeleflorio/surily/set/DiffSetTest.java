@@ -44,4 +44,13 @@ class DiffSetTest {
       new DiffSet<>(Set.of("a string", "a number", "another string"), Set.of("a number")).size()
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new DiffSet<>(Set.of("A", "B"), Set.of("B", "C")).contains("A")),
+      () -> assertFalse(new DiffSet<>(Set.of("A", "B"), Set.of("B", "C")).contains("B")),
+      () -> assertFalse(new DiffSet<>(Set.of("A", "B"), Set.of("B", "C")).contains("C"))
+    );
+  }
 }
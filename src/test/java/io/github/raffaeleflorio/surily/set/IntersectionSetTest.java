@@ -55,4 +55,13 @@ class IntersectionSetTest {
   void testEmptyIntersection() {
     assertEquals(0, new IntersectionSet<>(Set.of("the question"), Set.of()).size());
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new IntersectionSet<>(Set.of(1, 2), Set.of(2, 3)).contains(2)),
+      () -> assertFalse(new IntersectionSet<>(Set.of(1, 2), Set.of(2, 3)).contains(1)),
+      () -> assertFalse(new IntersectionSet<>(Set.of(1, 2), Set.of(2, 3)).contains(3))
+    );
+  }
 }
@@ -0,0 +1,70 @@
+/*
+   Copyright 2021 Raffaele Florio
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package io.github.raffaeleflorio.surily.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaterializedSetTest {
+  @Test
+  void testIterator() {
+    assertSetEquals(
+      Set.of(1, 2, 3, 4),
+      new MaterializedSet<>(
+        new UnionSet<>(
+          new DiffSet<>(Set.of(1, 2, 9), Set.of(9)),
+          new IntersectionSet<>(Set.of(3, 4, 5), Set.of(3, 4))
+        )
+      )
+    );
+  }
+
+  private void assertSetEquals(final Set<Integer> expected, final Set<Integer> actual) {
+    assertAll(
+      () -> assertEquals(expected.size(), actual.size()),
+      () -> assertTrue(expected.containsAll(actual))
+    );
+  }
+
+  @Test
+  void testSize() {
+    assertEquals(
+      3,
+      new MaterializedSet<>(new UnionSet<>(Set.of(1, 2), Set.of(2, 3))).size()
+    );
+  }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new MaterializedSet<>(new UnionSet<>(Set.of(1, 2), Set.of(2, 3))).contains(3)),
+      () -> assertFalse(new MaterializedSet<>(new UnionSet<>(Set.of(1, 2), Set.of(2, 3))).contains(4))
+    );
+  }
+
+  @Test
+  void testSnapshot() {
+    var origin = new HashSet<>(List.of(1, 2));
+    var materialized = new MaterializedSet<>(origin);
+    origin.add(3);
+    assertSetEquals(Set.of(1, 2), materialized);
+  }
+}
@@ -58,4 +58,13 @@ class UnionSetTest {
       )
     );
   }
+
+  @Test
+  void testContains() {
+    assertAll(
+      () -> assertTrue(new UnionSet<>(Set.of(1, 2), Set.of(3)).contains(1)),
+      () -> assertTrue(new UnionSet<>(Set.of(1, 2), Set.of(3)).contains(3)),
+      () -> assertFalse(new UnionSet<>(Set.of(1, 2), Set.of(3)).contains(4))
+    );
+  }
 }